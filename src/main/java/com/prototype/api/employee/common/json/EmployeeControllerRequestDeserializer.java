@@ -0,0 +1,138 @@
+package com.prototype.api.employee.common.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.request.EmployeeDocumentType;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_BIRTH_DATE;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_CARGO;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_DOC_NUMBER;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_DOC_TYPE;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_FIRST_NAME;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_JOB_START_DATE;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_LAST_NAME;
+
+/**
+ * JSON deserializer of the {@linkplain EmployeeControllerRequest}.
+ * <p>
+ * The fields are read from the parser tokens: the dates are parsed with {@linkplain JsonDates} from the token
+ * characters and the salary with {@linkplain SalaryDeserializer}. The values are read as the bean deserializer reads
+ * them, and a value that can not be read is rejected with the validation message of its field.
+ *
+ * @author Daniel
+ */
+@JsonComponent
+public class EmployeeControllerRequestDeserializer extends StdDeserializer<EmployeeControllerRequest> {
+
+    /**
+     * Build the deserializer.
+     */
+    public EmployeeControllerRequestDeserializer() {
+        super(EmployeeControllerRequest.class);
+    }
+
+    /**
+     * Read the employee request.
+     *
+     * @param parser  the parser positioned on the request object.
+     * @param context the deserialization context.
+     * @return the {@linkplain EmployeeControllerRequest}.
+     * @throws IOException in case of malformed request.
+     */
+    @Override
+    public EmployeeControllerRequest deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+        var token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (EmployeeControllerRequest) context.handleUnexpectedToken(EmployeeControllerRequest.class, parser);
+        }
+
+        final var request = EmployeeControllerRequest.builder();
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            final var name = parser.getCurrentName();
+            parser.nextToken();
+            switch (name) {
+                case "firstName":
+                    request.firstName(readText(parser, NON_VALID_FIRST_NAME));
+                    break;
+                case "lastName":
+                    request.lastName(readText(parser, NON_VALID_LAST_NAME));
+                    break;
+                case "documentType":
+                    request.documentType(EmployeeDocumentType.fromValue(readText(parser, NON_VALID_DOC_TYPE)));
+                    break;
+                case "documentNumber":
+                    request.documentNumber(readText(parser, NON_VALID_DOC_NUMBER));
+                    break;
+                case "birthDate":
+                    request.birthDate(readDate(parser, NON_VALID_BIRTH_DATE));
+                    break;
+                case "jobStartDate":
+                    request.jobStartDate(readDate(parser, NON_VALID_JOB_START_DATE));
+                    break;
+                case "cargo":
+                    request.cargo(readText(parser, NON_VALID_CARGO));
+                    break;
+                case "salary":
+                    request.salary(SalaryDeserializer.readSalary(parser));
+                    break;
+                default:
+                    context.handleUnknownProperty(parser, this, EmployeeControllerRequest.class, name);
+            }
+        }
+        return request.build();
+    }
+
+    /**
+     * Read a text field, coercing scalars as the bean deserializer does.
+     *
+     * @param parser  the parser positioned on the value.
+     * @param message the validation message of the field.
+     * @return the text, or {@code null}.
+     * @throws IOException in case of a non scalar value.
+     */
+    public static String readText(final JsonParser parser, final String message) throws IOException {
+        final var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, message);
+        }
+        return parser.getValueAsString();
+    }
+
+    /**
+     * Read a {@code yyyy-MM-dd} date field from the token characters.
+     *
+     * @param parser  the parser positioned on the value.
+     * @param message the validation message of the field.
+     * @return the date, or {@code null} if it is null or empty.
+     * @throws IOException in case of a non valid date.
+     */
+    public static LocalDate readDate(final JsonParser parser, final String message) throws IOException {
+        final var token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            throw new JsonParseException(parser, message);
+        }
+        try {
+            return JsonDates.parseDate(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        } catch (DateTimeParseException ex) {
+            throw new JsonParseException(parser, message, ex);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.prototype.api.employee.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * JSON serializer of the {@linkplain EmployeeControllerResponse}.
+ * <p>
+ * The fields are written in declaration order with precomputed names, and the employee data with the
+ * {@linkplain EmployeeDataSerializer}. The unwrapping serializer writes the same fields without the enclosing object,
+ * for the {@code @JsonUnwrapped} response of the batch items.
+ *
+ * @author Daniel
+ */
+@JsonComponent
+public class EmployeeControllerResponseSerializer extends StdSerializer<EmployeeControllerResponse> {
+
+    /**
+     * Response status field name
+     */
+    private final SerializableString status;
+
+    /**
+     * Error message field name
+     */
+    private final SerializableString errorMessage;
+
+    /**
+     * Employee data field name
+     */
+    private final SerializableString employeeData;
+
+    /**
+     * Flag that indicates if the fields are written without the enclosing object
+     */
+    private final boolean unwrapping;
+
+    /**
+     * Build the serializer.
+     */
+    public EmployeeControllerResponseSerializer() {
+        this(NameTransformer.NOP, false);
+    }
+
+    /**
+     * Build the serializer with the given field names.
+     *
+     * @param names      the transformer of the field names.
+     * @param unwrapping flag that indicates if the fields are written without the enclosing object.
+     */
+    private EmployeeControllerResponseSerializer(final NameTransformer names, final boolean unwrapping) {
+        super(EmployeeControllerResponse.class);
+        this.status = new SerializedString(names.transform("status"));
+        this.errorMessage = new SerializedString(names.transform("errorMessage"));
+        this.employeeData = new SerializedString(names.transform("employeeData"));
+        this.unwrapping = unwrapping;
+    }
+
+    /**
+     * Write the controller response.
+     *
+     * @param response  the controller response.
+     * @param generator the JSON generator.
+     * @param provider  the serializer provider.
+     * @throws IOException in case of error writing the JSON.
+     */
+    @Override
+    public void serialize(final EmployeeControllerResponse response, final JsonGenerator generator,
+                          final SerializerProvider provider) throws IOException {
+        if (!unwrapping) {
+            generator.writeStartObject(response);
+        }
+        generator.writeFieldName(status);
+        generator.writeString(response.getStatus());
+        generator.writeFieldName(errorMessage);
+        generator.writeString(response.getErrorMessage());
+        generator.writeFieldName(employeeData);
+        EmployeeDataSerializer.write(generator, response.getEmployeeData());
+        if (!unwrapping) {
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Flag that indicates if the fields are written without the enclosing object.
+     *
+     * @return the unwrapping flag.
+     */
+    @Override
+    public boolean isUnwrappingSerializer() {
+        return unwrapping;
+    }
+
+    /**
+     * Serializer that writes the fields without the enclosing object.
+     *
+     * @param unwrapper the transformer of the field names.
+     * @return the unwrapping serializer.
+     */
+    @Override
+    public JsonSerializer<EmployeeControllerResponse> unwrappingSerializer(final NameTransformer unwrapper) {
+        return new EmployeeControllerResponseSerializer(unwrapper, true);
+    }
+}
@@ -0,0 +1,130 @@
+package com.prototype.api.employee.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.prototype.api.employee.common.model.controller.response.EmployeeData;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * JSON serializer of the {@linkplain EmployeeData}.
+ * <p>
+ * The fields are written in declaration order with precomputed names, the dates with {@linkplain JsonDates} and the
+ * salary with {@linkplain SalarySerializer}, so the output is the one of the bean serializer without its reflection
+ * and date formatter.
+ *
+ * @author Daniel
+ */
+@JsonComponent
+public class EmployeeDataSerializer extends StdSerializer<EmployeeData> {
+
+    /**
+     * Employee firstname field name
+     */
+    private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+
+    /**
+     * Employee lastname field name
+     */
+    private static final SerializableString LAST_NAME = new SerializedString("lastName");
+
+    /**
+     * Employee document type field name
+     */
+    private static final SerializableString DOCUMENT_TYPE = new SerializedString("documentType");
+
+    /**
+     * Employee document number field name
+     */
+    private static final SerializableString DOCUMENT_NUMBER = new SerializedString("documentNumber");
+
+    /**
+     * Employee birthdate field name
+     */
+    private static final SerializableString BIRTH_DATE = new SerializedString("birthDate");
+
+    /**
+     * Employee job start date field name
+     */
+    private static final SerializableString JOB_START_DATE = new SerializedString("jobStartDate");
+
+    /**
+     * Employee age field name
+     */
+    private static final SerializableString AGE = new SerializedString("age");
+
+    /**
+     * Time since the job start date field name
+     */
+    private static final SerializableString DATE_SINCE_JOB_START_DATE = new SerializedString("dateSinceJobStartDate");
+
+    /**
+     * Employee job title field name
+     */
+    private static final SerializableString CARGO = new SerializedString("cargo");
+
+    /**
+     * Employee salary field name
+     */
+    private static final SerializableString SALARY = new SerializedString("salary");
+
+    /**
+     * Build the serializer.
+     */
+    public EmployeeDataSerializer() {
+        super(EmployeeData.class);
+    }
+
+    /**
+     * Write the employee data.
+     *
+     * @param data      the employee data.
+     * @param generator the JSON generator.
+     * @param provider  the serializer provider.
+     * @throws IOException in case of error writing the JSON.
+     */
+    @Override
+    public void serialize(final EmployeeData data, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+        write(generator, data);
+    }
+
+    /**
+     * Write the employee data, or null.
+     *
+     * @param generator the JSON generator.
+     * @param data      the employee data.
+     * @throws IOException in case of error writing the JSON.
+     */
+    static void write(final JsonGenerator generator, final EmployeeData data) throws IOException {
+        if (data == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject(data);
+        generator.writeFieldName(FIRST_NAME);
+        generator.writeString(data.getFirstName());
+        generator.writeFieldName(LAST_NAME);
+        generator.writeString(data.getLastName());
+        generator.writeFieldName(DOCUMENT_TYPE);
+        generator.writeString(data.getDocumentType());
+        generator.writeFieldName(DOCUMENT_NUMBER);
+        generator.writeString(data.getDocumentNumber());
+        generator.writeFieldName(BIRTH_DATE);
+        JsonDates.writeDate(generator, data.getBirthDate());
+        generator.writeFieldName(JOB_START_DATE);
+        JsonDates.writeDate(generator, data.getJobStartDate());
+        generator.writeFieldName(AGE);
+        generator.writeString(data.getAge());
+        generator.writeFieldName(DATE_SINCE_JOB_START_DATE);
+        generator.writeString(data.getDateSinceJobStartDate());
+        generator.writeFieldName(CARGO);
+        generator.writeString(data.getCargo());
+        generator.writeFieldName(SALARY);
+        SalarySerializer.writeSalary(generator, data.getSalary());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,135 @@
+package com.prototype.api.employee.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * JSON dates in the {@code yyyy-MM-dd} pattern of the controller models.
+ * <p>
+ * Years between 1 and 9999 are written and read digit by digit, as the pattern formatter writes and reads them.
+ * Other years and texts that are not a plain {@code yyyy-MM-dd} date take the {@linkplain DateTimeFormatter}, so the
+ * result is always the one of {@code @JsonFormat(pattern = "yyyy-MM-dd")}.
+ *
+ * @author Daniel
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JsonDates {
+
+    /**
+     * Date pattern of the controller models.
+     */
+    public static final String PATTERN = "yyyy-MM-dd";
+
+    /**
+     * Formatter of the dates out of the fast path, with the smart resolver of the pattern formatters.
+     */
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+
+    /**
+     * Length of a {@code yyyy-MM-dd} date.
+     */
+    private static final int LENGTH = 10;
+
+    /**
+     * Write a date as a JSON string, or null.
+     *
+     * @param generator the JSON generator.
+     * @param date      the date.
+     * @throws IOException in case of error writing the JSON.
+     */
+    public static void writeDate(final JsonGenerator generator, final LocalDate date) throws IOException {
+        if (date == null) {
+            generator.writeNull();
+            return;
+        }
+        final var year = date.getYear();
+        if (year < 1 || year > 9999) {
+            generator.writeString(FORMATTER.format(date));
+            return;
+        }
+        final var text = new char[LENGTH];
+        writeDigits(text, 0, year, 4);
+        text[4] = '-';
+        writeDigits(text, 5, date.getMonthValue(), 2);
+        text[7] = '-';
+        writeDigits(text, 8, date.getDayOfMonth(), 2);
+        generator.writeString(text, 0, LENGTH);
+    }
+
+    /**
+     * Parse a date as the {@code LocalDate} deserializer does: the text is trimmed and an empty text is null.
+     *
+     * @param text   the characters of the text.
+     * @param offset the position of the text.
+     * @param length the length of the text.
+     * @return the date, or {@code null} if the text is empty.
+     * @throws DateTimeParseException if the text is not a date.
+     */
+    public static LocalDate parseDate(final char[] text, final int offset, final int length) {
+        var begin = offset;
+        var end = offset + length;
+        while (begin < end && text[begin] <= ' ') {
+            begin++;
+        }
+        while (end > begin && text[end - 1] <= ' ') {
+            end--;
+        }
+        if (begin == end) {
+            return null;
+        }
+        if (end - begin == LENGTH && text[begin + 4] == '-' && text[begin + 7] == '-') {
+            final var year = readDigits(text, begin, 4);
+            final var month = readDigits(text, begin + 5, 2);
+            final var day = readDigits(text, begin + 8, 2);
+            if (year >= 1 && month >= 1 && month <= 12 && day >= 1 && day <= 31) {
+                // As the smart resolver, a day past the end of the month is the last day of the month
+                return LocalDate.of(year, month, Math.min(day, Month.of(month).length(Year.isLeap(year))));
+            }
+        }
+        return LocalDate.parse(new String(text, begin, end - begin), FORMATTER);
+    }
+
+    /**
+     * Read a number of a fixed number of digits.
+     *
+     * @param text   the text to read.
+     * @param offset the position of the first digit.
+     * @param digits the number of digits.
+     * @return the number, or -1 if a character is not a digit.
+     */
+    private static int readDigits(final char[] text, final int offset, final int digits) {
+        var value = 0;
+        for (var i = offset; i < offset + digits; i++) {
+            final var digit = text[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Write a number padded with zeros.
+     *
+     * @param text   the text to write to.
+     * @param offset the position of the first digit.
+     * @param value  the non negative number.
+     * @param digits the number of digits.
+     */
+    private static void writeDigits(final char[] text, final int offset, final int value, final int digits) {
+        var rest = value;
+        for (var i = offset + digits - 1; i >= offset; i--) {
+            text[i] = (char) ('0' + rest % 10);
+            rest /= 10;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.prototype.api.employee.common.json;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.prototype.api.employee.common.util.SalaryUtil;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_SALARY;
+
+/**
+ * JSON deserializer of a salary in cents.
+ * <p>
+ * The salary is read with {@linkplain SalaryUtil} from the characters of the number token or of a numeric text,
+ * without a {@code double} or {@code BigDecimal}, rounding half up to the cent.
+ *
+ * @author Daniel
+ */
+public class SalaryDeserializer extends StdDeserializer<Long> {
+
+    /**
+     * Text of a null salary sent as a string.
+     */
+    private static final char[] NULL_TEXT = "null".toCharArray();
+
+    /**
+     * Build the deserializer.
+     */
+    public SalaryDeserializer() {
+        super(Long.class);
+    }
+
+    /**
+     * Read the salary.
+     *
+     * @param parser  the parser positioned on the value.
+     * @param context the deserialization context.
+     * @return the salary in cents.
+     * @throws IOException in case of a non numeric value.
+     */
+    @Override
+    public Long deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+        return readSalary(parser);
+    }
+
+    /**
+     * Salary of a JSON null.
+     *
+     * @param context the deserialization context.
+     * @return zero.
+     */
+    @Override
+    public Long getNullValue(final DeserializationContext context) {
+        return 0L;
+    }
+
+    /**
+     * Read the salary, from a number or a numeric text.
+     *
+     * @param parser the parser positioned on the value.
+     * @return the salary in cents, zero if it is null or empty.
+     * @throws IOException in case of a non numeric value.
+     */
+    public static long readSalary(final JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NULL:
+                return 0;
+            case VALUE_STRING:
+                if (isEmptyOrNull(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())) {
+                    return 0;
+                }
+                // fall through
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                try {
+                    return SalaryUtil.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                } catch (NumberFormatException ex) {
+                    throw new JsonParseException(parser, NON_VALID_SALARY, ex);
+                }
+            default:
+                throw new JsonParseException(parser, NON_VALID_SALARY);
+        }
+    }
+
+    /**
+     * Check if a text is empty or {@code null} once trimmed.
+     *
+     * @param text   the characters of the text.
+     * @param offset the position of the text.
+     * @param length the length of the text.
+     * @return flag that indicates if the salary text is empty.
+     */
+    private static boolean isEmptyOrNull(final char[] text, final int offset, final int length) {
+        var begin = offset;
+        var end = offset + length;
+        while (begin < end && text[begin] <= ' ') {
+            begin++;
+        }
+        while (end > begin && text[end - 1] <= ' ') {
+            end--;
+        }
+        return begin == end || (end - begin == NULL_TEXT.length
+                && Arrays.equals(text, begin, end, NULL_TEXT, 0, NULL_TEXT.length));
+    }
+}
@@ -0,0 +1,51 @@
+package com.prototype.api.employee.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.prototype.api.employee.common.util.SalaryUtil;
+
+import java.io.IOException;
+
+/**
+ * JSON serializer of a salary in cents.
+ * <p>
+ * The salary is written as a plain decimal number with {@linkplain SalaryUtil}, from its digits and without a
+ * {@code double} or {@code BigDecimal}.
+ *
+ * @author Daniel
+ */
+public class SalarySerializer extends StdSerializer<Long> {
+
+    /**
+     * Build the serializer.
+     */
+    public SalarySerializer() {
+        super(Long.class);
+    }
+
+    /**
+     * Write the salary.
+     *
+     * @param cents     the salary in cents.
+     * @param generator the JSON generator.
+     * @param provider  the serializer provider.
+     * @throws IOException in case of error writing the JSON.
+     */
+    @Override
+    public void serialize(final Long cents, final JsonGenerator generator, final SerializerProvider provider) throws IOException {
+        writeSalary(generator, cents);
+    }
+
+    /**
+     * Write a salary as a JSON number.
+     *
+     * @param generator the JSON generator.
+     * @param cents     the salary in cents.
+     * @throws IOException in case of error writing the JSON.
+     */
+    public static void writeSalary(final JsonGenerator generator, final long cents) throws IOException {
+        final var text = new char[SalaryUtil.MAX_LENGTH];
+        generator.writeNumber(text, 0, SalaryUtil.format(cents, text, 0));
+    }
+}
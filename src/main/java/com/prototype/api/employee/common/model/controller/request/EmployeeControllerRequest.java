@@ -1,8 +1,13 @@
 package com.prototype.api.employee.common.model.controller.request;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.prototype.api.employee.common.json.SalaryDeserializer;
+import com.prototype.api.employee.common.json.SalarySerializer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
@@ -16,10 +21,11 @@ import java.time.LocalDate;
  */
 @Getter
 @Builder
+@EqualsAndHashCode
 @ToString
 @AllArgsConstructor
 @NoArgsConstructor
-public class EmployeeControllerRequest {
+public class EmployeeControllerRequest implements EmployeeRequestFields {
 
     /**
      * Employee firstname
@@ -34,7 +40,7 @@ public class EmployeeControllerRequest {
     /**
      * Employee document type
      */
-    private String documentType;
+    private EmployeeDocumentType documentType;
 
     /**
      * Employee document number
@@ -59,8 +65,10 @@ public class EmployeeControllerRequest {
     private String cargo;
 
     /**
-     * Employee salary
+     * Employee salary, in cents
      */
-    private double salary;
+    @JsonSerialize(using = SalarySerializer.class)
+    @JsonDeserialize(using = SalaryDeserializer.class)
+    private long salary;
 
 }
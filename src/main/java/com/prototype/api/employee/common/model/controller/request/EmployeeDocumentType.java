@@ -1,11 +1,15 @@
 package com.prototype.api.employee.common.model.controller.request;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Employee Document Type model.
+ * <p>
+ * Parsed once when the request is read, an unknown value is read as {@code null} and rejected by the validator.
  *
  * @author Daniel
  */
@@ -33,16 +37,24 @@ public enum EmployeeDocumentType {
     PP;
 
     /**
-     * Validate the document type by searching in the enum.
+     * Document types by name.
+     */
+    private static final Map<String, EmployeeDocumentType> BY_NAME = new HashMap<>();
+
+    static {
+        for (final var documentType : values()) {
+            BY_NAME.put(documentType.name(), documentType);
+        }
+    }
+
+    /**
+     * Find the document type by its name.
      *
      * @param documentType the request document type.
-     * @return the document type. In case of not found, its blank.
+     * @return the document type. In case of not found, its {@code null}.
      */
-    public static String getDocumentType(final String documentType) {
-        return Arrays.stream(EmployeeDocumentType.values())
-                .filter(employeeDocumentType -> employeeDocumentType.name().equals(documentType))
-                .findFirst()
-                .map(Enum::name)
-                .orElse("");
+    @JsonCreator
+    public static EmployeeDocumentType fromValue(final String documentType) {
+        return documentType == null ? null : BY_NAME.get(documentType);
     }
 }
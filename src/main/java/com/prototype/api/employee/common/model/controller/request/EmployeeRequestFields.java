@@ -0,0 +1,67 @@
+package com.prototype.api.employee.common.model.controller.request;
+
+import java.time.LocalDate;
+
+/**
+ * Fields of an employee request, as read by the validation rules.
+ *
+ * @author Daniel
+ */
+public interface EmployeeRequestFields {
+
+    /**
+     * Employee firstname.
+     *
+     * @return the firstname.
+     */
+    String getFirstName();
+
+    /**
+     * Employee lastname.
+     *
+     * @return the lastname.
+     */
+    String getLastName();
+
+    /**
+     * Employee document type.
+     *
+     * @return the document type, {@code null} if unknown.
+     */
+    EmployeeDocumentType getDocumentType();
+
+    /**
+     * Employee document number.
+     *
+     * @return the document number.
+     */
+    String getDocumentNumber();
+
+    /**
+     * Employee birthdate.
+     *
+     * @return the birthdate.
+     */
+    LocalDate getBirthDate();
+
+    /**
+     * Employee job start date.
+     *
+     * @return the job start date.
+     */
+    LocalDate getJobStartDate();
+
+    /**
+     * Employee job title.
+     *
+     * @return the job title.
+     */
+    String getCargo();
+
+    /**
+     * Employee salary, in cents.
+     *
+     * @return the salary.
+     */
+    long getSalary();
+}
@@ -0,0 +1,34 @@
+package com.prototype.api.employee.common.model.controller.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Employee batch item response model
+ *
+ * @author Daniel
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"index"})
+public class EmployeeBatchItemResponse {
+
+    /**
+     * Position of the request in the batch input.
+     */
+    private int index;
+
+    /**
+     * Employee response of the request.
+     */
+    @JsonUnwrapped
+    private EmployeeControllerResponse response;
+}
@@ -1,6 +1,10 @@
 package com.prototype.api.employee.common.model.controller.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.prototype.api.employee.common.json.SalaryDeserializer;
+import com.prototype.api.employee.common.json.SalarySerializer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -71,7 +75,9 @@ public class EmployeeData {
     private String cargo;
 
     /**
-     * Employee salary
+     * Employee salary, in cents
      */
-    private double salary;
+    @JsonSerialize(using = SalarySerializer.class)
+    @JsonDeserialize(using = SalaryDeserializer.class)
+    private long salary;
 }
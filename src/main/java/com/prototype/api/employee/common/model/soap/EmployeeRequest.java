@@ -18,8 +18,8 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlSchemaType;
 import javax.xml.bind.annotation.XmlType;
-import javax.xml.datatype.XMLGregorianCalendar;
-import java.math.BigDecimal;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import java.time.LocalDate;
 
 
 /**
@@ -74,15 +74,19 @@ public class EmployeeRequest {
     @XmlElement(required = true)
     protected String documentNumber;
     @XmlElement(required = true)
+    @XmlJavaTypeAdapter(LocalDateAdapter.class)
     @XmlSchemaType(name = "date")
-    protected XMLGregorianCalendar birthDate;
+    protected LocalDate birthDate;
     @XmlElement(required = true)
+    @XmlJavaTypeAdapter(LocalDateAdapter.class)
     @XmlSchemaType(name = "date")
-    protected XMLGregorianCalendar jobStartDate;
+    protected LocalDate jobStartDate;
     @XmlElement(required = true)
     protected String cargo;
     @XmlElement(required = true)
-    protected BigDecimal salary;
+    @XmlJavaTypeAdapter(SalaryAdapter.class)
+    @XmlSchemaType(name = "decimal")
+    protected Long salary;
 
     /**
      * Gets the value of the firstName property.
@@ -185,10 +189,10 @@ public class EmployeeRequest {
      * 
      * @return
      *     possible object is
-     *     {@link XMLGregorianCalendar }
+     *     {@link LocalDate }
      *     
      */
-    public XMLGregorianCalendar getBirthDate() {
+    public LocalDate getBirthDate() {
         return birthDate;
     }
 
@@ -197,10 +201,10 @@ public class EmployeeRequest {
      * 
      * @param value
      *     allowed object is
-     *     {@link XMLGregorianCalendar }
+     *     {@link LocalDate }
      *     
      */
-    public void setBirthDate(XMLGregorianCalendar value) {
+    public void setBirthDate(LocalDate value) {
         this.birthDate = value;
     }
 
@@ -209,10 +213,10 @@ public class EmployeeRequest {
      * 
      * @return
      *     possible object is
-     *     {@link XMLGregorianCalendar }
+     *     {@link LocalDate }
      *     
      */
-    public XMLGregorianCalendar getJobStartDate() {
+    public LocalDate getJobStartDate() {
         return jobStartDate;
     }
 
@@ -221,10 +225,10 @@ public class EmployeeRequest {
      * 
      * @param value
      *     allowed object is
-     *     {@link XMLGregorianCalendar }
+     *     {@link LocalDate }
      *     
      */
-    public void setJobStartDate(XMLGregorianCalendar value) {
+    public void setJobStartDate(LocalDate value) {
         this.jobStartDate = value;
     }
 
@@ -257,10 +261,10 @@ public class EmployeeRequest {
      * 
      * @return
      *     possible object is
-     *     {@link BigDecimal }
+     *     {@link Long }
      *     
      */
-    public BigDecimal getSalary() {
+    public Long getSalary() {
         return salary;
     }
 
@@ -269,10 +273,10 @@ public class EmployeeRequest {
      * 
      * @param value
      *     allowed object is
-     *     {@link BigDecimal }
+     *     {@link Long }
      *     
      */
-    public void setSalary(BigDecimal value) {
+    public void setSalary(Long value) {
         this.salary = value;
     }
 
@@ -18,8 +18,8 @@ import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlSchemaType;
 import javax.xml.bind.annotation.XmlType;
-import javax.xml.datatype.XMLGregorianCalendar;
-import java.math.BigDecimal;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import java.time.LocalDate;
 
 
 /**
@@ -78,15 +78,19 @@ public class EmployeeResponse {
     @XmlElement(required = true)
     protected String documentNumber;
     @XmlElement(required = true)
+    @XmlJavaTypeAdapter(LocalDateAdapter.class)
     @XmlSchemaType(name = "date")
-    protected XMLGregorianCalendar birthDate;
+    protected LocalDate birthDate;
     @XmlElement(required = true)
+    @XmlJavaTypeAdapter(LocalDateAdapter.class)
     @XmlSchemaType(name = "date")
-    protected XMLGregorianCalendar jobStartDate;
+    protected LocalDate jobStartDate;
     @XmlElement(required = true)
     protected String cargo;
     @XmlElement(required = true)
-    protected BigDecimal salary;
+    @XmlJavaTypeAdapter(SalaryAdapter.class)
+    @XmlSchemaType(name = "decimal")
+    protected Long salary;
     @XmlElement(required = true)
     protected String age;
     @XmlElement(required = true)
@@ -193,10 +197,10 @@ public class EmployeeResponse {
      * 
      * @return
      *     possible object is
-     *     {@link XMLGregorianCalendar }
+     *     {@link LocalDate }
      *     
      */
-    public XMLGregorianCalendar getBirthDate() {
+    public LocalDate getBirthDate() {
         return birthDate;
     }
 
@@ -205,10 +209,10 @@ public class EmployeeResponse {
      * 
      * @param value
      *     allowed object is
-     *     {@link XMLGregorianCalendar }
+     *     {@link LocalDate }
      *     
      */
-    public void setBirthDate(XMLGregorianCalendar value) {
+    public void setBirthDate(LocalDate value) {
         this.birthDate = value;
     }
 
@@ -217,10 +221,10 @@ public class EmployeeResponse {
      * 
      * @return
      *     possible object is
-     *     {@link XMLGregorianCalendar }
+     *     {@link LocalDate }
      *     
      */
-    public XMLGregorianCalendar getJobStartDate() {
+    public LocalDate getJobStartDate() {
         return jobStartDate;
     }
 
@@ -229,10 +233,10 @@ public class EmployeeResponse {
      * 
      * @param value
      *     allowed object is
-     *     {@link XMLGregorianCalendar }
+     *     {@link LocalDate }
      *     
      */
-    public void setJobStartDate(XMLGregorianCalendar value) {
+    public void setJobStartDate(LocalDate value) {
         this.jobStartDate = value;
     }
 
@@ -265,10 +269,10 @@ public class EmployeeResponse {
      * 
      * @return
      *     possible object is
-     *     {@link BigDecimal }
+     *     {@link Long }
      *     
      */
-    public BigDecimal getSalary() {
+    public Long getSalary() {
         return salary;
     }
 
@@ -277,10 +281,10 @@ public class EmployeeResponse {
      * 
      * @param value
      *     allowed object is
-     *     {@link BigDecimal }
+     *     {@link Long }
      *     
      */
-    public void setSalary(BigDecimal value) {
+    public void setSalary(Long value) {
         this.salary = value;
     }
 
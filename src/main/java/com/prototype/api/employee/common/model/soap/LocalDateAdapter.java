@@ -0,0 +1,95 @@
+package com.prototype.api.employee.common.model.soap;
+
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import java.time.LocalDate;
+
+/**
+ * JAXB adapter between {@code xs:date} and {@linkplain LocalDate}.
+ * <p>
+ * Dates are written as {@code yyyy-MM-dd} without a time zone, as the {@code XMLGregorianCalendar} built from a
+ * {@linkplain LocalDate} was written. On read the time zone, if any, is ignored and the date is taken as is.
+ *
+ * @author Daniel
+ */
+public class LocalDateAdapter extends XmlAdapter<String, LocalDate> {
+
+    /**
+     * Read a {@code xs:date} value.
+     *
+     * @param value the lexical date.
+     * @return the {@linkplain LocalDate}, or {@code null} if the value is null.
+     */
+    @Override
+    public LocalDate unmarshal(final String value) {
+        return value == null ? null : parse(value);
+    }
+
+    /**
+     * Write a {@code xs:date} value.
+     *
+     * @param date the date.
+     * @return the lexical date, or {@code null} if the date is null.
+     */
+    @Override
+    public String marshal(final LocalDate date) {
+        return date == null ? null : format(date);
+    }
+
+    /**
+     * Format a date as {@code xs:date}, the year padded to four digits.
+     *
+     * @param date the date.
+     * @return the lexical date.
+     */
+    public static String format(final LocalDate date) {
+        final var text = new StringBuilder(10);
+        final var year = date.getYear();
+        if (year < 0) {
+            text.append('-');
+        }
+        appendPadded(text, Math.abs(year), 4).append('-');
+        appendPadded(text, date.getMonthValue(), 2).append('-');
+        return appendPadded(text, date.getDayOfMonth(), 2).toString();
+    }
+
+    /**
+     * Parse a {@code xs:date}, ignoring its time zone.
+     *
+     * @param value the lexical date.
+     * @return the {@linkplain LocalDate}.
+     * @throws IllegalArgumentException if the value is not a date.
+     */
+    public static LocalDate parse(final String value) {
+        final var text = value.trim();
+        final var yearEnd = text.indexOf('-', 1);
+        if (yearEnd < 0 || text.length() < yearEnd + 6 || text.charAt(yearEnd + 3) != '-') {
+            throw new IllegalArgumentException("Non valid xs:date: " + value);
+        }
+        try {
+            return LocalDate.of(Integer.parseInt(text, 0, yearEnd, 10),
+                    Integer.parseInt(text, yearEnd + 1, yearEnd + 3, 10),
+                    Integer.parseInt(text, yearEnd + 4, yearEnd + 6, 10));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Non valid xs:date: " + value, ex);
+        }
+    }
+
+    /**
+     * Append a number padded with zeros.
+     *
+     * @param text   the text to append to.
+     * @param value  the non negative number.
+     * @param digits the min number of digits.
+     * @return the text.
+     */
+    private static StringBuilder appendPadded(final StringBuilder text, final int value, final int digits) {
+        var bound = 10;
+        for (var i = 1; i < digits; i++) {
+            if (value < bound) {
+                text.append('0');
+            }
+            bound *= 10;
+        }
+        return text.append(value);
+    }
+}
@@ -0,0 +1,37 @@
+package com.prototype.api.employee.common.model.soap;
+
+import com.prototype.api.employee.common.util.SalaryUtil;
+
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+
+/**
+ * JAXB adapter between {@code xs:decimal} and a salary in cents.
+ * <p>
+ * Salaries are written as a plain decimal and read rounding half up to the cent, with {@linkplain SalaryUtil}.
+ *
+ * @author Daniel
+ */
+public class SalaryAdapter extends XmlAdapter<String, Long> {
+
+    /**
+     * Read a {@code xs:decimal} value.
+     *
+     * @param value the lexical decimal.
+     * @return the salary in cents, or {@code null} if the value is null.
+     */
+    @Override
+    public Long unmarshal(final String value) {
+        return value == null ? null : SalaryUtil.parse(value);
+    }
+
+    /**
+     * Write a {@code xs:decimal} value.
+     *
+     * @param cents the salary in cents.
+     * @return the lexical decimal, or {@code null} if the salary is null.
+     */
+    @Override
+    public String marshal(final Long cents) {
+        return cents == null ? null : SalaryUtil.toPlainString(cents);
+    }
+}
@@ -0,0 +1,76 @@
+package com.prototype.api.employee.common.util;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free pool of idle instances shared by all threads, keeping at most a fixed number of them.
+ * <p>
+ * Unlike a {@linkplain ThreadLocal} cache, an instance released by a thread is reused by any other, so the pool still
+ * helps when each task runs on a new thread, as virtual threads do. The bound is approximate under contention, by at
+ * most the number of threads releasing at once.
+ *
+ * @param <T> the type of the pooled instances.
+ * @author Daniel
+ */
+public final class BoundedPool<T> {
+
+    /**
+     * Idle instances
+     */
+    private final ConcurrentLinkedQueue<T> idle = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of idle instances, as the queue size is not constant time
+     */
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Max number of idle instances
+     */
+    private final int maxIdle;
+
+    /**
+     * Build the pool.
+     *
+     * @param maxIdle the max number of idle instances kept.
+     */
+    public BoundedPool(final int maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    /**
+     * Take an idle instance.
+     *
+     * @return an idle instance, or {@code null} if there is none.
+     */
+    public T poll() {
+        final var instance = idle.poll();
+        if (instance != null) {
+            size.decrementAndGet();
+        }
+        return instance;
+    }
+
+    /**
+     * Give back an instance, dropping it if the pool is full.
+     *
+     * @param instance the instance, no longer used by the caller.
+     */
+    public void offer(final T instance) {
+        if (size.incrementAndGet() > maxIdle) {
+            size.decrementAndGet();
+            return;
+        }
+        idle.offer(instance);
+    }
+
+    /**
+     * Number of idle instances.
+     *
+     * @return the number of idle instances.
+     */
+    public int size() {
+        return size.get();
+    }
+}
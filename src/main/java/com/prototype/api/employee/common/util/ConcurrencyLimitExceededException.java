@@ -0,0 +1,32 @@
+package com.prototype.api.employee.common.util;
+
+import lombok.Getter;
+
+/**
+ * Exception of a request shed because the concurrency limit of the employee creation was reached.
+ *
+ * @author Daniel
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    /**
+     * Message of the exception
+     */
+    public static final String MESSAGE = "The service is overloaded, retry later";
+
+    /**
+     * Seconds the client should wait before retrying
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Build the exception.
+     *
+     * @param retryAfterSeconds the seconds the client should wait before retrying.
+     */
+    public ConcurrencyLimitExceededException(final long retryAfterSeconds) {
+        super(MESSAGE, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
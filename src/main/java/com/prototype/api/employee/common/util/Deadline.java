@@ -0,0 +1,90 @@
+package com.prototype.api.employee.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline of a request, from the time budget sent by the caller.
+ * <p>
+ * The deadline is kept on the monotonic clock, so the remaining budget shrinks as the request goes through
+ * validation, mapping and the executor queue. A request without budget has no deadline.
+ *
+ * @author Daniel
+ */
+public final class Deadline {
+
+    /**
+     * Deadline of the requests without budget
+     */
+    private static final Deadline NONE = new Deadline(0L, false);
+
+    /**
+     * Expiry time, in {@linkplain System#nanoTime()} nanoseconds
+     */
+    private final long expiresAtNanos;
+
+    /**
+     * Flag that indicates if the request has a deadline
+     */
+    private final boolean bounded;
+
+    /**
+     * Build the deadline.
+     *
+     * @param expiresAtNanos the expiry time, in nanoseconds.
+     * @param bounded        flag that indicates if the request has a deadline.
+     */
+    private Deadline(final long expiresAtNanos, final boolean bounded) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.bounded = bounded;
+    }
+
+    /**
+     * Deadline of a request without budget, that never expires.
+     *
+     * @return the deadline.
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /**
+     * Deadline after the given budget from now.
+     *
+     * @param budgetMillis the time budget, in milliseconds. A budget of zero or less is already expired.
+     * @return the deadline.
+     */
+    public static Deadline afterMillis(final long budgetMillis) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, budgetMillis)), true);
+    }
+
+    /**
+     * Check if the request has a deadline.
+     *
+     * @return flag that indicates if the request has a deadline.
+     */
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    /**
+     * Check if the budget is used up.
+     *
+     * @return flag that indicates if the deadline has passed.
+     */
+    public boolean isExpired() {
+        return bounded && expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Remaining budget.
+     *
+     * @return the remaining budget in milliseconds, 0 if it is used up, or {@linkplain Long#MAX_VALUE} if the
+     * request has no deadline.
+     */
+    public long remainingMillis() {
+        if (!bounded) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.prototype.api.employee.common.util;
+
+/**
+ * Exception of a request whose deadline passed before its SOAP call was sent, or while it was in flight; a duplicate
+ * request sharing the call retries it if its own deadline is still live.
+ *
+ * @author Daniel
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    /**
+     * Message of the exception
+     */
+    public static final String MESSAGE = "The request deadline was exceeded";
+
+    /**
+     * Build the exception.
+     */
+    public DeadlineExceededException() {
+        super(MESSAGE, null, false, false);
+    }
+}
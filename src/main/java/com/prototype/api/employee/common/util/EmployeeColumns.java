@@ -0,0 +1,242 @@
+package com.prototype.api.employee.common.util;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeDocumentType;
+import com.prototype.api.employee.common.model.controller.request.EmployeeRequestFields;
+import com.prototype.api.employee.common.util.EmployeeRule.Field;
+
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Employee requests stored column by column, for the validation of large imports.
+ * <p>
+ * Each field is an array indexed by row: the texts as strings, the document type as its ordinal, the dates as epoch
+ * days and the salary in cents, so a rule runs over a whole column in a tight loop. A null document type is stored
+ * as {@value #NULL_DOCUMENT_TYPE} and a null date as {@linkplain #NULL_DATE}.
+ * <p>
+ * An import fills the columns without building a request per row: its reader sizes the columns to the rows of a
+ * chunk, stores each parsed value with the writer of its column ({@linkplain #setFirstName(int, String)},
+ * {@linkplain #setBirthEpochDay(int, long)}, {@linkplain #setSalaryCents(int, long)} and so on), then checks the
+ * whole chunk with {@code EmployeeValidationRules#validate(EmployeeColumns)}. Rows already held as requests are
+ * stored with {@linkplain #of(List)} or {@linkplain #set(int, EmployeeRequestFields)}.
+ *
+ * @author Daniel
+ */
+public final class EmployeeColumns {
+
+    /**
+     * Stored document type of a null document type.
+     */
+    public static final byte NULL_DOCUMENT_TYPE = -1;
+
+    /**
+     * Stored epoch day of a null date.
+     */
+    public static final long NULL_DATE = Long.MIN_VALUE;
+
+    /**
+     * Employee firstnames
+     */
+    final String[] firstNames;
+
+    /**
+     * Employee lastnames
+     */
+    final String[] lastNames;
+
+    /**
+     * Employee document type ordinals
+     */
+    final byte[] documentTypes;
+
+    /**
+     * Employee document numbers
+     */
+    final String[] documentNumbers;
+
+    /**
+     * Employee birthdates, in epoch days
+     */
+    final long[] birthDates;
+
+    /**
+     * Employee job start dates, in epoch days
+     */
+    final long[] jobStartDates;
+
+    /**
+     * Employee job titles
+     */
+    final String[] cargos;
+
+    /**
+     * Employee salaries, in cents
+     */
+    final long[] salaries;
+
+    /**
+     * Build empty columns.
+     *
+     * @param rows the number of rows.
+     */
+    public EmployeeColumns(final int rows) {
+        this.firstNames = new String[rows];
+        this.lastNames = new String[rows];
+        this.documentTypes = new byte[rows];
+        this.documentNumbers = new String[rows];
+        this.birthDates = new long[rows];
+        this.jobStartDates = new long[rows];
+        this.cargos = new String[rows];
+        this.salaries = new long[rows];
+    }
+
+    /**
+     * Store the employee requests in columns.
+     *
+     * @param requests the employee requests, by row.
+     * @return the columns.
+     */
+    public static EmployeeColumns of(final List<? extends EmployeeRequestFields> requests) {
+        final var columns = new EmployeeColumns(requests.size());
+        for (var row = 0; row < requests.size(); row++) {
+            columns.set(row, requests.get(row));
+        }
+        return columns;
+    }
+
+    /**
+     * Store the fields of a request in a row.
+     *
+     * @param row     the row.
+     * @param request the employee request fields.
+     */
+    public void set(final int row, final EmployeeRequestFields request) {
+        setFirstName(row, request.getFirstName());
+        setLastName(row, request.getLastName());
+        setDocumentType(row, request.getDocumentType());
+        setDocumentNumber(row, request.getDocumentNumber());
+        setBirthEpochDay(row, isNull(request.getBirthDate()) ? NULL_DATE : request.getBirthDate().toEpochDay());
+        setJobStartEpochDay(row, isNull(request.getJobStartDate()) ? NULL_DATE : request.getJobStartDate().toEpochDay());
+        setCargo(row, request.getCargo());
+        setSalaryCents(row, request.getSalary());
+    }
+
+    /**
+     * Store the firstname of a row.
+     *
+     * @param row       the row.
+     * @param firstName the employee firstname.
+     */
+    public void setFirstName(final int row, final String firstName) {
+        firstNames[row] = firstName;
+    }
+
+    /**
+     * Store the lastname of a row.
+     *
+     * @param row      the row.
+     * @param lastName the employee lastname.
+     */
+    public void setLastName(final int row, final String lastName) {
+        lastNames[row] = lastName;
+    }
+
+    /**
+     * Store the document type of a row.
+     *
+     * @param row          the row.
+     * @param documentType the employee document type, or null.
+     */
+    public void setDocumentType(final int row, final EmployeeDocumentType documentType) {
+        documentTypes[row] = isNull(documentType) ? NULL_DOCUMENT_TYPE : (byte) documentType.ordinal();
+    }
+
+    /**
+     * Store the document number of a row.
+     *
+     * @param row            the row.
+     * @param documentNumber the employee document number.
+     */
+    public void setDocumentNumber(final int row, final String documentNumber) {
+        documentNumbers[row] = documentNumber;
+    }
+
+    /**
+     * Store the birthdate of a row.
+     *
+     * @param row      the row.
+     * @param epochDay the employee birthdate in epoch days, or {@linkplain #NULL_DATE}.
+     */
+    public void setBirthEpochDay(final int row, final long epochDay) {
+        birthDates[row] = epochDay;
+    }
+
+    /**
+     * Store the job start date of a row.
+     *
+     * @param row      the row.
+     * @param epochDay the employee job start date in epoch days, or {@linkplain #NULL_DATE}.
+     */
+    public void setJobStartEpochDay(final int row, final long epochDay) {
+        jobStartDates[row] = epochDay;
+    }
+
+    /**
+     * Store the job title of a row.
+     *
+     * @param row   the row.
+     * @param cargo the employee job title.
+     */
+    public void setCargo(final int row, final String cargo) {
+        cargos[row] = cargo;
+    }
+
+    /**
+     * Store the salary of a row.
+     *
+     * @param row   the row.
+     * @param cents the employee salary, in cents.
+     */
+    public void setSalaryCents(final int row, final long cents) {
+        salaries[row] = cents;
+    }
+
+    /**
+     * Number of rows.
+     *
+     * @return the number of rows.
+     */
+    public int size() {
+        return salaries.length;
+    }
+
+    /**
+     * Column of a text field.
+     *
+     * @param field the field.
+     * @return the texts.
+     */
+    String[] text(final Field field) {
+        switch (field) {
+            case FIRST_NAME:
+                return firstNames;
+            case LAST_NAME:
+                return lastNames;
+            case CARGO:
+                return cargos;
+            default:
+                return documentNumbers;
+        }
+    }
+
+    /**
+     * Column of a date field.
+     *
+     * @param field the field.
+     * @return the epoch days.
+     */
+    long[] date(final Field field) {
+        return field == Field.BIRTH_DATE ? birthDates : jobStartDates;
+    }
+}
@@ -1,18 +1,22 @@
 package com.prototype.api.employee.common.util;
 
 import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.request.EmployeeRequestFields;
 import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDate;
-
-import static com.prototype.api.employee.common.model.controller.request.EmployeeDocumentType.getDocumentType;
-import static java.util.Objects.isNull;
-import static org.apache.commons.lang3.StringUtils.isBlank;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Employee controller request validator
+ * <p>
+ * All the fields are checked in a single pass and the violations are reported as a bitmask, one bit per field in the
+ * order the fields were checked before, so the first violation keeps giving the same message. The static checks are
+ * the {@linkplain EmployeeRuleProgram#defaultRules() default rules}; the services check the
+ * {@linkplain com.prototype.api.employee.service.EmployeeValidationRules configured rules}, and report their
+ * violations with the same messages.
  *
  * @author Daniel
  */
@@ -65,174 +69,109 @@ public class EmployeeRequestValidator {
     public static final String ERROR_STATUS = "Error";
 
     /**
-     * Validate the employee request.
-     *
-     * @param request         the employee request.
-     * @param responseBuilder the employee response builder.
-     * @return flag that indicates if the request is valid.
+     * No violations.
      */
-    public static boolean isValidRequest(final EmployeeControllerRequest request, final EmployeeControllerResponse.EmployeeControllerResponseBuilder responseBuilder) {
-        return isValidName(request, responseBuilder) &&
-                isValidBirthDate(request, responseBuilder) &&
-                isValidJobStartDate(request, responseBuilder) &&
-                isValidSalary(request, responseBuilder) &&
-                isValidCargo(request, responseBuilder) &&
-                isValidDocumentType(request, responseBuilder) &&
-                isValidDocumentNumber(request, responseBuilder);
-    }
+    public static final int NO_VIOLATIONS = 0;
 
     /**
-     * Validate the name in the request
-     *
-     * @param request         the employee request.
-     * @param responseBuilder the employee response builder.
-     * @return flag that indicates if the name is valid.
+     * Non valid firstname violation.
      */
-    private static boolean isValidName(final EmployeeControllerRequest request, final EmployeeControllerResponse.EmployeeControllerResponseBuilder responseBuilder) {
+    public static final int FIRST_NAME_VIOLATION = 1;
 
-        if (isNull(request.getFirstName()) || isBlank(request.getFirstName())) {
-            responseBuilder.status(ERROR_STATUS);
-            responseBuilder.errorMessage(NON_VALID_FIRST_NAME);
-            return false;
-        }
-
-        if (isNull(request.getFirstName()) || isBlank(request.getLastName())) {
-            responseBuilder.status(ERROR_STATUS);
-            responseBuilder.errorMessage(NON_VALID_LAST_NAME);
-            return false;
-        }
+    /**
+     * Non valid lastname violation.
+     */
+    public static final int LAST_NAME_VIOLATION = 1 << 1;
 
-        return true;
-    }
+    /**
+     * Non valid birthdate violation.
+     */
+    public static final int BIRTH_DATE_VIOLATION = 1 << 2;
 
     /**
-     * Validate the salary in the request
-     *
-     * @param request         the employee request.
-     * @param responseBuilder the employee response builder.
-     * @return flag that indicates if the salary is valid.
+     * Non valid job start date violation.
      */
-    private static boolean isValidSalary(final EmployeeControllerRequest request, final EmployeeControllerResponse.EmployeeControllerResponseBuilder responseBuilder) {
+    public static final int JOB_START_DATE_VIOLATION = 1 << 3;
 
-        if (isNegative(request.getSalary())) {
-            responseBuilder.status(ERROR_STATUS);
-            responseBuilder.errorMessage(NON_VALID_SALARY);
-            return false;
-        }
+    /**
+     * Non valid salary violation.
+     */
+    public static final int SALARY_VIOLATION = 1 << 4;
 
-        return true;
-    }
+    /**
+     * Non valid job title violation.
+     */
+    public static final int CARGO_VIOLATION = 1 << 5;
 
     /**
-     * Validate the birth date in the request
-     *
-     * @param request         the employee request.
-     * @param responseBuilder the employee response builder.
-     * @return flag that indicates if the birth date is valid.
+     * Non valid document type violation.
      */
-    private static boolean isValidBirthDate(final EmployeeControllerRequest request, final EmployeeControllerResponse.EmployeeControllerResponseBuilder responseBuilder) {
-        if (isNull(request.getBirthDate())) {
-            responseBuilder.status(ERROR_STATUS);
-            responseBuilder.errorMessage(NON_VALID_BIRTH_DATE);
-            return false;
-        }
-        return true;
-    }
+    public static final int DOC_TYPE_VIOLATION = 1 << 6;
 
     /**
-     * Validate the job start date in the request
-     *
-     * @param request         the employee request.
-     * @param responseBuilder the employee response builder.
-     * @return flag that indicates if the job start date is valid.
+     * Non valid document number violation.
      */
-    private static boolean isValidJobStartDate(final EmployeeControllerRequest request, final EmployeeControllerResponse.EmployeeControllerResponseBuilder responseBuilder) {
-        if (isNull(request.getJobStartDate()) || isGreaterThanToday(request) || isBeforeBirth(request)) {
-            responseBuilder.status(ERROR_STATUS);
-            responseBuilder.errorMessage(NON_VALID_JOB_START_DATE);
-            return false;
-        }
-        return true;
-    }
+    public static final int DOC_NUMBER_VIOLATION = 1 << 7;
 
     /**
-     * Validate the cargo (job title) in the request
-     *
-     * @param request         the employee request.
-     * @param responseBuilder the employee response builder.
-     * @return flag that indicates if the cargo is valid.
+     * Violation messages, by violation bit.
      */
-    private static boolean isValidCargo(final EmployeeControllerRequest request, final EmployeeControllerResponse.EmployeeControllerResponseBuilder responseBuilder) {
-        if (isNull(request.getCargo()) || isBlank(request.getCargo())) {
-            responseBuilder.status(ERROR_STATUS);
-            responseBuilder.errorMessage(NON_VALID_CARGO);
-            return false;
-        }
-        return true;
-    }
+    private static final String[] MESSAGES = {NON_VALID_FIRST_NAME, NON_VALID_LAST_NAME, NON_VALID_BIRTH_DATE,
+            NON_VALID_JOB_START_DATE, NON_VALID_SALARY, NON_VALID_CARGO, NON_VALID_DOC_TYPE, NON_VALID_DOC_NUMBER};
 
     /**
-     * Validate the document type in the request
-     *
-     * @param request         the employee request.
-     * @param responseBuilder the employee response builder.
-     * @return flag that indicates if the document type is valid.
+     * Compiled default rules.
      */
-    private static boolean isValidDocumentType(final EmployeeControllerRequest request, final EmployeeControllerResponse.EmployeeControllerResponseBuilder responseBuilder) {
-        if(isNull(request.getDocumentType()) || isBlank(getDocumentType(request.getDocumentType()))){
-            responseBuilder.status(ERROR_STATUS);
-            responseBuilder.errorMessage(NON_VALID_DOC_TYPE);
-            return false;
-        }
-        return true;
-    }
+    private static final EmployeeRuleProgram DEFAULT_PROGRAM = EmployeeRuleProgram.compile(EmployeeRuleProgram.defaultRules());
 
     /**
-     * Validate the document number in the request
+     * Validate the employee request.
      *
      * @param request         the employee request.
      * @param responseBuilder the employee response builder.
-     * @return flag that indicates if the document number is valid.
+     * @return flag that indicates if the request is valid.
      */
-    private static boolean isValidDocumentNumber(final EmployeeControllerRequest request, final EmployeeControllerResponse.EmployeeControllerResponseBuilder responseBuilder) {
-
-        if (isNull(request.getDocumentNumber()) || !request.getDocumentNumber().matches("[A-Za-z0-9]+")) {
-            responseBuilder.status(ERROR_STATUS);
-            responseBuilder.errorMessage(NON_VALID_DOC_NUMBER);
-            return false;
+    public static boolean isValidRequest(final EmployeeControllerRequest request, final EmployeeControllerResponse.EmployeeControllerResponseBuilder responseBuilder) {
+        final var violations = validate(request);
+        if (violations == NO_VIOLATIONS) {
+            return true;
         }
-
-        return true;
+        responseBuilder.status(ERROR_STATUS);
+        responseBuilder.errorMessage(firstMessage(violations));
+        return false;
     }
 
-
     /**
-     * Validates if the date is before the employee birth date
+     * Check all the fields of the employee request with the default rules.
      *
-     * @param request the employee request object.
-     * @return flag that determines if the date is before the employee birth date.
+     * @param request the employee request fields.
+     * @return the violations bitmask, {@linkplain #NO_VIOLATIONS} if the request is valid.
      */
-    private static boolean isBeforeBirth(final EmployeeControllerRequest request) {
-        return request.getJobStartDate().isBefore(request.getBirthDate());
+    public static int validate(final EmployeeRequestFields request) {
+        return DEFAULT_PROGRAM.validate(request);
     }
 
     /**
-     * Validates if the date is greater than today.
+     * Message of the first violation.
      *
-     * @param request the employee request object.
-     * @return flag that determines if the date is greater than today.
+     * @param violations the violations bitmask, with at least one violation.
+     * @return the message of the first violation.
      */
-    private static boolean isGreaterThanToday(final EmployeeControllerRequest request) {
-        return request.getJobStartDate().isAfter(LocalDate.now());
+    public static String firstMessage(final int violations) {
+        return MESSAGES[Integer.numberOfTrailingZeros(violations)];
     }
 
     /**
-     * Validates if the salary is negative.
+     * Messages of all the violations.
      *
-     * @param salary the employee salary.
-     * @return flag that determines if the salary is not positive.
+     * @param violations the violations bitmask.
+     * @return the messages, in check order.
      */
-    private static boolean isNegative(final double salary) {
-        return salary <= 0;
+    public static List<String> messages(final int violations) {
+        final var messages = new ArrayList<String>(Integer.bitCount(violations));
+        for (var remaining = violations; remaining != 0; remaining &= remaining - 1) {
+            messages.add(MESSAGES[Integer.numberOfTrailingZeros(remaining)]);
+        }
+        return messages;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,247 @@
+package com.prototype.api.employee.common.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Locale;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.BIRTH_DATE_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.CARGO_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.DOC_NUMBER_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.DOC_TYPE_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.FIRST_NAME_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.JOB_START_DATE_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.LAST_NAME_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.SALARY_VIOLATION;
+
+/**
+ * Validation rule of an employee request field, as declared in the configuration.
+ *
+ * @author Daniel
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeRule {
+
+    /**
+     * Checked field.
+     */
+    private Field field;
+
+    /**
+     * Check of the field.
+     */
+    private Check check;
+
+    /**
+     * Operand of the check: a length, a number of days, a decimal salary bound or a comma separated list of document types.
+     */
+    private String value;
+
+    /**
+     * Rule name in the metrics, {@code <field>.<check>} by default.
+     */
+    private String name;
+
+    /**
+     * Build a rule with the default name.
+     *
+     * @param field the checked field.
+     * @param check the check of the field.
+     * @param value the operand of the check, may be null.
+     */
+    public EmployeeRule(final Field field, final Check check, final String value) {
+        this(field, check, value, null);
+    }
+
+    /**
+     * Rule name in the metrics.
+     *
+     * @return the configured name, or {@code <field>.<check>}.
+     */
+    public String metricName() {
+        return name != null ? name : kebabCase(field) + '.' + kebabCase(check);
+    }
+
+    /**
+     * Name of a constant in kebab case.
+     *
+     * @param constant the constant.
+     * @return the kebab case name.
+     */
+    private static String kebabCase(final Enum<?> constant) {
+        return constant == null ? "none" : constant.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    /**
+     * Kind of value of a field
+     */
+    public enum Type {
+
+        /**
+         * Text value
+         */
+        TEXT,
+
+        /**
+         * Date value
+         */
+        DATE,
+
+        /**
+         * Numeric value
+         */
+        NUMBER,
+
+        /**
+         * Document type value
+         */
+        DOCUMENT_TYPE
+    }
+
+    /**
+     * Request fields, with the violation their rules raise
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Field {
+
+        /**
+         * Employee firstname
+         */
+        FIRST_NAME(Type.TEXT, FIRST_NAME_VIOLATION),
+
+        /**
+         * Employee lastname
+         */
+        LAST_NAME(Type.TEXT, LAST_NAME_VIOLATION),
+
+        /**
+         * Employee birthdate
+         */
+        BIRTH_DATE(Type.DATE, BIRTH_DATE_VIOLATION),
+
+        /**
+         * Employee job start date
+         */
+        JOB_START_DATE(Type.DATE, JOB_START_DATE_VIOLATION),
+
+        /**
+         * Employee salary
+         */
+        SALARY(Type.NUMBER, SALARY_VIOLATION),
+
+        /**
+         * Employee job title
+         */
+        CARGO(Type.TEXT, CARGO_VIOLATION),
+
+        /**
+         * Employee document type
+         */
+        DOCUMENT_TYPE(Type.DOCUMENT_TYPE, DOC_TYPE_VIOLATION),
+
+        /**
+         * Employee document number
+         */
+        DOCUMENT_NUMBER(Type.TEXT, DOC_NUMBER_VIOLATION);
+
+        /**
+         * Kind of value of the field
+         */
+        private final Type type;
+
+        /**
+         * Violation bit of the field
+         */
+        private final int violation;
+    }
+
+    /**
+     * Checks of a field. A null value fails every check, except the birthdate of {@linkplain #NOT_BEFORE_BIRTH_DATE}.
+     */
+    @AllArgsConstructor
+    public enum Check {
+
+        /**
+         * The value is not null.
+         */
+        NOT_NULL(null),
+
+        /**
+         * The text has a non whitespace character.
+         */
+        NOT_BLANK(Type.TEXT),
+
+        /**
+         * The text has at least {@code value} characters.
+         */
+        MIN_LENGTH(Type.TEXT),
+
+        /**
+         * The text has at most {@code value} characters.
+         */
+        MAX_LENGTH(Type.TEXT),
+
+        /**
+         * The text has only ASCII letters and digits.
+         */
+        ALPHANUMERIC(Type.TEXT),
+
+        /**
+         * The document type is one of the comma separated {@code value}.
+         */
+        ONE_OF(Type.DOCUMENT_TYPE),
+
+        /**
+         * The number is greater than or equal to {@code value}.
+         */
+        MIN(Type.NUMBER),
+
+        /**
+         * The number is less than or equal to {@code value}.
+         */
+        MAX(Type.NUMBER),
+
+        /**
+         * The number is greater than {@code value}.
+         */
+        GREATER_THAN(Type.NUMBER),
+
+        /**
+         * The date is at most {@code value} days after today, or at least {@code -value} days before it.
+         */
+        MAX_DAYS_AFTER_TODAY(Type.DATE),
+
+        /**
+         * The date is at most {@code value} days before today.
+         */
+        MAX_DAYS_BEFORE_TODAY(Type.DATE),
+
+        /**
+         * The date is not before the birthdate, when the birthdate is known.
+         */
+        NOT_BEFORE_BIRTH_DATE(Type.DATE);
+
+        /**
+         * Kind of value checked, {@code null} for any
+         */
+        private final Type type;
+
+        /**
+         * Flag that indicates if the check applies to the field.
+         *
+         * @param field the field.
+         * @return true if the check applies to the field values.
+         */
+        public boolean appliesTo(final Field field) {
+            return type == null || type == field.getType();
+        }
+    }
+}
@@ -0,0 +1,675 @@
+package com.prototype.api.employee.common.util;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeDocumentType;
+import com.prototype.api.employee.common.model.controller.request.EmployeeRequestFields;
+import com.prototype.api.employee.common.util.EmployeeRule.Check;
+import com.prototype.api.employee.common.util.EmployeeRule.Field;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NO_VIOLATIONS;
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Validation rules compiled into a flat program.
+ * <p>
+ * Each rule is an instruction of parallel arrays: the field, the check, its operand and the violation of the field.
+ * The program runs the instructions in order over the request getters, skipping the rules of a field that already
+ * failed, so a request is checked without reflection nor allocation. The operands are parsed and the checks matched
+ * to the field types when the program is compiled, so a non valid rule fails the compilation, not the requests. The
+ * time of each rule is measured on one in {@value #SAMPLE_RATE} validations. Requests stored in
+ * {@linkplain EmployeeColumns} are checked one rule at a time over a range of rows, with the ranges split across the
+ * common fork/join pool; their cost is not sampled.
+ *
+ * @author Daniel
+ */
+public final class EmployeeRuleProgram {
+
+    /**
+     * One in this many validations is timed.
+     */
+    static final int SAMPLE_RATE = 64;
+
+    /**
+     * Max number of rows checked by a single fork/join task.
+     */
+    static final int ROWS_PER_TASK = 4096;
+
+    /**
+     * Valid alphanumeric characters, by ASCII code.
+     */
+    private static final boolean[] ALPHANUMERIC_CHARS = createAlphanumericChars();
+
+    /**
+     * Checked field of each rule
+     */
+    private final Field[] fields;
+
+    /**
+     * Check of each rule
+     */
+    private final Check[] checks;
+
+    /**
+     * Operand of each rule: a length, a number of days, a document types mask or a salary bound in cents
+     */
+    private final long[] operands;
+
+    /**
+     * Violation raised by each rule
+     */
+    private final int[] violations;
+
+    /**
+     * Evaluation cost of each rule
+     */
+    private final Cost[] costs;
+
+    /**
+     * Name of each rule
+     */
+    private final String[] names;
+
+    /**
+     * Build the program from its compiled instructions.
+     *
+     * @param size the number of rules.
+     */
+    private EmployeeRuleProgram(final int size) {
+        this.fields = new Field[size];
+        this.checks = new Check[size];
+        this.operands = new long[size];
+        this.violations = new int[size];
+        this.costs = new Cost[size];
+        this.names = new String[size];
+    }
+
+    /**
+     * Compile the rules, each one with its own cost.
+     *
+     * @param rules the rules, in evaluation order.
+     * @return the program.
+     * @throws IllegalArgumentException if a rule is not valid.
+     */
+    public static EmployeeRuleProgram compile(final List<EmployeeRule> rules) {
+        return compile(rules, name -> new Cost());
+    }
+
+    /**
+     * Compile the rules.
+     *
+     * @param rules the rules, in evaluation order.
+     * @param costs the cost of a rule, by rule name.
+     * @return the program.
+     * @throws IllegalArgumentException if a rule is not valid.
+     */
+    public static EmployeeRuleProgram compile(final List<EmployeeRule> rules, final Function<String, Cost> costs) {
+        final var program = new EmployeeRuleProgram(rules.size());
+        for (var i = 0; i < rules.size(); i++) {
+            final var rule = rules.get(i);
+            if (isNull(rule.getField()) || isNull(rule.getCheck())) {
+                throw new IllegalArgumentException("Rule " + i + " needs a field and a check: " + rule);
+            }
+            if (!rule.getCheck().appliesTo(rule.getField())) {
+                throw new IllegalArgumentException("Rule " + rule.metricName() + " does not apply to the field type");
+            }
+            program.fields[i] = rule.getField();
+            program.checks[i] = rule.getCheck();
+            program.violations[i] = rule.getField().getViolation();
+            program.names[i] = rule.metricName();
+            program.costs[i] = costs.apply(program.names[i]);
+            compileOperand(program, i, rule);
+        }
+        return program;
+    }
+
+    /**
+     * Default rules, the validation of the employee requests before the rules were configurable.
+     *
+     * @return a new list of rules.
+     */
+    public static List<EmployeeRule> defaultRules() {
+        final var rules = new ArrayList<EmployeeRule>();
+        rules.add(new EmployeeRule(Field.FIRST_NAME, Check.NOT_BLANK, null));
+        rules.add(new EmployeeRule(Field.LAST_NAME, Check.NOT_BLANK, null));
+        rules.add(new EmployeeRule(Field.BIRTH_DATE, Check.NOT_NULL, null));
+        rules.add(new EmployeeRule(Field.JOB_START_DATE, Check.MAX_DAYS_AFTER_TODAY, "0"));
+        rules.add(new EmployeeRule(Field.JOB_START_DATE, Check.NOT_BEFORE_BIRTH_DATE, null));
+        rules.add(new EmployeeRule(Field.SALARY, Check.GREATER_THAN, "0"));
+        rules.add(new EmployeeRule(Field.CARGO, Check.NOT_BLANK, null));
+        rules.add(new EmployeeRule(Field.DOCUMENT_TYPE, Check.NOT_NULL, null));
+        rules.add(new EmployeeRule(Field.DOCUMENT_NUMBER, Check.MIN_LENGTH, "1"));
+        rules.add(new EmployeeRule(Field.DOCUMENT_NUMBER, Check.ALPHANUMERIC, null));
+        return rules;
+    }
+
+    /**
+     * Check the fields of an employee request.
+     *
+     * @param request the employee request fields.
+     * @return the violations bitmask, {@linkplain EmployeeRequestValidator#NO_VIOLATIONS} if the request is valid.
+     */
+    public int validate(final EmployeeRequestFields request) {
+        final var today = EmployeeUtil.today().toEpochDay();
+        final var sampled = ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0;
+        var result = NO_VIOLATIONS;
+        for (var i = 0; i < checks.length; i++) {
+            if ((result & violations[i]) != 0) {
+                continue;
+            }
+            final boolean valid;
+            if (sampled) {
+                final var start = System.nanoTime();
+                valid = test(i, request, today);
+                costs[i].record(System.nanoTime() - start);
+            } else {
+                valid = test(i, request, today);
+            }
+            if (!valid) {
+                result |= violations[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check the rows of employee requests stored in columns, splitting the rows across the common fork/join pool.
+     *
+     * @param columns the employee requests, by column.
+     * @return the violations bitmask of each row, the one {@linkplain #validate(EmployeeRequestFields)} returns.
+     */
+    public int[] validate(final EmployeeColumns columns) {
+        final var result = new int[columns.size()];
+        final var task = new ColumnsTask(columns, 0, result.length, result, EmployeeUtil.today().toEpochDay());
+        if (result.length <= ROWS_PER_TASK) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        return result;
+    }
+
+    /**
+     * Check a range of rows stored in columns, one rule at a time over the range.
+     *
+     * @param columns the employee requests, by column.
+     * @param from    the first row.
+     * @param to      the row after the last one.
+     * @param result  the violations bitmask of each row.
+     * @param today   the current day, in epoch days.
+     */
+    private void validate(final EmployeeColumns columns, final int from, final int to, final int[] result, final long today) {
+        for (var i = 0; i < checks.length; i++) {
+            final var field = fields[i];
+            final var violation = violations[i];
+            final var operand = operands[i];
+            switch (checks[i]) {
+                case NOT_NULL:
+                    if (field.getType() == EmployeeRule.Type.TEXT) {
+                        final var texts = columns.text(field);
+                        for (var row = from; row < to; row++) {
+                            if (isNull(texts[row])) {
+                                result[row] |= violation;
+                            }
+                        }
+                    } else if (field.getType() == EmployeeRule.Type.DATE) {
+                        final var dates = columns.date(field);
+                        for (var row = from; row < to; row++) {
+                            if (dates[row] == EmployeeColumns.NULL_DATE) {
+                                result[row] |= violation;
+                            }
+                        }
+                    } else if (field.getType() == EmployeeRule.Type.DOCUMENT_TYPE) {
+                        final var documentTypes = columns.documentTypes;
+                        for (var row = from; row < to; row++) {
+                            if (documentTypes[row] == EmployeeColumns.NULL_DOCUMENT_TYPE) {
+                                result[row] |= violation;
+                            }
+                        }
+                    }
+                    break;
+                case NOT_BLANK:
+                    final var blankTexts = columns.text(field);
+                    for (var row = from; row < to; row++) {
+                        if ((result[row] & violation) == 0 && isBlank(blankTexts[row])) {
+                            result[row] |= violation;
+                        }
+                    }
+                    break;
+                case MIN_LENGTH:
+                    final var minTexts = columns.text(field);
+                    for (var row = from; row < to; row++) {
+                        if ((result[row] & violation) == 0 && (isNull(minTexts[row]) || minTexts[row].length() < operand)) {
+                            result[row] |= violation;
+                        }
+                    }
+                    break;
+                case MAX_LENGTH:
+                    final var maxTexts = columns.text(field);
+                    for (var row = from; row < to; row++) {
+                        if ((result[row] & violation) == 0 && (isNull(maxTexts[row]) || maxTexts[row].length() > operand)) {
+                            result[row] |= violation;
+                        }
+                    }
+                    break;
+                case ALPHANUMERIC:
+                    final var alphanumericTexts = columns.text(field);
+                    for (var row = from; row < to; row++) {
+                        if ((result[row] & violation) == 0 && !isAlphanumeric(alphanumericTexts[row])) {
+                            result[row] |= violation;
+                        }
+                    }
+                    break;
+                case ONE_OF:
+                    final var documentTypes = columns.documentTypes;
+                    for (var row = from; row < to; row++) {
+                        final var documentType = documentTypes[row];
+                        if (documentType == EmployeeColumns.NULL_DOCUMENT_TYPE || (operand & 1L << documentType) == 0) {
+                            result[row] |= violation;
+                        }
+                    }
+                    break;
+                case MIN:
+                    final var minSalaries = columns.salaries;
+                    for (var row = from; row < to; row++) {
+                        if (minSalaries[row] < operand) {
+                            result[row] |= violation;
+                        }
+                    }
+                    break;
+                case MAX:
+                    final var maxSalaries = columns.salaries;
+                    for (var row = from; row < to; row++) {
+                        if (maxSalaries[row] > operand) {
+                            result[row] |= violation;
+                        }
+                    }
+                    break;
+                case GREATER_THAN:
+                    final var salaries = columns.salaries;
+                    for (var row = from; row < to; row++) {
+                        if (salaries[row] <= operand) {
+                            result[row] |= violation;
+                        }
+                    }
+                    break;
+                case MAX_DAYS_AFTER_TODAY:
+                    final var notAfterDates = columns.date(field);
+                    final var lastDay = today + operand;
+                    for (var row = from; row < to; row++) {
+                        if (notAfterDates[row] == EmployeeColumns.NULL_DATE || notAfterDates[row] > lastDay) {
+                            result[row] |= violation;
+                        }
+                    }
+                    break;
+                case MAX_DAYS_BEFORE_TODAY:
+                    final var notBeforeDates = columns.date(field);
+                    final var firstDay = today - operand;
+                    for (var row = from; row < to; row++) {
+                        if (notBeforeDates[row] == EmployeeColumns.NULL_DATE || notBeforeDates[row] < firstDay) {
+                            result[row] |= violation;
+                        }
+                    }
+                    break;
+                case NOT_BEFORE_BIRTH_DATE:
+                    final var dates = columns.date(field);
+                    final var birthDates = columns.birthDates;
+                    for (var row = from; row < to; row++) {
+                        if (dates[row] == EmployeeColumns.NULL_DATE
+                                || (birthDates[row] != EmployeeColumns.NULL_DATE && dates[row] < birthDates[row])) {
+                            result[row] |= violation;
+                        }
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown check " + checks[i]);
+            }
+        }
+    }
+
+    /**
+     * Number of rules.
+     *
+     * @return the number of rules.
+     */
+    public int size() {
+        return checks.length;
+    }
+
+    /**
+     * Name of a rule.
+     *
+     * @param index the rule index.
+     * @return the rule name.
+     */
+    public String name(final int index) {
+        return names[index];
+    }
+
+    /**
+     * Cost of a rule.
+     *
+     * @param index the rule index.
+     * @return the rule cost.
+     */
+    public Cost cost(final int index) {
+        return costs[index];
+    }
+
+    /**
+     * Run a rule.
+     *
+     * @param i       the rule index.
+     * @param request the employee request fields.
+     * @param today   the current day, in epoch days.
+     * @return flag that indicates if the field passes the rule.
+     */
+    private boolean test(final int i, final EmployeeRequestFields request, final long today) {
+        final var field = fields[i];
+        switch (checks[i]) {
+            case NOT_NULL:
+                return field == Field.SALARY || !isNull(value(field, request));
+            case NOT_BLANK:
+                return !isBlank(text(field, request));
+            case MIN_LENGTH:
+                final var minText = text(field, request);
+                return !isNull(minText) && minText.length() >= operands[i];
+            case MAX_LENGTH:
+                final var maxText = text(field, request);
+                return !isNull(maxText) && maxText.length() <= operands[i];
+            case ALPHANUMERIC:
+                return isAlphanumeric(text(field, request));
+            case ONE_OF:
+                final var documentType = request.getDocumentType();
+                return !isNull(documentType) && (operands[i] & 1L << documentType.ordinal()) != 0;
+            case MIN:
+                return request.getSalary() >= operands[i];
+            case MAX:
+                return request.getSalary() <= operands[i];
+            case GREATER_THAN:
+                return request.getSalary() > operands[i];
+            case MAX_DAYS_AFTER_TODAY:
+                final var notAfter = date(field, request);
+                return !isNull(notAfter) && notAfter.toEpochDay() <= today + operands[i];
+            case MAX_DAYS_BEFORE_TODAY:
+                final var notBefore = date(field, request);
+                return !isNull(notBefore) && notBefore.toEpochDay() >= today - operands[i];
+            case NOT_BEFORE_BIRTH_DATE:
+                final var date = date(field, request);
+                final var birthDate = request.getBirthDate();
+                return !isNull(date) && (isNull(birthDate) || !date.isBefore(birthDate));
+            default:
+                throw new IllegalStateException("Unknown check " + checks[i]);
+        }
+    }
+
+    /**
+     * Value of a non numeric field.
+     *
+     * @param field   the field.
+     * @param request the employee request fields.
+     * @return the value.
+     */
+    private static Object value(final Field field, final EmployeeRequestFields request) {
+        switch (field.getType()) {
+            case TEXT:
+                return text(field, request);
+            case DATE:
+                return date(field, request);
+            default:
+                return request.getDocumentType();
+        }
+    }
+
+    /**
+     * Value of a text field.
+     *
+     * @param field   the field.
+     * @param request the employee request fields.
+     * @return the text.
+     */
+    private static String text(final Field field, final EmployeeRequestFields request) {
+        switch (field) {
+            case FIRST_NAME:
+                return request.getFirstName();
+            case LAST_NAME:
+                return request.getLastName();
+            case CARGO:
+                return request.getCargo();
+            default:
+                return request.getDocumentNumber();
+        }
+    }
+
+    /**
+     * Value of a date field.
+     *
+     * @param field   the field.
+     * @param request the employee request fields.
+     * @return the date.
+     */
+    private static LocalDate date(final Field field, final EmployeeRequestFields request) {
+        return field == Field.BIRTH_DATE ? request.getBirthDate() : request.getJobStartDate();
+    }
+
+    /**
+     * Validate a text has only ASCII letters and digits.
+     *
+     * @param text the text.
+     * @return flag that indicates if the text is not null and alphanumeric.
+     */
+    private static boolean isAlphanumeric(final String text) {
+        if (isNull(text)) {
+            return false;
+        }
+        for (var i = 0; i < text.length(); i++) {
+            final var c = text.charAt(i);
+            if (c >= ALPHANUMERIC_CHARS.length || !ALPHANUMERIC_CHARS[c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parse the operand of a rule.
+     *
+     * @param program the program being compiled.
+     * @param i       the rule index.
+     * @param rule    the rule.
+     * @throws IllegalArgumentException if the operand is missing or not valid.
+     */
+    private static void compileOperand(final EmployeeRuleProgram program, final int i, final EmployeeRule rule) {
+        final var value = isNull(rule.getValue()) ? null : rule.getValue().trim();
+        try {
+            switch (rule.getCheck()) {
+                case MIN_LENGTH:
+                case MAX_LENGTH:
+                    program.operands[i] = Integer.parseUnsignedInt(required(value, rule));
+                    break;
+                case MAX_DAYS_AFTER_TODAY:
+                case MAX_DAYS_BEFORE_TODAY:
+                    program.operands[i] = Long.parseLong(required(value, rule));
+                    break;
+                case MIN:
+                case MAX:
+                case GREATER_THAN:
+                    program.operands[i] = SalaryUtil.parse(required(value, rule));
+                    break;
+                case ONE_OF:
+                    program.operands[i] = documentTypesMask(required(value, rule), rule);
+                    break;
+                default:
+                    break;
+            }
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Rule " + rule.metricName() + " has a non valid value: " + value, ex);
+        }
+    }
+
+    /**
+     * Mask of the document types of a comma separated list.
+     *
+     * @param value the document types.
+     * @param rule  the rule.
+     * @return the mask, by document type ordinal.
+     * @throws IllegalArgumentException if a document type is unknown.
+     */
+    private static long documentTypesMask(final String value, final EmployeeRule rule) {
+        var mask = 0L;
+        for (final var name : value.split(",")) {
+            final var documentType = EmployeeDocumentType.fromValue(name.trim());
+            if (isNull(documentType)) {
+                throw new IllegalArgumentException("Rule " + rule.metricName() + " has an unknown document type: " + name);
+            }
+            mask |= 1L << documentType.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Check the rule has an operand.
+     *
+     * @param value the operand.
+     * @param rule  the rule.
+     * @return the operand.
+     * @throws IllegalArgumentException if the operand is missing.
+     */
+    private static String required(final String value, final EmployeeRule rule) {
+        if (isNull(value) || value.isEmpty()) {
+            throw new IllegalArgumentException("Rule " + rule.metricName() + " needs a value");
+        }
+        return value;
+    }
+
+    /**
+     * Create the valid alphanumeric characters table.
+     *
+     * @return the table, by ASCII code.
+     */
+    private static boolean[] createAlphanumericChars() {
+        final var chars = new boolean[128];
+        for (var c = '0'; c <= '9'; c++) {
+            chars[c] = true;
+        }
+        for (var c = 'A'; c <= 'Z'; c++) {
+            chars[c] = true;
+            chars[Character.toLowerCase(c)] = true;
+        }
+        return chars;
+    }
+
+    /**
+     * Fork/join task checking a range of rows, split in halves down to {@value #ROWS_PER_TASK} rows.
+     */
+    private final class ColumnsTask extends RecursiveAction {
+
+        /**
+         * Employee requests, by column
+         */
+        private final EmployeeColumns columns;
+
+        /**
+         * First row of the range
+         */
+        private final int from;
+
+        /**
+         * Row after the last one of the range
+         */
+        private final int to;
+
+        /**
+         * Violations bitmask of each row
+         */
+        private final int[] result;
+
+        /**
+         * Current day, in epoch days
+         */
+        private final long today;
+
+        /**
+         * Build the task.
+         *
+         * @param columns the employee requests, by column.
+         * @param from    the first row.
+         * @param to      the row after the last one.
+         * @param result  the violations bitmask of each row.
+         * @param today   the current day, in epoch days.
+         */
+        private ColumnsTask(final EmployeeColumns columns, final int from, final int to, final int[] result, final long today) {
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+            this.result = result;
+            this.today = today;
+        }
+
+        /**
+         * Check the range, or split it and check the halves in parallel.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                validate(columns, from, to, result, today);
+                return;
+            }
+            final var middle = (from + to) >>> 1;
+            invokeAll(new ColumnsTask(columns, from, middle, result, today),
+                    new ColumnsTask(columns, middle, to, result, today));
+        }
+    }
+
+    /**
+     * Sampled evaluation time of a rule
+     */
+    public static final class Cost {
+
+        /**
+         * Timed evaluations
+         */
+        private final LongAdder samples = new LongAdder();
+
+        /**
+         * Total time of the timed evaluations, in nanoseconds
+         */
+        private final LongAdder nanos = new LongAdder();
+
+        /**
+         * Record a timed evaluation.
+         *
+         * @param elapsed the evaluation time, in nanoseconds.
+         */
+        void record(final long elapsed) {
+            samples.increment();
+            nanos.add(elapsed);
+        }
+
+        /**
+         * Number of timed evaluations.
+         *
+         * @return the number of samples.
+         */
+        public long samples() {
+            return samples.sum();
+        }
+
+        /**
+         * Total time of the timed evaluations.
+         *
+         * @return the time, in nanoseconds.
+         */
+        public double totalNanos() {
+            return nanos.sum();
+        }
+    }
+}
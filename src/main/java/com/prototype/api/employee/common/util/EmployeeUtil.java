@@ -4,9 +4,13 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.xml.datatype.DatatypeConfigurationException;
+import javax.xml.datatype.DatatypeConstants;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 
 /**
  * Employee Utils class
@@ -17,6 +21,31 @@ import java.time.LocalDate;
 @NoArgsConstructor(access = AccessLevel.PACKAGE)
 public class EmployeeUtil {
 
+    /**
+     * Datatype factory, looked up once.
+     */
+    private static final DatatypeFactory DATATYPE_FACTORY = createDatatypeFactory();
+
+    /**
+     * Current day, refreshed when the day ends.
+     */
+    private static volatile CurrentDay currentDay = CurrentDay.of(System.currentTimeMillis());
+
+    /**
+     * Current date in the system time zone, without a clock and time zone lookup on each call.
+     *
+     * @return the current {@linkplain LocalDate}.
+     */
+    public static LocalDate today() {
+        final var now = System.currentTimeMillis();
+        var day = currentDay;
+        if (now >= day.endMillis || now < day.startMillis) {
+            day = CurrentDay.of(now);
+            currentDay = day;
+        }
+        return day.date;
+    }
+
     /**
      * Extract {@linkplain XMLGregorianCalendar} from a {@linkplain LocalDate} object.
      *
@@ -26,7 +55,8 @@ public class EmployeeUtil {
     public static XMLGregorianCalendar extractDateFromLocalDate(final LocalDate localDate) {
 
         try {
-            return DatatypeFactory.newInstance().newXMLGregorianCalendar(localDate.toString());
+            return DATATYPE_FACTORY.newXMLGregorianCalendarDate(localDate.getYear(), localDate.getMonthValue(),
+                    localDate.getDayOfMonth(), DatatypeConstants.FIELD_UNDEFINED);
         } catch (Exception ex) {
             log.warn("Error during converting LocalDate to XMLGregorianCalendar, Message", ex);
             return null;
@@ -44,4 +74,63 @@ public class EmployeeUtil {
         return LocalDate.of(xmlGregorianCalendar.getYear(), xmlGregorianCalendar.getMonth(), xmlGregorianCalendar.getDay());
     }
 
+    /**
+     * Look up the datatype factory.
+     *
+     * @return a {@linkplain DatatypeFactory} object.
+     */
+    private static DatatypeFactory createDatatypeFactory() {
+        try {
+            return DatatypeFactory.newInstance();
+        } catch (DatatypeConfigurationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Day with its bounds in epoch milliseconds.
+     */
+    private static final class CurrentDay {
+
+        /**
+         * Date of the day
+         */
+        private final LocalDate date;
+
+        /**
+         * Start of the day, in epoch milliseconds
+         */
+        private final long startMillis;
+
+        /**
+         * Start of the next day, in epoch milliseconds
+         */
+        private final long endMillis;
+
+        /**
+         * Build the day.
+         *
+         * @param date        the date.
+         * @param startMillis the start of the day.
+         * @param endMillis   the start of the next day.
+         */
+        private CurrentDay(final LocalDate date, final long startMillis, final long endMillis) {
+            this.date = date;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+
+        /**
+         * Build the day of the given instant in the system time zone.
+         *
+         * @param epochMillis the instant, in epoch milliseconds.
+         * @return a {@linkplain CurrentDay} object.
+         */
+        private static CurrentDay of(final long epochMillis) {
+            final var zone = ZoneId.systemDefault();
+            final var date = Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate();
+            return new CurrentDay(date, date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                    date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        }
+    }
 }
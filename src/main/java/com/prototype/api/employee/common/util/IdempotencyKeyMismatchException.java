@@ -0,0 +1,21 @@
+package com.prototype.api.employee.common.util;
+
+/**
+ * Exception of a request that reuses an idempotency key of a different request.
+ *
+ * @author Daniel
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    /**
+     * Message of the exception
+     */
+    public static final String MESSAGE = "The idempotency key was already used with a different request";
+
+    /**
+     * Build the exception.
+     */
+    public IdempotencyKeyMismatchException() {
+        super(MESSAGE, null, false, false);
+    }
+}
@@ -0,0 +1,235 @@
+package com.prototype.api.employee.common.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Salary fixed-point utils.
+ * <p>
+ * Salaries are kept as a {@code long} number of cents. The decimal text is read without {@code BigDecimal} or
+ * {@code double}, rounding half up to the cent, and written as a plain decimal with at least one fraction digit and
+ * no trailing zeros, the text {@code BigDecimal.valueOf(double).toPlainString()} wrote for the same salary.
+ *
+ * @author Daniel
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SalaryUtil {
+
+    /**
+     * Number of fraction digits of a salary.
+     */
+    public static final int SCALE = 2;
+
+    /**
+     * Max length of a written salary: sign, seventeen integer digits, point and two fraction digits.
+     */
+    public static final int MAX_LENGTH = 21;
+
+    /**
+     * Number of cents of a salary unit.
+     */
+    private static final long CENTS = 100;
+
+    /**
+     * Max exponent read, larger exponents overflow any non zero salary.
+     */
+    private static final int MAX_EXPONENT = 1000;
+
+    /**
+     * Parse a decimal salary, as {@code xs:decimal} or a JSON number with an optional exponent.
+     *
+     * @param value the decimal text, surrounding whitespace is ignored.
+     * @return the salary in cents.
+     * @throws NumberFormatException if the text is not a decimal or the salary does not fit in a {@code long}.
+     */
+    public static long parse(final String value) {
+        return parse(value.toCharArray(), 0, value.length());
+    }
+
+    /**
+     * Parse a decimal salary, as {@code xs:decimal} or a JSON number with an optional exponent.
+     *
+     * @param text   the characters of the text.
+     * @param offset the position of the text.
+     * @param length the length of the text.
+     * @return the salary in cents.
+     * @throws NumberFormatException if the text is not a decimal or the salary does not fit in a {@code long}.
+     */
+    public static long parse(final char[] text, final int offset, final int length) {
+        var i = offset;
+        var end = offset + length;
+        while (i < end && text[i] <= ' ') {
+            i++;
+        }
+        while (end > i && text[end - 1] <= ' ') {
+            end--;
+        }
+        final var negative = i < end && text[i] == '-';
+        if (i < end && (text[i] == '-' || text[i] == '+')) {
+            i++;
+        }
+
+        final var mantissa = i;
+        var integerDigits = 0;
+        var fractionDigits = 0;
+        var point = false;
+        for (; i < end; i++) {
+            final var c = text[i];
+            if (c >= '0' && c <= '9') {
+                if (point) {
+                    fractionDigits++;
+                } else {
+                    integerDigits++;
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (integerDigits + fractionDigits == 0) {
+            throw nonValid(text, offset, length);
+        }
+        final var mantissaEnd = i;
+
+        var exponent = 0;
+        if (i < end && (text[i] == 'e' || text[i] == 'E')) {
+            i++;
+            final var negativeExponent = i < end && text[i] == '-';
+            if (i < end && (text[i] == '-' || text[i] == '+')) {
+                i++;
+            }
+            final var start = i;
+            for (; i < end && text[i] >= '0' && text[i] <= '9'; i++) {
+                exponent = Math.min(exponent * 10 + (text[i] - '0'), MAX_EXPONENT);
+            }
+            if (i == start) {
+                throw nonValid(text, offset, length);
+            }
+            exponent = negativeExponent ? -exponent : exponent;
+        }
+        if (i != end) {
+            throw nonValid(text, offset, length);
+        }
+
+        // Power of ten of each mantissa digit before the exponent: the digits down to the cent are read, the next one
+        // only rounds and the rest can not change the cents, so they are skipped and any number of them fits
+        final var roundingPosition = -SCALE - 1 - exponent;
+        var position = integerDigits;
+        var unscaled = 0L;
+        var roundingDigit = 0;
+        for (var j = mantissa; j < mantissaEnd && position > roundingPosition; j++) {
+            if (text[j] == '.') {
+                continue;
+            }
+            final var digit = text[j] - '0';
+            if (--position == roundingPosition) {
+                roundingDigit = digit;
+            } else {
+                if (unscaled > (Long.MAX_VALUE - digit) / 10) {
+                    throw nonValid(text, offset, length);
+                }
+                unscaled = unscaled * 10 + digit;
+            }
+        }
+        if (position == roundingPosition) {
+            position++;
+        }
+
+        var cents = scale(unscaled, position + exponent + SCALE);
+        if (cents >= 0 && roundingDigit >= 5) {
+            cents = cents == Long.MAX_VALUE ? -1 : cents + 1;
+        }
+        if (cents < 0) {
+            throw nonValid(text, offset, length);
+        }
+        return negative ? -cents : cents;
+    }
+
+    /**
+     * Write a salary as a plain decimal.
+     *
+     * @param cents  the salary in cents.
+     * @param out    the characters to write to, with room for {@linkplain #MAX_LENGTH} characters.
+     * @param offset the position to write at.
+     * @return the number of written characters.
+     */
+    public static int format(final long cents, final char[] out, final int offset) {
+        final var magnitude = cents < 0 ? -cents : cents;
+        final var units = Long.divideUnsigned(magnitude, CENTS);
+        final var fraction = (int) Long.remainderUnsigned(magnitude, CENTS);
+
+        var position = offset;
+        if (cents < 0) {
+            out[position++] = '-';
+        }
+        final var unitDigits = digits(units);
+        var value = units;
+        for (var i = position + unitDigits - 1; i >= position; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        position += unitDigits;
+        out[position++] = '.';
+        out[position++] = (char) ('0' + fraction / 10);
+        if (fraction % 10 != 0) {
+            out[position++] = (char) ('0' + fraction % 10);
+        }
+        return position - offset;
+    }
+
+    /**
+     * Format a salary as a plain decimal.
+     *
+     * @param cents the salary in cents.
+     * @return the decimal text.
+     */
+    public static String toPlainString(final long cents) {
+        final var text = new char[MAX_LENGTH];
+        return new String(text, 0, format(cents, text, 0));
+    }
+
+    /**
+     * Scale the unscaled digits up by a power of ten.
+     *
+     * @param unscaled the non negative digits.
+     * @param power    the power of ten, non negative unless the digits are zero.
+     * @return the scaled value, or -1 if it overflows.
+     */
+    private static long scale(final long unscaled, final int power) {
+        var value = unscaled;
+        for (var i = 0; i < power && value != 0; i++) {
+            if (value > Long.MAX_VALUE / 10) {
+                return -1;
+            }
+            value *= 10;
+        }
+        return value;
+    }
+
+    /**
+     * Number of decimal digits of a non negative number, at least one.
+     *
+     * @param value the number.
+     * @return the number of digits.
+     */
+    private static int digits(final long value) {
+        var digits = 1;
+        for (var bound = 10L; digits < 19 && value >= bound; bound *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Build the exception of a non valid salary text.
+     *
+     * @param text   the characters of the text.
+     * @param offset the position of the text.
+     * @param length the length of the text.
+     * @return the exception.
+     */
+    private static NumberFormatException nonValid(final char[] text, final int offset, final int length) {
+        return new NumberFormatException("Non valid salary: " + new String(text, offset, length));
+    }
+}
@@ -0,0 +1,78 @@
+package com.prototype.api.employee.common.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent asynchronous calls with the same key into a single call.
+ * <p>
+ * The first caller of a key starts the call and the callers that arrive while it is in flight share its result. The
+ * in-flight calls are kept in a {@linkplain ConcurrentHashMap}, so callers of different keys do not contend. A call
+ * is removed before its result is published, so a caller that arrives after the result always starts a new call.
+ *
+ * @param <K> the key type.
+ * @param <V> the result type.
+ * @author Daniel
+ */
+public class SingleFlight<K, V> {
+
+    /**
+     * Result promises of the calls in flight, by key
+     */
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Callers that shared a call in flight
+     */
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Run the call of the key, or join the call of the key already in flight.
+     *
+     * @param key  the call key.
+     * @param call the call, only invoked if there is no call of the key in flight.
+     * @return a {@linkplain CompletableFuture} completed with the call result, independent for each caller.
+     */
+    public CompletableFuture<V> execute(final K key, final Supplier<? extends CompletableFuture<V>> call) {
+        final var promise = new CompletableFuture<V>();
+        final var existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.copy();
+        }
+        try {
+            call.get().whenComplete((result, ex) -> {
+                inFlight.remove(key, promise);
+                if (ex != null) {
+                    promise.completeExceptionally(ex);
+                } else {
+                    promise.complete(result);
+                }
+            });
+        } catch (RuntimeException ex) {
+            inFlight.remove(key, promise);
+            promise.completeExceptionally(ex);
+        }
+        return promise.copy();
+    }
+
+    /**
+     * Number of calls in flight.
+     *
+     * @return the number of calls in flight.
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Callers that shared a call in flight.
+     *
+     * @return the number of coalesced callers.
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+}
@@ -0,0 +1,78 @@
+package com.prototype.api.employee.common.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual threads of the running JDK.
+ * <p>
+ * The application is built for Java 11, so the virtual thread API of Java 21 is looked up by reflection. When the
+ * running JDK has no virtual threads, asking for them fails.
+ *
+ * @author Daniel
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreads {
+
+    /**
+     * Property of the virtual thread mode, the one Spring Boot 3.2 uses.
+     */
+    public static final String ENABLED_PROPERTY = "spring.threads.virtual.enabled";
+
+    /**
+     * Flag that indicates if the running JDK has virtual threads.
+     */
+    private static final boolean SUPPORTED = lookUpSupport();
+
+    /**
+     * Check if the running JDK has virtual threads.
+     *
+     * @return flag that indicates if virtual threads are supported.
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task.
+     *
+     * @param namePrefix the prefix of the thread names, followed by a counter.
+     * @return the executor.
+     * @throws IllegalStateException if the running JDK has no virtual threads.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(final String namePrefix) {
+        if (!SUPPORTED) {
+            throw new IllegalStateException("Virtual threads need Java 21 or later, running on Java "
+                    + Runtime.version().feature());
+        }
+        try {
+            final var builderType = Class.forName("java.lang.Thread$Builder");
+            var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            final var factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("Virtual thread executor not available", ex);
+        }
+    }
+
+    /**
+     * Look up the virtual thread builder.
+     *
+     * @return flag that indicates if virtual threads are supported.
+     */
+    private static boolean lookUpSupport() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.prototype.api.employee.infrastructure.in.controller;
+
+import com.prototype.api.employee.service.EmployeeBatchService.ItemPermits;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+/**
+ * Interface for modeling the employee batch controller
+ *
+ * @author Daniel Vargas
+ */
+public interface EmployeeBatchController {
+
+    /**
+     * Creates the employees of a batch given a JSON array or an NDJSON stream of employee requests
+     *
+     * @param body        the batch requests
+     * @param contentType the media type of the body, NDJSON if it is read line by line
+     * @param itemPermits the per-item permits of the client rate limit, or null if the client is not limited
+     * @return The NDJSON stream of item responses, each one written as soon as its Web Service call completes
+     */
+    StreamingResponseBody createEmployees(InputStream body, MediaType contentType, ItemPermits itemPermits);
+}
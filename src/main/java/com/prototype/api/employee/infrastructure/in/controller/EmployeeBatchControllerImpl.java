@@ -0,0 +1,171 @@
+package com.prototype.api.employee.infrastructure.in.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.response.EmployeeBatchItemResponse;
+import com.prototype.api.employee.service.EmployeeBatchService;
+import com.prototype.api.employee.service.EmployeeBatchService.ItemPermits;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.prototype.api.employee.infrastructure.in.filter.ClientRateLimitFilter.ITEM_PERMITS_ATTRIBUTE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+/**
+ * Implementation of the employee batch controller
+ * <p>
+ * An NDJSON body is read line by line, so a malformed line is answered as a malformed item and the batch goes on with
+ * the next line. A JSON array is read as one document: past a syntax error the rest of it can not be read.
+ *
+ * @author Daniel Vargas
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("api")
+@RequiredArgsConstructor
+public class EmployeeBatchControllerImpl implements EmployeeBatchController {
+
+    /**
+     * Employee batch service.
+     */
+    private final EmployeeBatchService employeeBatchService;
+
+    /**
+     * JSON object mapper.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates the employees of a batch given a JSON array or an NDJSON stream of employee requests
+     *
+     * @param body        the batch requests
+     * @param contentType the media type of the body, NDJSON if it is read line by line
+     * @param itemPermits the per-item permits of the client rate limit, or null if the client is not limited
+     * @return The NDJSON stream of item responses, each one written as soon as its Web Service call completes
+     */
+    @Override
+    @PostMapping(value = "batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody createEmployees(final InputStream body,
+                                                 @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) final MediaType contentType,
+                                                 @RequestAttribute(value = ITEM_PERMITS_ATTRIBUTE, required = false) final ItemPermits itemPermits) {
+        final ItemPermits permits = isNull(itemPermits) ? () -> true : itemPermits;
+        return output -> {
+            final var itemWriter = objectMapper.writerFor(EmployeeBatchItemResponse.class);
+            final var requestReader = objectMapper.readerFor(EmployeeControllerRequest.class);
+            try (var requests = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)
+                    ? new NdjsonRequests(requestReader, body) : requestReader.<EmployeeControllerRequest>readValues(body);
+                 var generator = objectMapper.getFactory().createGenerator(output)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                employeeBatchService.createEmployees(requests, permits, item -> {
+                    itemWriter.writeValue(generator, item);
+                    generator.writeRaw('\n');
+                    generator.flush();
+                });
+            }
+        };
+    }
+
+    /**
+     * Employee requests of an NDJSON body, one per non blank line
+     */
+    private static final class NdjsonRequests implements Iterator<EmployeeControllerRequest>, Closeable {
+
+        /**
+         * Employee request reader
+         */
+        private final ObjectReader requestReader;
+
+        /**
+         * Body lines
+         */
+        private final BufferedReader lines;
+
+        /**
+         * Next non blank line, null if it is not read yet or there is none
+         */
+        private String line;
+
+        /**
+         * Build the requests of an NDJSON body.
+         *
+         * @param requestReader the employee request reader.
+         * @param body          the NDJSON body.
+         */
+        NdjsonRequests(final ObjectReader requestReader, final InputStream body) {
+            this.requestReader = requestReader;
+            this.lines = new BufferedReader(new InputStreamReader(body, UTF_8));
+        }
+
+        /**
+         * Read up to the next non blank line.
+         *
+         * @return flag that indicates if there is a next line.
+         */
+        @Override
+        public boolean hasNext() {
+            try {
+                while (isNull(line) || line.isBlank()) {
+                    line = lines.readLine();
+                    if (isNull(line)) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        /**
+         * Parse the next line, consuming it even if it is malformed.
+         *
+         * @return the employee request.
+         */
+        @Override
+        public EmployeeControllerRequest next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final var value = line;
+            line = null;
+            try {
+                return requestReader.readValue(value);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        /**
+         * Close the body.
+         *
+         * @throws IOException in case of error closing the body.
+         */
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.prototype.api.employee.infrastructure.in.controller;
 import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
 import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface for modeling the employee controller
  *
@@ -13,8 +15,10 @@ public interface EmployeeController {
     /**
      * Creates an employee given an employee request
      *
+     * @param idempotencyKey the Idempotency-Key header, optional
+     * @param requestTimeout the X-Request-Timeout header, the time budget in milliseconds, optional
      * @param request the employee data
-     * @return  The created employee data
+     * @return  The created employee data, completed when the Web Service responds
      */
-    EmployeeControllerResponse createEmployee(EmployeeControllerRequest request);
+    CompletableFuture<EmployeeControllerResponse> createEmployee(String idempotencyKey, Long requestTimeout, EmployeeControllerRequest request);
 }
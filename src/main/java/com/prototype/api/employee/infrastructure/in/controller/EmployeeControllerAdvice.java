@@ -0,0 +1,95 @@
+package com.prototype.api.employee.infrastructure.in.controller;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import com.prototype.api.employee.common.util.ConcurrencyLimitExceededException;
+import com.prototype.api.employee.common.util.IdempotencyKeyMismatchException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.ERROR_STATUS;
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildUnexpectedResponse;
+
+/**
+ * Error responses shared by the employee controllers, of both the servlet and the reactive stack
+ *
+ * @author Daniel Vargas
+ */
+@RestControllerAdvice
+public class EmployeeControllerAdvice {
+
+    /**
+     * Message of a request body that can not be read
+     */
+    public static final String NON_READABLE_REQUEST = "The request body is not valid";
+
+    /**
+     * Sheds a creation over the concurrency limit
+     *
+     * @param ex the concurrency limit error
+     * @return a 503 response with the Retry-After header and the error message
+     */
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<EmployeeControllerResponse> handleConcurrencyLimitExceeded(final ConcurrencyLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(buildUnexpectedResponse(ERROR_STATUS, ex.getMessage()));
+    }
+
+    /**
+     * Rejects a request that reuses the idempotency key of a different request
+     *
+     * @param ex the idempotency key error
+     * @return a 422 response with the error message
+     */
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<EmployeeControllerResponse> handleIdempotencyKeyMismatch(final IdempotencyKeyMismatchException ex) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(buildUnexpectedResponse(ERROR_STATUS, ex.getMessage()));
+    }
+
+    /**
+     * Rejects a request body that can not be read, with the message of the field the deserializer rejected
+     *
+     * @param ex the read error of the servlet or the reactive stack
+     * @return a 400 response with the error message
+     */
+    @ExceptionHandler({HttpMessageNotReadableException.class, ServerWebInputException.class})
+    public ResponseEntity<EmployeeControllerResponse> handleNonReadableRequest(final Exception ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(buildUnexpectedResponse(ERROR_STATUS, parseErrorMessage(ex)));
+    }
+
+    /**
+     * Rejects a request body that a controller reads itself, as the transcoding one, when it is not valid JSON
+     *
+     * @param ex the JSON read error
+     * @return a 400 response with the error message, without its location
+     */
+    @ExceptionHandler(JsonProcessingException.class)
+    public ResponseEntity<EmployeeControllerResponse> handleMalformedJson(final JsonProcessingException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(buildUnexpectedResponse(ERROR_STATUS, ex.getOriginalMessage()));
+    }
+
+    /**
+     * Find the message of the JSON parse error of a request body, without its location
+     *
+     * @param ex the read error
+     * @return the parse error message, or {@linkplain #NON_READABLE_REQUEST} if the body was not rejected by the parser
+     */
+    private static String parseErrorMessage(final Throwable ex) {
+        for (var cause = ex; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof JsonParseException) {
+                return ((JsonParseException) cause).getOriginalMessage();
+            }
+        }
+        return NON_READABLE_REQUEST;
+    }
+}
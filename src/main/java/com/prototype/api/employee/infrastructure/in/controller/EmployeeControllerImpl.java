@@ -2,14 +2,21 @@ package com.prototype.api.employee.infrastructure.in.controller;
 
 import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
 import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import com.prototype.api.employee.common.util.Deadline;
 import com.prototype.api.employee.service.EmployeeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.isNull;
+
 /**
  * Implementation of the employee controller
  *
@@ -17,11 +24,22 @@ import org.springframework.web.bind.annotation.RestController;
  */
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("api")
 @RequiredArgsConstructor
 @Slf4j
 public class EmployeeControllerImpl implements EmployeeController {
 
+    /**
+     * Idempotency key header.
+     */
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Request timeout header, with the time budget of the caller in milliseconds.
+     */
+    static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout";
+
     /**
      * Employee service.
      */
@@ -30,14 +48,18 @@ public class EmployeeControllerImpl implements EmployeeController {
     /**
      * Creates an employee given an employee request
      *
+     * @param idempotencyKey the Idempotency-Key header, optional
+     * @param requestTimeout the X-Request-Timeout header, the time budget in milliseconds, optional
      * @param request the employee data
-     * @return The created employee data
+     * @return The created employee data, completed when the Web Service responds
      */
     @Override
     @GetMapping()
-    public EmployeeControllerResponse createEmployee(@RequestBody final EmployeeControllerRequest request) {
-        return employeeService.createEmployee(request);
+    public CompletableFuture<EmployeeControllerResponse> createEmployee(@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+                                                                        @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) final Long requestTimeout,
+                                                                        @RequestBody final EmployeeControllerRequest request) {
+        final var deadline = isNull(requestTimeout) ? Deadline.none() : Deadline.afterMillis(requestTimeout);
+        return employeeService.createEmployeeAsync(request, idempotencyKey, deadline);
     }
 
-
 }
@@ -0,0 +1,22 @@
+package com.prototype.api.employee.infrastructure.in.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface for modeling the employee transcoding controller, the fast path of the employee creation
+ *
+ * @author Daniel Vargas
+ */
+public interface EmployeeTranscodingController {
+
+    /**
+     * Creates an employee given its JSON data, transcoded straight to and from the Web Service
+     *
+     * @param body the employee data JSON
+     * @return The created employee data JSON, completed when the Web Service responds
+     * @throws IOException in case of error reading the request
+     */
+    CompletableFuture<byte[]> createEmployee(InputStream body) throws IOException;
+}
@@ -0,0 +1,47 @@
+package com.prototype.api.employee.infrastructure.in.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.prototype.api.employee.service.EmployeeTranscodingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the employee transcoding controller
+ *
+ * @author Daniel Vargas
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("api")
+@RequiredArgsConstructor
+@ConditionalOnExpression(EmployeeTranscodingService.ENABLED)
+public class EmployeeTranscodingControllerImpl implements EmployeeTranscodingController {
+
+    /**
+     * Employee transcoding service.
+     */
+    private final EmployeeTranscodingService employeeTranscodingService;
+
+    /**
+     * Creates an employee given its JSON data, transcoded straight to and from the Web Service
+     *
+     * @param body the employee data JSON
+     * @return The created employee data JSON, completed when the Web Service responds
+     * @throws IOException in case of error reading the request, a malformed body is answered by
+     *                     {@linkplain EmployeeControllerAdvice#handleMalformedJson(JsonProcessingException)}
+     */
+    @Override
+    @PostMapping(value = "stream", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<byte[]> createEmployee(final InputStream body) throws IOException {
+        return employeeTranscodingService.createEmployee(body);
+    }
+}
@@ -0,0 +1,23 @@
+package com.prototype.api.employee.infrastructure.in.controller;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface for modeling the employee controller of the reactive stack
+ *
+ * @author Daniel Vargas
+ */
+public interface ReactiveEmployeeController {
+
+    /**
+     * Creates an employee given an employee request
+     *
+     * @param idempotencyKey the Idempotency-Key header, optional
+     * @param requestTimeout the X-Request-Timeout header, the time budget in milliseconds, optional
+     * @param request the employee data
+     * @return  The created employee data, emitted when the Web Service responds
+     */
+    Mono<EmployeeControllerResponse> createEmployee(String idempotencyKey, Long requestTimeout, EmployeeControllerRequest request);
+}
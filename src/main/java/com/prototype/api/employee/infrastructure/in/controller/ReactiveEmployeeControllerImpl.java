@@ -0,0 +1,55 @@
+package com.prototype.api.employee.infrastructure.in.controller;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import com.prototype.api.employee.common.util.Deadline;
+import com.prototype.api.employee.service.ReactiveEmployeeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import static com.prototype.api.employee.infrastructure.in.controller.EmployeeControllerImpl.IDEMPOTENCY_KEY_HEADER;
+import static com.prototype.api.employee.infrastructure.in.controller.EmployeeControllerImpl.REQUEST_TIMEOUT_HEADER;
+import static java.util.Objects.isNull;
+
+/**
+ * Implementation of the employee controller of the reactive stack, serving the same route as
+ * {@linkplain EmployeeControllerImpl} on Netty when the application runs with
+ * {@code spring.main.web-application-type=reactive}
+ *
+ * @author Daniel Vargas
+ */
+@RestController
+@RequestMapping("api")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeControllerImpl implements ReactiveEmployeeController {
+
+    /**
+     * Employee service.
+     */
+    private final ReactiveEmployeeService employeeService;
+
+    /**
+     * Creates an employee given an employee request
+     *
+     * @param idempotencyKey the Idempotency-Key header, optional
+     * @param requestTimeout the X-Request-Timeout header, the time budget in milliseconds, optional
+     * @param request the employee data
+     * @return The created employee data, emitted when the Web Service responds
+     */
+    @Override
+    @GetMapping()
+    public Mono<EmployeeControllerResponse> createEmployee(@RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+                                                           @RequestHeader(value = REQUEST_TIMEOUT_HEADER, required = false) final Long requestTimeout,
+                                                           @RequestBody final EmployeeControllerRequest request) {
+        final var deadline = isNull(requestTimeout) ? Deadline.none() : Deadline.afterMillis(requestTimeout);
+        return employeeService.createEmployee(request, idempotencyKey, deadline);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.prototype.api.employee.infrastructure.in.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the web server of the reactive stack
+ * <p>
+ * Tomcat is on the classpath for the servlet stack and Spring Boot would also pick it for the reactive one, so the
+ * reactive stack declares its Netty server.
+ *
+ * @author Daniel
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfiguration {
+
+    /**
+     * Netty web server factory, configured by the {@code server.*} properties.
+     *
+     * @return a {@linkplain NettyReactiveWebServerFactory} object.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
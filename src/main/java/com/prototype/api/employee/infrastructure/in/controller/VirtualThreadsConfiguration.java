@@ -0,0 +1,31 @@
+package com.prototype.api.employee.infrastructure.in.controller;
+
+import com.prototype.api.employee.common.util.VirtualThreads;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the virtual thread mode of the request handling
+ * <p>
+ * When {@code spring.threads.virtual.enabled} is set, Tomcat handles each request on a new virtual thread instead of
+ * its pool of {@code server.tomcat.threads.max} platform threads, so a request blocked on a slow SOAP call holds no
+ * platform thread. It needs Java 21 or later; the application fails to start otherwise.
+ *
+ * @author Daniel
+ */
+@Configuration
+@ConditionalOnProperty(name = VirtualThreads.ENABLED_PROPERTY, havingValue = "true")
+public class VirtualThreadsConfiguration {
+
+    /**
+     * Tomcat customizer that runs the request handling on virtual threads.
+     *
+     * @return a {@linkplain TomcatProtocolHandlerCustomizer} object.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("tomcat-handler-"));
+    }
+}
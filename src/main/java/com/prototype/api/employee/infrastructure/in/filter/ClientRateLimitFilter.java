@@ -0,0 +1,137 @@
+package com.prototype.api.employee.infrastructure.in.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.api.employee.service.EmployeeBatchService.ItemPermits;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.prototype.api.employee.infrastructure.in.filter.ClientRateLimiter.rejectedBody;
+import static com.prototype.api.employee.infrastructure.in.filter.ClientRateLimiter.retryAfterSeconds;
+import static java.util.Objects.isNull;
+
+/**
+ * Servlet filter of the per-client rate limit of the employee creation routes
+ * <p>
+ * Takes a permit of the {@linkplain ClientRateLimiter} before the request body is read, so a rejected request is
+ * answered with 429 and the Retry-After header without parsing nor validating it. A batch pays its first item with
+ * that permit, and each following item takes one more: the filter sets the {@linkplain #ITEM_PERMITS_ATTRIBUTE}
+ * request attribute, that the batch controller charges before each item, so a batch costs as much as its items.
+ * A request without a known API key nor a remote address, only possible on a non IP transport, is not limited.
+ *
+ * @author Daniel
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "employee.rate-limit", name = "enabled", havingValue = "true")
+public class ClientRateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Paths of the employee creation routes: createEmployee, transcoded and batch
+     */
+    private static final Set<String> CREATE_PATHS = Set.of("/api", "/api/", "/api/stream", "/api/batch");
+
+    /**
+     * Path of the batch route
+     */
+    private static final String BATCH_PATH = "/api/batch";
+
+    /**
+     * Request attribute with the {@linkplain ItemPermits} of a batch
+     */
+    public static final String ITEM_PERMITS_ATTRIBUTE = "employee.rate-limit.item-permits";
+
+    /**
+     * Per-client rate limiter
+     */
+    private final ClientRateLimiter rateLimiter;
+
+    /**
+     * Header with the API key of the client
+     */
+    private final String apiKeyHeader;
+
+    /**
+     * Body of a rejected request
+     */
+    private final byte[] rejectedBody;
+
+    /**
+     * Build the filter.
+     *
+     * @param rateLimiter  the per-client rate limiter.
+     * @param properties   the rate limit properties.
+     * @param objectMapper the JSON mapper.
+     * @throws JsonProcessingException in case of error writing the rejected body.
+     */
+    public ClientRateLimitFilter(final ClientRateLimiter rateLimiter, final ClientRateLimitProperties properties,
+                                 final ObjectMapper objectMapper) throws JsonProcessingException {
+        this.rateLimiter = rateLimiter;
+        this.apiKeyHeader = properties.getApiKeyHeader();
+        this.rejectedBody = rejectedBody(objectMapper);
+    }
+
+    /**
+     * Filter only the employee creation routes.
+     *
+     * @param request the request.
+     * @return flag that indicates if the request is not on an employee creation route.
+     */
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !isCreatePath(request.getServletPath());
+    }
+
+    /**
+     * Check if a path is an employee creation route.
+     *
+     * @param path the path within the application.
+     * @return flag that indicates if the path is an employee creation route.
+     */
+    static boolean isCreatePath(final String path) {
+        return CREATE_PATHS.contains(path);
+    }
+
+    /**
+     * Reject the request if its client is over its rate, or else continue the chain.
+     *
+     * @param request  the request.
+     * @param response the response.
+     * @param chain    the filter chain.
+     * @throws ServletException in case of error in the chain.
+     * @throws IOException      in case of error writing the response.
+     */
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain chain) throws ServletException, IOException {
+        final var client = rateLimiter.clientKey(request.getHeader(apiKeyHeader), request.getRemoteAddr());
+        final var waitNanos = isNull(client) ? 0L : rateLimiter.tryAcquire(client);
+        if (waitNanos == 0) {
+            if (!isNull(client) && BATCH_PATH.equals(request.getServletPath())) {
+                final var firstItem = new AtomicBoolean(true);
+                request.setAttribute(ITEM_PERMITS_ATTRIBUTE,
+                        (ItemPermits) () -> firstItem.getAndSet(false) || rateLimiter.tryAcquire(client) == 0);
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds(waitNanos)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(rejectedBody.length);
+        response.getOutputStream().write(rejectedBody);
+    }
+}
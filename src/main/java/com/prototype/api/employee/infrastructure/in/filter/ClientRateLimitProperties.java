@@ -0,0 +1,56 @@
+package com.prototype.api.employee.infrastructure.in.filter;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Per-client rate limit properties of the createEmployee route
+ *
+ * @author Daniel
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.rate-limit")
+public class ClientRateLimitProperties {
+
+    /**
+     * Flag that indicates if the requests of a client over its rate are rejected.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Header with the API key of the client. The clients without a known key are keyed by remote address.
+     */
+    private String apiKeyHeader = "X-API-Key";
+
+    /**
+     * API keys of the known clients, each one with its own bucket. The header is not authenticated, so any other key
+     * is ignored, otherwise a client could get a fresh bucket with each new key.
+     */
+    private Set<String> apiKeys = new HashSet<>();
+
+    /**
+     * Sustained requests per second of a client.
+     */
+    private double permitsPerSecond = 50;
+
+    /**
+     * Requests a client can send at once after being idle.
+     */
+    private int burst = 100;
+
+    /**
+     * Max number of clients tracked at once.
+     */
+    private long maxClients = 500_000;
+
+    /**
+     * Time without requests after which a client is forgotten.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+}
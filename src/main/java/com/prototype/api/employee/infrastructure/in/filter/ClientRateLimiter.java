@@ -0,0 +1,190 @@
+package com.prototype.api.employee.infrastructure.in.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.ERROR_STATUS;
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildUnexpectedResponse;
+import static java.util.Objects.isNull;
+
+/**
+ * Per-client token buckets of the createEmployee route.
+ * <p>
+ * Each client, keyed by its API key if it is one of {@code employee.rate-limit.api-keys} or else by remote address,
+ * has a bucket of {@code employee.rate-limit.burst}
+ * permits refilled at {@code employee.rate-limit.permits-per-second}. A bucket is a single {@linkplain AtomicLong}
+ * with the time at which it is full again, the generic cell rate form of the token bucket, so a permit is taken with
+ * one compare-and-set and the buckets of different clients never contend. The buckets live in a Caffeine cache bounded
+ * to {@code employee.rate-limit.max-clients}, that drops a client idle for {@code employee.rate-limit.idle-timeout};
+ * its bucket is full again by then, so forgetting it changes nothing.
+ *
+ * @author Daniel
+ */
+@Component
+@ConditionalOnProperty(prefix = "employee.rate-limit", name = "enabled", havingValue = "true")
+public class ClientRateLimiter implements MeterBinder {
+
+    /**
+     * Error message of a rejected request
+     */
+    public static final String REJECTED_MESSAGE = "Too many requests, retry later";
+
+    /**
+     * Cache name in the metrics
+     */
+    private static final String CACHE_NAME = "employee.rate-limit";
+
+    /**
+     * Key prefix of the clients keyed by API key
+     */
+    private static final String API_KEY_PREFIX = "key:";
+
+    /**
+     * Key prefix of the clients keyed by remote address
+     */
+    private static final String ADDRESS_PREFIX = "addr:";
+
+    /**
+     * Time between two permits, in nanoseconds
+     */
+    private final long interval;
+
+    /**
+     * Time a bucket can run ahead of the clock, the burst, in nanoseconds
+     */
+    private final long tolerance;
+
+    /**
+     * Clock, in nanoseconds
+     */
+    private final LongSupplier clock;
+
+    /**
+     * API keys of the known clients
+     */
+    private final Set<String> apiKeys;
+
+    /**
+     * Buckets by client, with the time at which each one is full again
+     */
+    private final Cache<String, AtomicLong> buckets;
+
+    /**
+     * Number of rejected requests
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Build the rate limiter.
+     *
+     * @param properties the rate limit properties.
+     */
+    @Autowired
+    public ClientRateLimiter(final ClientRateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    /**
+     * Build the rate limiter over a clock.
+     *
+     * @param properties the rate limit properties.
+     * @param clock      the clock, in nanoseconds.
+     */
+    ClientRateLimiter(final ClientRateLimitProperties properties, final LongSupplier clock) {
+        this.interval = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / properties.getPermitsPerSecond()));
+        this.tolerance = interval * Math.max(1, properties.getBurst());
+        this.clock = clock;
+        this.apiKeys = Set.copyOf(properties.getApiKeys());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Take a permit of a client.
+     *
+     * @param client the client key.
+     * @return 0 if the permit was taken, or else the nanoseconds until the client has a permit again.
+     */
+    public long tryAcquire(final String client) {
+        final var now = clock.getAsLong();
+        final var bucket = buckets.get(client, key -> new AtomicLong(now));
+        while (true) {
+            final var full = bucket.get();
+            final var next = Math.max(full, now) + interval;
+            if (next - now > tolerance) {
+                rejected.increment();
+                return next - now - tolerance;
+            }
+            if (bucket.compareAndSet(full, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Key of a client.
+     *
+     * @param apiKey        the API key of the request, may be null.
+     * @param remoteAddress the remote address of the request, may be null.
+     * @return the API key if it is a known one, or else the remote address, prefixed so they never collide, or
+     * {@code null} if there is neither.
+     */
+    public String clientKey(final String apiKey, final String remoteAddress) {
+        if (!isNull(apiKey) && apiKeys.contains(apiKey)) {
+            return API_KEY_PREFIX + apiKey;
+        }
+        return isNull(remoteAddress) ? null : ADDRESS_PREFIX + remoteAddress;
+    }
+
+    /**
+     * Body of a rejected request.
+     *
+     * @param objectMapper the JSON mapper.
+     * @return the JSON error response.
+     * @throws JsonProcessingException in case of error writing the response.
+     */
+    public static byte[] rejectedBody(final ObjectMapper objectMapper) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(buildUnexpectedResponse(ERROR_STATUS, REJECTED_MESSAGE));
+    }
+
+    /**
+     * Seconds of a Retry-After header.
+     *
+     * @param waitNanos the nanoseconds until the client has a permit again.
+     * @return the seconds, rounded up and at least 1.
+     */
+    public static long retryAfterSeconds(final long waitNanos) {
+        return Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Register the rejected requests counter and the tracked clients cache metrics.
+     *
+     * @param registry the meter registry.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("employee.rate-limit.rejected", rejected, LongAdder::sum)
+                .description("Employee creations rejected by the per-client rate limit")
+                .register(registry);
+        CaffeineCacheMetrics.monitor(registry, buckets, CACHE_NAME);
+    }
+}
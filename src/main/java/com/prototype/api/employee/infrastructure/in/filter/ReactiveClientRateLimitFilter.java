@@ -0,0 +1,91 @@
+package com.prototype.api.employee.infrastructure.in.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import static com.prototype.api.employee.infrastructure.in.filter.ClientRateLimitFilter.isCreatePath;
+import static com.prototype.api.employee.infrastructure.in.filter.ClientRateLimiter.rejectedBody;
+import static com.prototype.api.employee.infrastructure.in.filter.ClientRateLimiter.retryAfterSeconds;
+import static java.util.Objects.isNull;
+
+/**
+ * Web filter of the per-client rate limit of the employee creation routes of the reactive stack
+ * <p>
+ * Same as the {@linkplain ClientRateLimitFilter}, on the Netty event loop. A request without a remote address, such as
+ * one over a Unix domain socket, is only limited by its known API key, instead of sharing one bucket with the others.
+ *
+ * @author Daniel
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnProperty(prefix = "employee.rate-limit", name = "enabled", havingValue = "true")
+public class ReactiveClientRateLimitFilter implements WebFilter {
+
+    /**
+     * Per-client rate limiter
+     */
+    private final ClientRateLimiter rateLimiter;
+
+    /**
+     * Header with the API key of the client
+     */
+    private final String apiKeyHeader;
+
+    /**
+     * Body of a rejected request
+     */
+    private final byte[] rejectedBody;
+
+    /**
+     * Build the filter.
+     *
+     * @param rateLimiter  the per-client rate limiter.
+     * @param properties   the rate limit properties.
+     * @param objectMapper the JSON mapper.
+     * @throws JsonProcessingException in case of error writing the rejected body.
+     */
+    public ReactiveClientRateLimitFilter(final ClientRateLimiter rateLimiter, final ClientRateLimitProperties properties,
+                                         final ObjectMapper objectMapper) throws JsonProcessingException {
+        this.rateLimiter = rateLimiter;
+        this.apiKeyHeader = properties.getApiKeyHeader();
+        this.rejectedBody = rejectedBody(objectMapper);
+    }
+
+    /**
+     * Reject an employee creation request if its client is over its rate, or else continue the chain.
+     *
+     * @param exchange the exchange.
+     * @param chain    the filter chain.
+     * @return a {@linkplain Mono} completed when the request is handled.
+     */
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        final var request = exchange.getRequest();
+        if (!isCreatePath(request.getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        final var remoteAddress = request.getRemoteAddress();
+        final var address = isNull(remoteAddress) || isNull(remoteAddress.getAddress())
+                ? null : remoteAddress.getAddress().getHostAddress();
+        final var client = rateLimiter.clientKey(request.getHeaders().getFirst(apiKeyHeader), address);
+        final var waitNanos = isNull(client) ? 0L : rateLimiter.tryAcquire(client);
+        if (waitNanos == 0) {
+            return chain.filter(exchange);
+        }
+        final var response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds(waitNanos)));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(rejectedBody)));
+    }
+}
@@ -0,0 +1,36 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.model.soap.ObjectFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import java.util.Map;
+
+/**
+ * Configuration of the JAXB marshalling of the SOAP models
+ *
+ * @author Daniel
+ */
+@Configuration
+public class JAXBConfiguration {
+
+    /**
+     * JAXB marshaller pool over the context of the SOAP models, compiled at startup.
+     * <p>
+     * Marshallers write fragments, with the same encoding and schema location as the feign-soap encoder.
+     *
+     * @param properties the SOAP client properties.
+     * @return a {@linkplain JAXBMarshallerPool} object.
+     * @throws JAXBException in case of error compiling the context.
+     */
+    @Bean
+    public JAXBMarshallerPool jaxbMarshallerPool(final SOAPClientProperties properties) throws JAXBException {
+        return new JAXBMarshallerPool(ObjectFactory.class.getPackageName(),
+                Map.of(Marshaller.JAXB_ENCODING, "UTF-8",
+                        Marshaller.JAXB_SCHEMA_LOCATION, "${}",
+                        Marshaller.JAXB_FRAGMENT, Boolean.TRUE),
+                properties.getJaxb().getMaxPooled());
+    }
+}
@@ -0,0 +1,199 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.util.BoundedPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of JAXB marshallers and unmarshallers over an eagerly compiled {@linkplain JAXBContext}.
+ * <p>
+ * The pool is shared by all threads, so it keeps helping when each SOAP call runs on a new virtual thread, and keeps
+ * at most {@code maxIdle} idle instances of each kind. A borrowed instance is used by one thread at a time, and only
+ * released after a successful call, so an instance left in a broken state is never reused.
+ *
+ * @author Daniel
+ */
+public class JAXBMarshallerPool implements MeterBinder {
+
+    /**
+     * Compiled JAXB context
+     */
+    private final JAXBContext context;
+
+    /**
+     * Properties set on every new marshaller
+     */
+    private final Map<String, Object> marshallerProperties;
+
+    /**
+     * Idle marshallers
+     */
+    private final BoundedPool<Marshaller> marshallers;
+
+    /**
+     * Idle unmarshallers
+     */
+    private final BoundedPool<Unmarshaller> unmarshallers;
+
+    /**
+     * Marshallers reused from the pool
+     */
+    private final LongAdder marshallerHits = new LongAdder();
+
+    /**
+     * Marshallers created because the pool was empty
+     */
+    private final LongAdder marshallerMisses = new LongAdder();
+
+    /**
+     * Unmarshallers reused from the pool
+     */
+    private final LongAdder unmarshallerHits = new LongAdder();
+
+    /**
+     * Unmarshallers created because the pool was empty
+     */
+    private final LongAdder unmarshallerMisses = new LongAdder();
+
+    /**
+     * Compile the JAXB context of the given package.
+     *
+     * @param contextPath          the package with the JAXB models and their ObjectFactory.
+     * @param marshallerProperties the properties set on every new marshaller.
+     * @param maxIdle              the max number of idle instances of each kind kept.
+     * @throws JAXBException in case of error compiling the context.
+     */
+    public JAXBMarshallerPool(final String contextPath, final Map<String, Object> marshallerProperties, final int maxIdle) throws JAXBException {
+        this.context = JAXBContext.newInstance(contextPath, JAXBMarshallerPool.class.getClassLoader());
+        this.marshallerProperties = Map.copyOf(marshallerProperties);
+        this.marshallers = new BoundedPool<>(maxIdle);
+        this.unmarshallers = new BoundedPool<>(maxIdle);
+    }
+
+    /**
+     * Borrow a marshaller, creating one if there is none idle.
+     *
+     * @return a {@linkplain Marshaller} object.
+     * @throws JAXBException in case of error creating the marshaller.
+     */
+    public Marshaller borrowMarshaller() throws JAXBException {
+        final var marshaller = marshallers.poll();
+        if (marshaller != null) {
+            marshallerHits.increment();
+            return marshaller;
+        }
+        marshallerMisses.increment();
+        final var created = context.createMarshaller();
+        for (final var property : marshallerProperties.entrySet()) {
+            created.setProperty(property.getKey(), property.getValue());
+        }
+        return created;
+    }
+
+    /**
+     * Give back a marshaller to the pool.
+     *
+     * @param marshaller the borrowed marshaller, no longer used by the caller.
+     */
+    public void release(final Marshaller marshaller) {
+        marshallers.offer(marshaller);
+    }
+
+    /**
+     * Borrow an unmarshaller, creating one if there is none idle.
+     *
+     * @return a {@linkplain Unmarshaller} object.
+     * @throws JAXBException in case of error creating the unmarshaller.
+     */
+    public Unmarshaller borrowUnmarshaller() throws JAXBException {
+        final var unmarshaller = unmarshallers.poll();
+        if (unmarshaller != null) {
+            unmarshallerHits.increment();
+            return unmarshaller;
+        }
+        unmarshallerMisses.increment();
+        return context.createUnmarshaller();
+    }
+
+    /**
+     * Give back an unmarshaller to the pool.
+     *
+     * @param unmarshaller the borrowed unmarshaller, no longer used by the caller.
+     */
+    public void release(final Unmarshaller unmarshaller) {
+        unmarshallers.offer(unmarshaller);
+    }
+
+    /**
+     * Register the pool hit and miss counters.
+     *
+     * @param registry the meter registry.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        registerCounter(registry, "marshaller", "hit", marshallerHits);
+        registerCounter(registry, "marshaller", "miss", marshallerMisses);
+        registerCounter(registry, "unmarshaller", "hit", unmarshallerHits);
+        registerCounter(registry, "unmarshaller", "miss", unmarshallerMisses);
+    }
+
+    /**
+     * Marshallers reused from the pool.
+     *
+     * @return the number of hits.
+     */
+    public long getMarshallerHits() {
+        return marshallerHits.sum();
+    }
+
+    /**
+     * Marshallers created because the pool was empty.
+     *
+     * @return the number of misses.
+     */
+    public long getMarshallerMisses() {
+        return marshallerMisses.sum();
+    }
+
+    /**
+     * Unmarshallers reused from the pool.
+     *
+     * @return the number of hits.
+     */
+    public long getUnmarshallerHits() {
+        return unmarshallerHits.sum();
+    }
+
+    /**
+     * Unmarshallers created because the pool was empty.
+     *
+     * @return the number of misses.
+     */
+    public long getUnmarshallerMisses() {
+        return unmarshallerMisses.sum();
+    }
+
+    /**
+     * Register a pool counter.
+     *
+     * @param registry the meter registry.
+     * @param type     the pooled type.
+     * @param result   the borrow result.
+     * @param counter  the counter.
+     */
+    private static void registerCounter(final MeterRegistry registry, final String type, final String result, final LongAdder counter) {
+        FunctionCounter.builder("soap.jaxb.pool.borrows", counter, LongAdder::sum)
+                .tag("type", type)
+                .tag("result", result)
+                .description("JAXB marshaller pool borrows")
+                .register(registry);
+    }
+}
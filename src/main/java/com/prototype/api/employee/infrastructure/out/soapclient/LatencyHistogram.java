@@ -0,0 +1,204 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Rolling latency histogram with exponential buckets.
+ * <p>
+ * Latencies are counted in a ring of time slots, and a slot is cleared when it is reused, so percentiles cover only
+ * the last {@code windows} slots. Buckets grow 20% each from 100 microseconds, so a percentile is the upper bound of
+ * its bucket, at most 20% above the real value. Recording is lock-free, except the clearing of a reused slot.
+ *
+ * @author Daniel
+ */
+public class LatencyHistogram {
+
+    /**
+     * Number of buckets
+     */
+    private static final int BUCKETS = 64;
+
+    /**
+     * Upper bound of the first bucket, in nanoseconds
+     */
+    private static final long FIRST_BOUND_NANOS = 100_000;
+
+    /**
+     * Growth factor between bucket bounds
+     */
+    private static final double GROWTH = 1.2;
+
+    /**
+     * Upper bound of each bucket, in nanoseconds. The last bucket has no upper bound.
+     */
+    private static final long[] BOUNDS = createBounds();
+
+    /**
+     * Length of a slot, in nanoseconds
+     */
+    private final long slotNanos;
+
+    /**
+     * Ring of slots
+     */
+    private final Slot[] slots;
+
+    /**
+     * Clock, in nanoseconds
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Build a histogram over the system clock.
+     *
+     * @param slot    the length of a slot.
+     * @param windows the number of slots kept.
+     */
+    public LatencyHistogram(final Duration slot, final int windows) {
+        this(slot, windows, System::nanoTime);
+    }
+
+    /**
+     * Build a histogram over the given clock.
+     *
+     * @param slot    the length of a slot.
+     * @param windows the number of slots kept.
+     * @param clock   the clock, in nanoseconds.
+     */
+    LatencyHistogram(final Duration slot, final int windows, final LongSupplier clock) {
+        this.slotNanos = slot.toNanos();
+        this.slots = new Slot[windows];
+        for (var i = 0; i < windows; i++) {
+            slots[i] = new Slot();
+        }
+        this.clock = clock;
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos the latency, in nanoseconds.
+     */
+    public void record(final long nanos) {
+        final var epoch = Math.floorDiv(clock.getAsLong(), slotNanos);
+        final var slot = slots[(int) Math.floorMod(epoch, (long) slots.length)];
+        if (slot.epoch != epoch) {
+            slot.reset(epoch);
+        }
+        slot.counts.incrementAndGet(bucketOf(nanos));
+    }
+
+    /**
+     * Latency at the given percentile.
+     *
+     * @param percentile the percentile, between 0 and 1.
+     * @param minSamples the min number of samples.
+     * @return the latency in nanoseconds, or -1 if there are less samples than the min.
+     */
+    public long valueAtPercentile(final double percentile, final long minSamples) {
+        final var counts = new long[BUCKETS];
+        final var total = collect(counts);
+        if (total == 0 || total < minSamples) {
+            return -1;
+        }
+        final var rank = Math.max(1, (long) Math.ceil(percentile * total));
+        var cumulative = 0L;
+        for (var i = 0; i < BUCKETS; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return BOUNDS[i];
+            }
+        }
+        return BOUNDS[BUCKETS - 1];
+    }
+
+    /**
+     * Number of latencies in the window.
+     *
+     * @return the number of samples.
+     */
+    public long count() {
+        return collect(new long[BUCKETS]);
+    }
+
+    /**
+     * Add the bucket counts of the live slots.
+     *
+     * @param counts the bucket counts to add to.
+     * @return the total count.
+     */
+    private long collect(final long[] counts) {
+        final var epoch = Math.floorDiv(clock.getAsLong(), slotNanos);
+        var total = 0L;
+        for (final var slot : slots) {
+            if (epoch - slot.epoch < slots.length) {
+                for (var i = 0; i < BUCKETS; i++) {
+                    final var count = slot.counts.get(i);
+                    counts[i] += count;
+                    total += count;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Bucket of a latency.
+     *
+     * @param nanos the latency, in nanoseconds.
+     * @return the bucket index.
+     */
+    private static int bucketOf(final long nanos) {
+        final var index = Arrays.binarySearch(BOUNDS, 0, BUCKETS - 1, nanos);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Create the bucket bounds.
+     *
+     * @return the upper bound of each bucket, in nanoseconds.
+     */
+    private static long[] createBounds() {
+        final var bounds = new long[BUCKETS];
+        var bound = (double) FIRST_BOUND_NANOS;
+        for (var i = 0; i < BUCKETS - 1; i++) {
+            bounds[i] = (long) bound;
+            bound *= GROWTH;
+        }
+        bounds[BUCKETS - 1] = Long.MAX_VALUE;
+        return bounds;
+    }
+
+    /**
+     * Time slot of the ring
+     */
+    private static final class Slot {
+
+        /**
+         * Bucket counts
+         */
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+        /**
+         * Slot number of the counts, far in the past while unused
+         */
+        private volatile long epoch = Long.MIN_VALUE / 2;
+
+        /**
+         * Clear the slot for the given slot number, once.
+         *
+         * @param newEpoch the slot number.
+         */
+        private synchronized void reset(final long newEpoch) {
+            if (epoch != newEpoch) {
+                for (var i = 0; i < BUCKETS; i++) {
+                    counts.set(i, 0);
+                }
+                epoch = newEpoch;
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import static com.prototype.api.employee.infrastructure.out.soapclient.SOAPAsyncConfiguration.RESILIENCE_INSTANCE;
+
+/**
+ * Configuration of the non-blocking SOAP Employee client of the reactive stack
+ * <p>
+ * Only loaded when the application runs as a reactive web application, with
+ * {@code spring.main.web-application-type=reactive}.
+ *
+ * @author Daniel
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSOAPConfiguration {
+
+    /**
+     * Name of the bulkhead of the non-blocking SOAP Employee client
+     */
+    public static final String REACTIVE_BULKHEAD = RESILIENCE_INSTANCE + "-reactive";
+
+    /**
+     * Name of the connection pool in the metrics.
+     */
+    private static final String POOL_NAME = "soap-employee-reactive";
+
+    /**
+     * Connection pool of the non-blocking SOAP calls
+     *
+     * @param properties the SOAP client properties.
+     * @return a {@linkplain ConnectionProvider} object.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider soapConnectionProvider(final SOAPClientProperties properties) {
+        final var pool = properties.getPool();
+        final var reactive = properties.getReactive();
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(reactive.getMaxConnections())
+                .pendingAcquireMaxCount(reactive.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(reactive.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getTimeToLive())
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Non-blocking SOAP Employee client
+     *
+     * @param connectionProvider the connection pool.
+     * @param properties         the SOAP client properties.
+     * @param encoder            the envelope encoder.
+     * @param decoder            the envelope decoder.
+     * @param circuitBreakers    the circuit breaker registry.
+     * @param bulkheads          the bulkhead registry.
+     * @param latencyPolicy      the timeouts of the SOAP calls.
+     * @return a {@linkplain ReactiveSOAPEmployeeClient} object.
+     */
+    @Bean
+    public ReactiveSOAPEmployeeClient reactiveSOAPEmployeeClient(final ConnectionProvider connectionProvider,
+                                                                 final SOAPClientProperties properties,
+                                                                 final Encoder encoder, final Decoder decoder,
+                                                                 final CircuitBreakerRegistry circuitBreakers,
+                                                                 final BulkheadRegistry bulkheads,
+                                                                 final SOAPLatencyPolicy latencyPolicy) {
+        final var httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getTimeout().getConnect().toMillis());
+        final var webClient = WebClient.builder()
+                .baseUrl(properties.getUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        return new ReactiveSOAPEmployeeClient(webClient, encoder, decoder,
+                circuitBreakers.circuitBreaker(RESILIENCE_INSTANCE), bulkheads.bulkhead(REACTIVE_BULKHEAD), latencyPolicy);
+    }
+}
@@ -0,0 +1,177 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.model.soap.CreateEmployeeRequest;
+import com.prototype.api.employee.common.model.soap.CreateEmployeeResponse;
+import com.prototype.api.employee.common.util.Deadline;
+import com.prototype.api.employee.common.util.DeadlineExceededException;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Non-blocking SOAP client for consuming Employee web service, used by the reactive stack
+ * <p>
+ * Sends the envelopes through a {@linkplain WebClient} on the Netty event loop, so a call in flight holds no thread.
+ * The envelopes are written and read by the same Feign {@linkplain Encoder} and {@linkplain Decoder} as the
+ * {@linkplain SOAPEmployeeClient}, over the JAXB models. The calls go through a bulkhead, that caps the calls in
+ * flight and rejects the excess at once, and the circuit breaker of the SOAP Employee client. Each call takes its
+ * read timeout from the {@linkplain SOAPLatencyPolicy}, capped to the remaining budget of its {@linkplain Deadline},
+ * and fails with a {@linkplain DeadlineExceededException}, without I/O, when the deadline passed before it was sent,
+ * or when it failed once the deadline passed, so the circuit breaker ignores it; there is no hedged attempt.
+ *
+ * @author Daniel
+ */
+@RequiredArgsConstructor
+public class ReactiveSOAPEmployeeClient {
+
+    /**
+     * SOAP Employee web service path
+     */
+    static final String PATH = "/ws";
+
+    /**
+     * Request the decoded responses refer to
+     */
+    private static final Request DECODED_REQUEST = Request.create(Request.HttpMethod.POST, PATH, Map.of(), null, UTF_8, null);
+
+    /**
+     * Web client over the SOAP Employee web service url
+     */
+    private final WebClient webClient;
+
+    /**
+     * Envelope encoder
+     */
+    private final Encoder encoder;
+
+    /**
+     * Envelope decoder
+     */
+    private final Decoder decoder;
+
+    /**
+     * Circuit breaker of the SOAP calls
+     */
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Bulkhead of the non-blocking SOAP calls
+     */
+    private final Bulkhead bulkhead;
+
+    /**
+     * Timeouts of the SOAP calls
+     */
+    private final SOAPLatencyPolicy latencyPolicy;
+
+    /**
+     * Create a request to create an employee to WebService
+     *
+     * @param request  a {@linkplain CreateEmployeeRequest} object with request data.
+     * @param deadline the deadline of the inbound request.
+     * @return a {@linkplain Mono} with the {@linkplain CreateEmployeeResponse} of the service.
+     */
+    public Mono<CreateEmployeeResponse> createEmployee(final CreateEmployeeRequest request, final Deadline deadline) {
+        return Mono.defer(() -> {
+            if (deadline.isExpired()) {
+                latencyPolicy.recordExpired(false);
+                return Mono.error(new DeadlineExceededException());
+            }
+            return call(request, deadline);
+        });
+    }
+
+    /**
+     * Run the SOAP call through the bulkhead and the circuit breaker.
+     *
+     * @param request  the request.
+     * @param deadline the deadline of the inbound request.
+     * @return a {@linkplain Mono} with the {@linkplain CreateEmployeeResponse} of the service.
+     */
+    private Mono<CreateEmployeeResponse> call(final CreateEmployeeRequest request, final Deadline deadline) {
+        return Mono.fromCallable(() -> encode(request))
+                .flatMap(envelope -> post(envelope, deadline))
+                .map(this::decode)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+
+    /**
+     * Post the envelope, recording the call latency unless it failed because the deadline passed.
+     *
+     * @param envelope the SOAP envelope bytes.
+     * @param deadline the deadline of the inbound request.
+     * @return a {@linkplain Mono} with the response body bytes.
+     */
+    private Mono<byte[]> post(final byte[] envelope, final Deadline deadline) {
+        return Mono.defer(() -> {
+            final var readTimeout = Duration.ofMillis(latencyPolicy.nextOptions(deadline).readTimeoutMillis());
+            final var start = System.nanoTime();
+            return webClient.post()
+                    .uri(PATH)
+                    .contentType(MediaType.TEXT_XML)
+                    .accept(MediaType.TEXT_XML)
+                    .bodyValue(envelope)
+                    .retrieve()
+                    .bodyToMono(byte[].class)
+                    .defaultIfEmpty(new byte[0])
+                    .timeout(readTimeout)
+                    .doOnSuccess(body -> latencyPolicy.record(System.nanoTime() - start))
+                    .onErrorMap(ex -> latencyPolicy.recordFailure(ex, deadline, System.nanoTime() - start));
+        });
+    }
+
+    /**
+     * Write the envelope of the request.
+     *
+     * @param request the request.
+     * @return the SOAP envelope bytes.
+     */
+    private byte[] encode(final CreateEmployeeRequest request) {
+        final var template = new RequestTemplate();
+        encoder.encode(request, CreateEmployeeRequest.class, template);
+        return template.body();
+    }
+
+    /**
+     * Read the response from the envelope.
+     *
+     * @param body the SOAP envelope bytes of the response.
+     * @return the response.
+     */
+    private CreateEmployeeResponse decode(final byte[] body) {
+        final var response = Response.builder()
+                .status(200)
+                .reason("OK")
+                .request(DECODED_REQUEST)
+                .headers(Map.of())
+                .body(body)
+                .build();
+        try {
+            final var decoded = (CreateEmployeeResponse) decoder.decode(response, CreateEmployeeResponse.class);
+            if (decoded == null) {
+                throw new DecodeException(response.status(), "Empty SOAP response", DECODED_REQUEST);
+            }
+            return decoded;
+        } catch (IOException ex) {
+            throw new DecodeException(response.status(), ex.toString(), DECODED_REQUEST, ex);
+        }
+    }
+}
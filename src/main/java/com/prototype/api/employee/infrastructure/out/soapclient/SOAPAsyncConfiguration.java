@@ -0,0 +1,84 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.util.VirtualThreads;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of the asynchronous SOAP Employee client
+ * <p>
+ * The SOAP calls run on a bounded pool of platform threads, or on a new virtual thread each when
+ * {@code spring.threads.virtual.enabled} is set on Java 21 or later; the bulkhead then caps the calls in flight.
+ *
+ * @author Daniel
+ */
+@Configuration
+public class SOAPAsyncConfiguration {
+
+    /**
+     * Name of the circuit breaker and bulkhead of the SOAP Employee client
+     */
+    public static final String RESILIENCE_INSTANCE = "employee";
+
+    /**
+     * Name prefix of the threads running the SOAP calls
+     */
+    private static final String THREAD_NAME_PREFIX = "soap-client-";
+
+    /**
+     * Timeouts and hedging of the SOAP Employee calls
+     *
+     * @param properties the SOAP client properties.
+     * @return a {@linkplain SOAPLatencyPolicy} object.
+     */
+    @Bean
+    public SOAPLatencyPolicy soapLatencyPolicy(final SOAPClientProperties properties) {
+        return new SOAPLatencyPolicy(properties);
+    }
+
+    /**
+     * Asynchronous SOAP Employee client
+     *
+     * @param soapEmployeeClient the SOAP Employee client.
+     * @param properties         the SOAP client properties.
+     * @param circuitBreakers    the circuit breaker registry.
+     * @param bulkheads          the bulkhead registry.
+     * @param latencyPolicy      the timeouts and hedging of the SOAP calls.
+     * @param virtualThreads     flag that indicates if the SOAP calls run on virtual threads.
+     * @return a {@linkplain SOAPEmployeeAsyncClient} object.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public SOAPEmployeeAsyncClient soapEmployeeAsyncClient(final SOAPEmployeeClient soapEmployeeClient, final SOAPClientProperties properties,
+                                                           final CircuitBreakerRegistry circuitBreakers, final BulkheadRegistry bulkheads,
+                                                           final SOAPLatencyPolicy latencyPolicy,
+                                                           @Value("${" + VirtualThreads.ENABLED_PROPERTY + ":false}") final boolean virtualThreads) {
+        final var executor = virtualThreads ? VirtualThreads.newThreadPerTaskExecutor(THREAD_NAME_PREFIX)
+                : platformExecutor(properties.getExecutor());
+        return new SOAPEmployeeAsyncClient(soapEmployeeClient, executor,
+                circuitBreakers.circuitBreaker(RESILIENCE_INSTANCE), bulkheads.bulkhead(RESILIENCE_INSTANCE), latencyPolicy);
+    }
+
+    /**
+     * Bounded pool of platform threads running the SOAP calls.
+     *
+     * @param settings the executor settings.
+     * @return the executor.
+     */
+    private static ExecutorService platformExecutor(final SOAPClientProperties.Executor settings) {
+        final var executor = new ThreadPoolExecutor(settings.getPoolSize(), settings.getPoolSize(),
+                settings.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
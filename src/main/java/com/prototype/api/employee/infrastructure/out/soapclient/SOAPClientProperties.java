@@ -0,0 +1,263 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Properties for the SOAP Employee client.
+ *
+ * @author Daniel
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "soap-client")
+public class SOAPClientProperties {
+
+    /**
+     * SOAP Employee web service url.
+     */
+    private String url;
+
+    /**
+     * SOAP envelope codec.
+     */
+    private Codec codec = Codec.STREAMING;
+
+    /**
+     * HTTP connection pool settings.
+     */
+    private Pool pool = new Pool();
+
+    /**
+     * Executor settings for asynchronous calls.
+     */
+    private Executor executor = new Executor();
+
+    /**
+     * JAXB marshalling settings.
+     */
+    private Jaxb jaxb = new Jaxb();
+
+    /**
+     * Call timeout settings.
+     */
+    private Timeout timeout = new Timeout();
+
+    /**
+     * Hedged call settings.
+     */
+    private Hedge hedge = new Hedge();
+
+    /**
+     * Non-blocking client settings, used by the reactive stack.
+     */
+    private Reactive reactive = new Reactive();
+
+    /**
+     * SOAP envelope codecs.
+     */
+    public enum Codec {
+
+        /**
+         * Streaming encoder and StAX decoder, without SOAP DOM.
+         */
+        STREAMING,
+
+        /**
+         * Precompiled byte-template encoder for the create employee request and StAX decoder.
+         */
+        TEMPLATE,
+
+        /**
+         * feign-soap SAAJ encoder and decoder.
+         */
+        SAAJ
+    }
+
+    /**
+     * HTTP connection pool settings for the SOAP Employee client.
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * Max number of pooled connections.
+         */
+        private int maxConnections = 200;
+
+        /**
+         * Max number of pooled connections per route.
+         */
+        private int maxConnectionsPerRoute = 50;
+
+        /**
+         * Max lifetime of a pooled connection.
+         */
+        private Duration timeToLive = Duration.ofMinutes(15);
+
+        /**
+         * Keep-alive used when the server does not send a Keep-Alive header.
+         */
+        private Duration keepAlive = Duration.ofSeconds(30);
+
+        /**
+         * Idle time after which a pooled connection is evicted.
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        /**
+         * Inactivity period after which a pooled connection is validated before reuse.
+         */
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+    }
+
+    /**
+     * Executor settings for the asynchronous SOAP Employee client.
+     */
+    @Getter
+    @Setter
+    public static class Executor {
+
+        /**
+         * Number of threads running SOAP calls.
+         */
+        private int poolSize = 50;
+
+        /**
+         * Max number of SOAP calls waiting for a thread.
+         */
+        private int queueCapacity = 500;
+
+        /**
+         * Idle time after which an executor thread is released.
+         */
+        private Duration keepAlive = Duration.ofSeconds(60);
+    }
+
+    /**
+     * JAXB marshalling settings for the SOAP Employee client.
+     */
+    @Getter
+    @Setter
+    public static class Jaxb {
+
+        /**
+         * Max number of idle marshallers and unmarshallers kept, shared by all threads.
+         */
+        private int maxPooled = 64;
+    }
+
+    /**
+     * Call timeout settings for the SOAP Employee client.
+     */
+    @Getter
+    @Setter
+    public static class Timeout {
+
+        /**
+         * Connect timeout.
+         */
+        private Duration connect = Duration.ofSeconds(5);
+
+        /**
+         * Read timeout, used until there are enough samples and as the upper bound of the adaptive timeout.
+         */
+        private Duration read = Duration.ofSeconds(5);
+
+        /**
+         * Flag that enables the read timeout derived from the observed latency.
+         */
+        private boolean adaptive = true;
+
+        /**
+         * Latency percentile the adaptive read timeout is based on.
+         */
+        private double percentile = 0.99;
+
+        /**
+         * Factor applied to the latency percentile.
+         */
+        private double multiplier = 2.0;
+
+        /**
+         * Lower bound of the adaptive read timeout.
+         */
+        private Duration minRead = Duration.ofMillis(250);
+
+        /**
+         * Min number of samples in the latency window to adapt the read timeout.
+         */
+        private int minSamples = 100;
+
+        /**
+         * Length of each latency window slot.
+         */
+        private Duration window = Duration.ofSeconds(10);
+
+        /**
+         * Number of latency window slots kept.
+         */
+        private int windows = 6;
+    }
+
+    /**
+     * Hedged call settings for the SOAP Employee client.
+     */
+    @Getter
+    @Setter
+    public static class Hedge {
+
+        /**
+         * Flag that enables a second attempt when the first one is slower than the hedge percentile. The create
+         * employee call is not idempotent, so the service may see the employee twice.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Latency percentile after which the second attempt is sent.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * Min delay before the second attempt.
+         */
+        private Duration minDelay = Duration.ofMillis(50);
+
+        /**
+         * Max ratio of hedged calls to calls.
+         */
+        private double budget = 0.05;
+
+        /**
+         * Max number of hedged calls that can be sent in a burst.
+         */
+        private int burst = 10;
+    }
+
+    /**
+     * Non-blocking client settings for the SOAP Employee client of the reactive stack.
+     */
+    @Getter
+    @Setter
+    public static class Reactive {
+
+        /**
+         * Max number of connections, each carrying one SOAP call at a time.
+         */
+        private int maxConnections = 1000;
+
+        /**
+         * Max number of SOAP calls waiting for a connection. Calls beyond it fail at once.
+         */
+        private int pendingAcquireMaxCount = 20_000;
+
+        /**
+         * Max time a SOAP call waits for a connection.
+         */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    }
+}
@@ -5,6 +5,8 @@ import feign.codec.Encoder;
 import feign.jaxb.JAXBContextFactory;
 import feign.soap.SOAPDecoder;
 import feign.soap.SOAPEncoder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,6 +32,7 @@ public class SOAPConfiguration {
      * @return a {@linkplain Encoder} object.
      */
     @Bean
+    @ConditionalOnProperty(value = "soap-client.codec", havingValue = "saaj")
     public Encoder feignEncoder(){
         return new SOAPEncoder(jaxbFactory);
     }
@@ -40,8 +43,45 @@ public class SOAPConfiguration {
      * @return a {@linkplain Decoder} object.
      */
     @Bean
+    @ConditionalOnProperty(value = "soap-client.codec", havingValue = "saaj")
     public Decoder soapDecoder(){
         return new SOAPDecoder(jaxbFactory);
     }
 
+    /**
+     * Streaming Feign Encoder
+     *
+     * @param marshallerPool the JAXB marshaller pool.
+     * @return a {@linkplain Encoder} object.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "soap-client.codec", havingValue = "streaming", matchIfMissing = true)
+    public Encoder streamingEncoder(final JAXBMarshallerPool marshallerPool){
+        return new StreamingSOAPEncoder(marshallerPool);
+    }
+
+    /**
+     * Byte-template Feign Encoder
+     *
+     * @param marshallerPool the JAXB marshaller pool.
+     * @return a {@linkplain Encoder} object.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "soap-client.codec", havingValue = "template")
+    public Encoder templateEncoder(final JAXBMarshallerPool marshallerPool){
+        return new TemplateSOAPEncoder(new StreamingSOAPEncoder(marshallerPool));
+    }
+
+    /**
+     * Streaming Feign Decoder, used by the streaming and template codecs
+     *
+     * @param marshallerPool the JAXB marshaller pool.
+     * @return a {@linkplain Decoder} object.
+     */
+    @Bean
+    @ConditionalOnExpression("!'${soap-client.codec:streaming}'.equalsIgnoreCase('saaj')")
+    public Decoder streamingDecoder(final JAXBMarshallerPool marshallerPool){
+        return new StreamingSOAPDecoder(marshallerPool);
+    }
+
 }
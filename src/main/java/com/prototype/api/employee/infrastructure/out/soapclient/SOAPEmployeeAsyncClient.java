@@ -0,0 +1,194 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.model.soap.CreateEmployeeRequest;
+import com.prototype.api.employee.common.model.soap.CreateEmployeeResponse;
+import com.prototype.api.employee.common.util.Deadline;
+import com.prototype.api.employee.common.util.DeadlineExceededException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Asynchronous SOAP client for consuming Employee web service
+ * <p>
+ * Runs the {@linkplain SOAPEmployeeClient} calls on a dedicated bounded executor, so callers are released while
+ * the call is in flight. The calls go through a bulkhead, that caps the calls in flight, and a circuit breaker, that
+ * fails fast while the service is failing or slow. Both reject a call with a failed future. Each attempt takes its
+ * timeouts from the {@linkplain SOAPLatencyPolicy}, and when hedging is enabled a second attempt is sent if the first
+ * one is slower than the hedge delay; the first successful attempt completes the call. A call with a
+ * {@linkplain Deadline} fails with a {@linkplain DeadlineExceededException}, without I/O, when the deadline passes
+ * before it is sent or while it waits for an executor thread, and its timeouts are capped to the remaining budget. An
+ * attempt that fails once its deadline passed fails with a {@linkplain DeadlineExceededException} too, so a short
+ * budget of one caller neither opens the circuit breaker nor skews the latency of the service.
+ *
+ * @author Daniel
+ */
+@RequiredArgsConstructor
+public class SOAPEmployeeAsyncClient {
+
+    /**
+     * Employee SOAP client
+     */
+    private final SOAPEmployeeClient soapEmployeeClient;
+
+    /**
+     * Executor running the SOAP calls
+     */
+    private final Executor executor;
+
+    /**
+     * Circuit breaker of the SOAP calls
+     */
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Bulkhead of the SOAP calls
+     */
+    private final Bulkhead bulkhead;
+
+    /**
+     * Timeouts and hedging of the SOAP calls
+     */
+    private final SOAPLatencyPolicy latencyPolicy;
+
+    /**
+     * Create a request to create an employee to WebService
+     *
+     * @param request a {@linkplain CreateEmployeeRequest} object with request data.
+     * @return a {@linkplain CompletableFuture} completed with the {@linkplain CreateEmployeeResponse} of the service.
+     */
+    public CompletableFuture<CreateEmployeeResponse> createEmployee(final CreateEmployeeRequest request) {
+        return createEmployee(request, Deadline.none());
+    }
+
+    /**
+     * Create a request to create an employee to WebService, within the deadline of the inbound request
+     *
+     * @param request  a {@linkplain CreateEmployeeRequest} object with request data.
+     * @param deadline the deadline of the inbound request.
+     * @return a {@linkplain CompletableFuture} completed with the {@linkplain CreateEmployeeResponse} of the service.
+     */
+    public CompletableFuture<CreateEmployeeResponse> createEmployee(final CreateEmployeeRequest request, final Deadline deadline) {
+        return call(options -> soapEmployeeClient.createEmployee(request, options), deadline);
+    }
+
+    /**
+     * Send an already written envelope to create an employee to WebService
+     *
+     * @param envelope the SOAP envelope bytes of a {@linkplain CreateEmployeeRequest}.
+     * @return a {@linkplain CompletableFuture} completed with the response of the service, as controller response JSON.
+     */
+    public CompletableFuture<byte[]> createEmployeeJson(final byte[] envelope) {
+        return call(options -> soapEmployeeClient.createEmployeeJson(envelope, options), Deadline.none());
+    }
+
+    /**
+     * Run the SOAP call through the bulkhead and the circuit breaker.
+     *
+     * @param call     the SOAP call with the given timeouts.
+     * @param deadline the deadline of the call.
+     * @param <T>      the type of the call response.
+     * @return a {@linkplain CompletableFuture} completed with the response of the service.
+     */
+    private <T> CompletableFuture<T> call(final Function<Request.Options, T> call, final Deadline deadline) {
+        if (deadline.isExpired()) {
+            latencyPolicy.recordExpired(false);
+            return CompletableFuture.failedFuture(new DeadlineExceededException());
+        }
+        final var decorated = CircuitBreaker.decorateCompletionStage(circuitBreaker, () -> callAsync(call, deadline));
+        return Bulkhead.decorateCompletionStage(bulkhead, decorated).get().toCompletableFuture();
+    }
+
+    /**
+     * Run the SOAP call on the executor, with a hedged attempt if the policy allows it.
+     *
+     * @param call     the SOAP call with the given timeouts.
+     * @param deadline the deadline of the call.
+     * @param <T>      the type of the call response.
+     * @return a {@linkplain CompletableFuture} completed with the response of the service.
+     */
+    private <T> CompletableFuture<T> callAsync(final Function<Request.Options, T> call, final Deadline deadline) {
+        final var hedgeDelay = latencyPolicy.hedgeDelayMillis();
+        if (hedgeDelay < 0) {
+            return attempt(call, deadline);
+        }
+
+        final var result = new CompletableFuture<T>();
+        final var pending = new AtomicInteger(1);
+        attempt(call, deadline).whenComplete((response, ex) -> completeAttempt(result, pending, response, ex));
+        CompletableFuture.delayedExecutor(hedgeDelay, TimeUnit.MILLISECONDS).execute(() -> {
+            if (!result.isDone() && !deadline.isExpired() && latencyPolicy.tryAcquireHedge()) {
+                pending.incrementAndGet();
+                attempt(call, deadline).whenComplete((response, ex) -> completeAttempt(result, pending, response, ex));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Complete the call with the first successful attempt, or with the failure of the last one.
+     *
+     * @param result   the call result.
+     * @param pending  the attempts not completed yet.
+     * @param response the attempt response.
+     * @param ex       the attempt failure.
+     * @param <T>      the type of the call response.
+     */
+    private static <T> void completeAttempt(final CompletableFuture<T> result, final AtomicInteger pending,
+                                            final T response, final Throwable ex) {
+        if (ex == null) {
+            result.complete(response);
+        } else if (pending.decrementAndGet() == 0) {
+            result.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Run a SOAP call attempt on the executor, recording its latency unless it failed because the deadline passed.
+     *
+     * @param call     the SOAP call with the given timeouts.
+     * @param deadline the deadline of the call.
+     * @param <T>      the type of the call response.
+     * @return a {@linkplain CompletableFuture} completed with the response of the service.
+     */
+    private <T> CompletableFuture<T> attempt(final Function<Request.Options, T> call, final Deadline deadline) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                if (deadline.isExpired()) {
+                    latencyPolicy.recordExpired(true);
+                    throw new DeadlineExceededException();
+                }
+                final var options = latencyPolicy.nextOptions(deadline);
+                final var start = System.nanoTime();
+                final T response;
+                try {
+                    response = call.apply(options);
+                } catch (RuntimeException ex) {
+                    throw (RuntimeException) latencyPolicy.recordFailure(ex, deadline, System.nanoTime() - start);
+                }
+                latencyPolicy.record(System.nanoTime() - start);
+                return response;
+            }, executor);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * Stop accepting calls and release the executor threads.
+     */
+    public void shutdown() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.prototype.api.employee.infrastructure.out.soapclient;
 
 import com.prototype.api.employee.common.model.soap.CreateEmployeeRequest;
 import com.prototype.api.employee.common.model.soap.CreateEmployeeResponse;
+import feign.Request;
 
 import org.springframework.cloud.openfeign.FeignClient;
 
@@ -25,4 +26,24 @@ public interface SOAPEmployeeClient {
      */
     @PostMapping( value = "/ws" , consumes = MediaType.TEXT_XML_VALUE, produces = MediaType.TEXT_XML_VALUE)
     CreateEmployeeResponse createEmployee(CreateEmployeeRequest request);
+
+    /**
+     * Create a request to create an employee to WebService, with the given timeouts
+     *
+     * @param request a {@linkplain CreateEmployeeRequest} object with request data.
+     * @param options a {@linkplain Request.Options} object with the timeouts of this call.
+     * @return a {@linkplain CreateEmployeeResponse} with the response of the service.
+     */
+    @PostMapping( value = "/ws" , consumes = MediaType.TEXT_XML_VALUE, produces = MediaType.TEXT_XML_VALUE)
+    CreateEmployeeResponse createEmployee(CreateEmployeeRequest request, Request.Options options);
+
+    /**
+     * Send an already written envelope to create an employee to WebService, with the given timeouts
+     *
+     * @param envelope the SOAP envelope bytes of a {@linkplain CreateEmployeeRequest}.
+     * @param options  a {@linkplain Request.Options} object with the timeouts of this call.
+     * @return the response of the service, transcoded into the JSON of the controller response.
+     */
+    @PostMapping( value = "/ws" , consumes = MediaType.TEXT_XML_VALUE, produces = MediaType.TEXT_XML_VALUE)
+    byte[] createEmployeeJson(byte[] envelope, Request.Options options);
 }
@@ -0,0 +1,106 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import feign.Client;
+import feign.httpclient.ApacheHttpClient;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pooled keep-alive HTTP transport for the SOAP Employee client.
+ * <p>
+ * Enabled by default, it can be switched back to the Feign default client with {@code feign.httpclient.enabled=false}.
+ *
+ * @author Daniel
+ */
+@Configuration
+@ConditionalOnClass(ApacheHttpClient.class)
+@ConditionalOnProperty(value = "feign.httpclient.enabled", matchIfMissing = true)
+public class SOAPHttpClientConfiguration {
+
+    /**
+     * Name of the pool in the metrics.
+     */
+    private static final String POOL_NAME = "soap-employee";
+
+    /**
+     * Pooled connection manager
+     *
+     * @param properties the SOAP client properties.
+     * @return a {@linkplain PoolingHttpClientConnectionManager} object.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PoolingHttpClientConnectionManager soapConnectionManager(final SOAPClientProperties properties) {
+        final var pool = properties.getPool();
+        final var connectionManager = new PoolingHttpClientConnectionManager(pool.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(pool.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(pool.getMaxConnectionsPerRoute());
+        connectionManager.setValidateAfterInactivity((int) pool.getValidateAfterInactivity().toMillis());
+        return connectionManager;
+    }
+
+    /**
+     * Apache HTTP client over the pooled connection manager
+     *
+     * @param connectionManager the pooled connection manager.
+     * @param properties        the SOAP client properties.
+     * @return a {@linkplain CloseableHttpClient} object.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient soapHttpClient(final PoolingHttpClientConnectionManager connectionManager, final SOAPClientProperties properties) {
+        final var pool = properties.getPool();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy(pool.getKeepAlive().toMillis()))
+                .evictExpiredConnections()
+                .evictIdleConnections(pool.getMaxIdleTime().toMillis(), TimeUnit.MILLISECONDS)
+                .disableRedirectHandling()
+                .build();
+    }
+
+    /**
+     * Feign client
+     *
+     * @param httpClient the pooled HTTP client.
+     * @return a {@linkplain Client} object.
+     */
+    @Bean
+    public Client feignClient(final HttpClient httpClient) {
+        return new ApacheHttpClient(httpClient);
+    }
+
+    /**
+     * Connection pool metrics
+     *
+     * @param connectionManager the pooled connection manager.
+     * @return a {@linkplain MeterBinder} object.
+     */
+    @Bean
+    public MeterBinder soapConnectionPoolMetrics(final PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME);
+    }
+
+    /**
+     * Keep-alive strategy that honors the server Keep-Alive header and falls back to the configured duration.
+     *
+     * @param defaultKeepAlive the default keep-alive in milliseconds.
+     * @return a {@linkplain ConnectionKeepAliveStrategy} object.
+     */
+    static ConnectionKeepAliveStrategy keepAliveStrategy(final long defaultKeepAlive) {
+        return (response, context) -> {
+            final var keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAlive > 0 ? keepAlive : defaultKeepAlive;
+        };
+    }
+}
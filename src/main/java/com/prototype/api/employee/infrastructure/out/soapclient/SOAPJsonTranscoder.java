@@ -0,0 +1,199 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.prototype.api.employee.common.json.JsonDates;
+import com.prototype.api.employee.common.json.SalarySerializer;
+import com.prototype.api.employee.common.model.soap.LocalDateAdapter;
+import com.prototype.api.employee.common.util.SalaryUtil;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+
+/**
+ * Transcoder of the {@code createEmployeeResponse} SOAP payload into the JSON of the controller response.
+ * <p>
+ * The payload elements are read with StAX and written with a Jackson generator, without building the JAXB, service
+ * and controller response objects. The JSON is the one Jackson writes for the {@code EmployeeControllerResponse}
+ * the service builds from the same payload: the employee data is {@code null} when the payload has no response, the
+ * dates are written with {@linkplain JsonDates} and the salary with {@linkplain SalarySerializer}.
+ *
+ * @author Daniel
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class SOAPJsonTranscoder {
+
+    /**
+     * Employee web service namespace.
+     */
+    private static final String EMPLOYEE_NAMESPACE = "http://localhost:10002/employees";
+
+    /**
+     * JSON names of the employee data, in the order they are written.
+     */
+    private static final String[] EMPLOYEE_FIELDS = {"firstName", "lastName", "documentType", "documentNumber",
+            "birthDate", "jobStartDate", "age", "dateSinceJobStartDate", "cargo", "salary"};
+
+    /**
+     * Index of the birthdate in the employee data.
+     */
+    private static final int BIRTH_DATE = 4;
+
+    /**
+     * Index of the job start date in the employee data.
+     */
+    private static final int JOB_START_DATE = 5;
+
+    /**
+     * Index of the time since the job start in the employee data, read from {@code dateSinceJobStart}.
+     */
+    private static final int DATE_SINCE_JOB_START = 7;
+
+    /**
+     * Index of the salary in the employee data.
+     */
+    private static final int SALARY = 9;
+
+    /**
+     * JSON factory
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * Transcode the SOAP payload into the JSON of the controller response.
+     *
+     * @param reader the reader positioned on the payload start.
+     * @return the JSON bytes.
+     * @throws XMLStreamException in case of malformed XML.
+     * @throws IOException        in case of error writing the JSON.
+     */
+    static byte[] toJson(final XMLStreamReader reader) throws XMLStreamException, IOException {
+        String status = null;
+        String errorMessage = null;
+        String[] employee = null;
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!EMPLOYEE_NAMESPACE.equals(reader.getNamespaceURI())) {
+                skipElement(reader);
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "status":
+                    status = reader.getElementText();
+                    break;
+                case "errorResponseMessage":
+                    errorMessage = reader.getElementText();
+                    break;
+                case "response":
+                    employee = readEmployee(reader);
+                    break;
+                default:
+                    skipElement(reader);
+            }
+        }
+
+        final var json = new ByteArrayBuilder(employee == null ? 128 : 512);
+        try (var generator = JSON_FACTORY.createGenerator(json)) {
+            writeResponse(generator, status, errorMessage, employee);
+        }
+        return json.toByteArray();
+    }
+
+    /**
+     * Write the controller response.
+     *
+     * @param generator    the JSON generator.
+     * @param status       the response status.
+     * @param errorMessage the response error message.
+     * @param employee     the employee data text values, or {@code null} if there is no employee data.
+     * @throws IOException in case of error writing the JSON.
+     */
+    private static void writeResponse(final JsonGenerator generator, final String status, final String errorMessage,
+                                      final String[] employee) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("status", status);
+        generator.writeStringField("errorMessage", errorMessage);
+        generator.writeFieldName("employeeData");
+        if (employee == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartObject();
+            for (var i = 0; i < EMPLOYEE_FIELDS.length; i++) {
+                generator.writeFieldName(EMPLOYEE_FIELDS[i]);
+                final var value = employee[i];
+                if (i == SALARY) {
+                    if (value == null) {
+                        throw new IllegalArgumentException("SOAP Employee response without salary");
+                    }
+                    SalarySerializer.writeSalary(generator, SalaryUtil.parse(value));
+                } else if (value != null && (i == BIRTH_DATE || i == JOB_START_DATE)) {
+                    JsonDates.writeDate(generator, LocalDateAdapter.parse(value));
+                } else {
+                    generator.writeString(value);
+                }
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Read the text values of the employee response, by JSON field index.
+     *
+     * @param reader the reader positioned on the employee response start.
+     * @return the text values, {@code null} for a missing element.
+     * @throws XMLStreamException in case of malformed XML.
+     */
+    private static String[] readEmployee(final XMLStreamReader reader) throws XMLStreamException {
+        final var values = new String[EMPLOYEE_FIELDS.length];
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            final var index = EMPLOYEE_NAMESPACE.equals(reader.getNamespaceURI()) ? employeeIndex(reader.getLocalName()) : -1;
+            if (index < 0) {
+                skipElement(reader);
+            } else {
+                values[index] = reader.getElementText();
+            }
+        }
+        return values;
+    }
+
+    /**
+     * JSON field index of an employee response element.
+     *
+     * @param localName the element name.
+     * @return the index, or -1 if the element is not mapped.
+     */
+    private static int employeeIndex(final String localName) {
+        if ("dateSinceJobStart".equals(localName)) {
+            return DATE_SINCE_JOB_START;
+        }
+        for (var i = 0; i < EMPLOYEE_FIELDS.length; i++) {
+            if (i != DATE_SINCE_JOB_START && EMPLOYEE_FIELDS[i].equals(localName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skip the current element and its content.
+     *
+     * @param reader the reader positioned on the element start.
+     * @throws XMLStreamException in case of malformed XML.
+     */
+    private static void skipElement(final XMLStreamReader reader) throws XMLStreamException {
+        var depth = 1;
+        while (depth > 0) {
+            final var event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+}
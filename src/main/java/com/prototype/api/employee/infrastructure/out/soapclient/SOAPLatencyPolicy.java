@@ -0,0 +1,282 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.util.Deadline;
+import com.prototype.api.employee.common.util.DeadlineExceededException;
+import feign.Request;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Timeouts and hedging of the SOAP Employee calls, derived from the observed call latency.
+ * <p>
+ * The read timeout is the configured percentile of the rolling latency times the multiplier, kept between the min
+ * and the configured read timeout, and refreshed at most once per second. Until the window has enough samples the
+ * configured read timeout is used. A hedged attempt is sent after the hedge percentile, and only while the hedge
+ * budget has tokens: each call adds {@code budget} tokens and each hedge takes one, so hedges can not amplify load
+ * beyond the budget ratio. A call with a {@linkplain Deadline} gets its timeouts capped to the remaining budget, and
+ * the calls whose deadline passed before they were sent are counted. A call that fails once its deadline passed
+ * failed because of the caller budget, not of the service: it is counted apart, its latency is not recorded and it
+ * fails with a {@linkplain DeadlineExceededException}, that the circuit breaker ignores.
+ *
+ * @author Daniel
+ */
+public class SOAPLatencyPolicy implements MeterBinder {
+
+    /**
+     * Time between refreshes of the read timeout, in nanoseconds
+     */
+    private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Expired calls counter name
+     */
+    private static final String EXPIRED_COUNTER = "soap.client.deadline.expired";
+
+    /**
+     * Hedge tokens are kept in thousandths
+     */
+    private static final long TOKEN = 1000;
+
+    /**
+     * Timeout settings
+     */
+    private final SOAPClientProperties.Timeout timeout;
+
+    /**
+     * Hedge settings
+     */
+    private final SOAPClientProperties.Hedge hedge;
+
+    /**
+     * Rolling latency of the SOAP calls
+     */
+    private final LatencyHistogram latency;
+
+    /**
+     * Clock, in nanoseconds
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Options of the next calls
+     */
+    private volatile Request.Options options;
+
+    /**
+     * Time of the next refresh of the options
+     */
+    private volatile long refreshAt;
+
+    /**
+     * Hedge budget, in thousandths of a token
+     */
+    private final AtomicLong hedgeTokens;
+
+    /**
+     * Hedged attempts sent
+     */
+    private final LongAdder hedges = new LongAdder();
+
+    /**
+     * Calls whose deadline passed before they were started
+     */
+    private final LongAdder expiredBeforeCall = new LongAdder();
+
+    /**
+     * Attempts whose deadline passed while they waited for an executor thread
+     */
+    private final LongAdder expiredInQueue = new LongAdder();
+
+    /**
+     * Number of calls that failed in flight because the request deadline passed
+     */
+    private final LongAdder expiredInFlight = new LongAdder();
+
+    /**
+     * Build the policy.
+     *
+     * @param properties the SOAP client properties.
+     */
+    public SOAPLatencyPolicy(final SOAPClientProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    /**
+     * Build the policy over the given clock.
+     *
+     * @param properties the SOAP client properties.
+     * @param clock      the clock, in nanoseconds.
+     */
+    SOAPLatencyPolicy(final SOAPClientProperties properties, final LongSupplier clock) {
+        this.timeout = properties.getTimeout();
+        this.hedge = properties.getHedge();
+        this.clock = clock;
+        this.latency = new LatencyHistogram(timeout.getWindow(), timeout.getWindows(), clock);
+        this.options = buildOptions(timeout.getRead().toMillis());
+        this.refreshAt = clock.getAsLong() + REFRESH_NANOS;
+        this.hedgeTokens = new AtomicLong(hedge.getBurst() * TOKEN);
+    }
+
+    /**
+     * Options of the next call.
+     *
+     * @return a {@linkplain Request.Options} object with the connect and read timeouts.
+     */
+    public Request.Options nextOptions() {
+        final var now = clock.getAsLong();
+        if (timeout.isAdaptive() && now - refreshAt >= 0) {
+            refreshAt = now + REFRESH_NANOS;
+            options = buildOptions(adaptiveReadTimeoutMillis());
+        }
+        return options;
+    }
+
+    /**
+     * Options of the next call, with the timeouts capped to the remaining budget of the deadline.
+     *
+     * @param deadline the deadline of the call, not expired.
+     * @return a {@linkplain Request.Options} object with the connect and read timeouts.
+     */
+    public Request.Options nextOptions(final Deadline deadline) {
+        final var next = nextOptions();
+        final var remaining = Math.max(1L, deadline.remainingMillis());
+        if (remaining >= next.readTimeoutMillis() && remaining >= next.connectTimeoutMillis()) {
+            return next;
+        }
+        return new Request.Options(Math.min(next.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                Math.min(next.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS, true);
+    }
+
+    /**
+     * Count a call whose deadline passed before it was sent.
+     *
+     * @param queued flag that indicates if the deadline passed while the call waited for an executor thread.
+     */
+    public void recordExpired(final boolean queued) {
+        (queued ? expiredInQueue : expiredBeforeCall).increment();
+    }
+
+    /**
+     * Record a failed call. A call that failed once its bounded deadline passed, typically on a timeout capped to
+     * the deadline, is counted as expired in flight, without recording its latency, and its failure is replaced by a
+     * {@linkplain DeadlineExceededException}; any other failure is recorded as usual.
+     *
+     * @param ex       the failure of the call.
+     * @param deadline the deadline of the call.
+     * @param nanos    the call latency, in nanoseconds.
+     * @return the failure to report.
+     */
+    public Throwable recordFailure(final Throwable ex, final Deadline deadline, final long nanos) {
+        if (deadline.isBounded() && deadline.isExpired()) {
+            expiredInFlight.increment();
+            return new DeadlineExceededException();
+        }
+        record(nanos);
+        return ex;
+    }
+
+    /**
+     * Record the latency of a call, and add its share of the hedge budget.
+     *
+     * @param nanos the call latency, in nanoseconds.
+     */
+    public void record(final long nanos) {
+        latency.record(nanos);
+        if (hedge.isEnabled()) {
+            final var max = hedge.getBurst() * TOKEN;
+            final var share = (long) (hedge.getBudget() * TOKEN);
+            hedgeTokens.getAndUpdate(tokens -> Math.min(max, tokens + share));
+        }
+    }
+
+    /**
+     * Delay before the hedged attempt of a call.
+     *
+     * @return the delay in milliseconds, or -1 if hedging is disabled or there are not enough samples.
+     */
+    public long hedgeDelayMillis() {
+        if (!hedge.isEnabled()) {
+            return -1;
+        }
+        final var nanos = latency.valueAtPercentile(hedge.getPercentile(), timeout.getMinSamples());
+        if (nanos < 0) {
+            return -1;
+        }
+        return Math.max(hedge.getMinDelay().toMillis(), TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * Take a token of the hedge budget.
+     *
+     * @return flag that indicates if the hedged attempt can be sent.
+     */
+    public boolean tryAcquireHedge() {
+        final var left = hedgeTokens.getAndUpdate(tokens -> tokens >= TOKEN ? tokens - TOKEN : tokens);
+        if (left < TOKEN) {
+            return false;
+        }
+        hedges.increment();
+        return true;
+    }
+
+    /**
+     * Register the read timeout gauge, the hedge counter and the expired calls counters.
+     *
+     * @param registry the meter registry.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("soap.client.read.timeout", this, policy -> policy.options.readTimeoutMillis())
+                .baseUnit("milliseconds")
+                .description("Read timeout of the SOAP Employee calls")
+                .register(registry);
+        FunctionCounter.builder("soap.client.hedges", hedges, LongAdder::sum)
+                .description("Hedged SOAP Employee attempts")
+                .register(registry);
+        FunctionCounter.builder(EXPIRED_COUNTER, expiredBeforeCall, LongAdder::sum)
+                .tag("stage", "call")
+                .description("SOAP Employee calls not sent because the request deadline passed")
+                .register(registry);
+        FunctionCounter.builder(EXPIRED_COUNTER, expiredInQueue, LongAdder::sum)
+                .tag("stage", "queue")
+                .description("SOAP Employee calls not sent because the request deadline passed")
+                .register(registry);
+        FunctionCounter.builder(EXPIRED_COUNTER, expiredInFlight, LongAdder::sum)
+                .tag("stage", "flight")
+                .description("SOAP Employee calls failed because the request deadline passed")
+                .register(registry);
+    }
+
+    /**
+     * Read timeout from the latency percentile.
+     *
+     * @return the read timeout, in milliseconds.
+     */
+    private long adaptiveReadTimeoutMillis() {
+        final var max = timeout.getRead().toMillis();
+        final var nanos = latency.valueAtPercentile(timeout.getPercentile(), timeout.getMinSamples());
+        if (nanos < 0) {
+            return max;
+        }
+        final var millis = (long) (TimeUnit.NANOSECONDS.toMillis(nanos) * timeout.getMultiplier());
+        return Math.min(max, Math.max(timeout.getMinRead().toMillis(), millis));
+    }
+
+    /**
+     * Build the call options.
+     *
+     * @param readTimeoutMillis the read timeout, in milliseconds.
+     * @return a {@linkplain Request.Options} object.
+     */
+    private Request.Options buildOptions(final long readTimeoutMillis) {
+        return new Request.Options(timeout.getConnect().toMillis(), TimeUnit.MILLISECONDS,
+                readTimeoutMillis, TimeUnit.MILLISECONDS, true);
+    }
+}
@@ -0,0 +1,190 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.util.BoundedPool;
+import feign.Response;
+import feign.Util;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import lombok.RequiredArgsConstructor;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * Feign decoder that reads the SOAP 1.1 envelope from the response body with StAX.
+ * <p>
+ * The reader is moved to the body content and the payload is unmarshalled straight from it, so no SAAJ
+ * {@code SOAPMessage} DOM is built. A {@code byte[]} result is the payload transcoded by the
+ * {@linkplain SOAPJsonTranscoder} into the JSON of the controller response.
+ *
+ * @author Daniel
+ */
+@RequiredArgsConstructor
+public class StreamingSOAPDecoder implements Decoder {
+
+    /**
+     * SOAP 1.1 envelope namespace.
+     */
+    static final String SOAP_ENVELOPE_NAMESPACE = "http://schemas.xmlsoap.org/soap/envelope/";
+
+    /**
+     * Property of the JDK StAX factory to reuse the last closed reader.
+     */
+    private static final String REUSE_INSTANCE = "reuse-instance";
+
+    /**
+     * Max number of idle StAX factories kept.
+     */
+    private static final int MAX_POOLED_FACTORIES = 64;
+
+    /**
+     * Idle StAX factories, with DTDs and external entities disabled, shared by all threads. A factory is used by one
+     * response at a time, so it can reuse its closed reader instead of allocating the reader buffers on every response.
+     */
+    private static final BoundedPool<XMLInputFactory> XML_INPUT_FACTORIES = new BoundedPool<>(MAX_POOLED_FACTORIES);
+
+    /**
+     * JAXB marshaller pool
+     */
+    private final JAXBMarshallerPool marshallerPool;
+
+    /**
+     * Decode the SOAP envelope in the response body.
+     *
+     * @param response the SOAP response.
+     * @param type     the type of the body content.
+     * @return the unmarshalled body content.
+     * @throws IOException in case of error reading the body.
+     */
+    @Override
+    public Object decode(final Response response, final Type type) throws IOException {
+        if (response.status() == 404) {
+            return Util.emptyValueOf(type);
+        }
+        if (response.body() == null) {
+            return null;
+        }
+
+        var rawType = type;
+        while (rawType instanceof ParameterizedType) {
+            rawType = ((ParameterizedType) rawType).getRawType();
+        }
+        if (!(rawType instanceof Class)) {
+            throw new UnsupportedOperationException("SOAP only supports decoding raw types. Found " + type);
+        }
+
+        final var pooledFactory = XML_INPUT_FACTORIES.poll();
+        final var factory = pooledFactory == null ? createInputFactory() : pooledFactory;
+        try (var body = response.body().asInputStream()) {
+            final var reader = factory.createXMLStreamReader(body);
+            try {
+                final var result = readBody(reader, (Class<?>) rawType, response);
+                // The factory only reuses a reader that reached the end of the document
+                while (reader.hasNext()) {
+                    reader.next();
+                }
+                return result;
+            } finally {
+                reader.close();
+                XML_INPUT_FACTORIES.offer(factory);
+            }
+        } catch (XMLStreamException | JAXBException | IllegalArgumentException ex) {
+            throw new DecodeException(response.status(), ex.toString(), response.request(), ex);
+        }
+    }
+
+    /**
+     * Read the SOAP body content.
+     *
+     * @param reader   the reader over the response body.
+     * @param type     the type of the body content.
+     * @param response the SOAP response.
+     * @return the unmarshalled body content.
+     * @throws XMLStreamException in case of malformed XML.
+     * @throws JAXBException      in case of error unmarshalling the body content.
+     * @throws IOException        in case of error transcoding the body content.
+     */
+    private Object readBody(final XMLStreamReader reader, final Class<?> type, final Response response) throws XMLStreamException, JAXBException, IOException {
+        if (!moveToBody(reader) || reader.nextTag() != XMLStreamConstants.START_ELEMENT) {
+            return Util.emptyValueOf(type);
+        }
+        if (isSoapElement(reader, "Fault")) {
+            throw new DecodeException(response.status(), readFaultString(reader), response.request());
+        }
+        if (type == byte[].class) {
+            return SOAPJsonTranscoder.toJson(reader);
+        }
+        final var unmarshaller = marshallerPool.borrowUnmarshaller();
+        final var content = unmarshaller.unmarshal(reader, type).getValue();
+        marshallerPool.release(unmarshaller);
+        return content;
+    }
+
+    /**
+     * Move the reader to the SOAP body start.
+     *
+     * @param reader the reader over the response body.
+     * @return flag that indicates if the body was found.
+     * @throws XMLStreamException in case of malformed XML.
+     */
+    private static boolean moveToBody(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT && isSoapElement(reader, "Body")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Read the fault string of a SOAP fault.
+     *
+     * @param reader the reader positioned on the fault start.
+     * @return the fault string, or a generic message if there is none.
+     * @throws XMLStreamException in case of malformed XML.
+     */
+    private static String readFaultString(final XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            final var event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT && "faultstring".equals(reader.getLocalName())) {
+                return reader.getElementText();
+            }
+            if (event == XMLStreamConstants.END_ELEMENT && isSoapElement(reader, "Fault")) {
+                break;
+            }
+        }
+        return "SOAP Fault";
+    }
+
+    /**
+     * Validate if the current element is the given SOAP envelope element.
+     *
+     * @param reader    the reader positioned on an element.
+     * @param localName the element name.
+     * @return flag that indicates if the element matches.
+     */
+    private static boolean isSoapElement(final XMLStreamReader reader, final String localName) {
+        return localName.equals(reader.getLocalName()) && SOAP_ENVELOPE_NAMESPACE.equals(reader.getNamespaceURI());
+    }
+
+    /**
+     * Create the StAX factory.
+     *
+     * @return a {@linkplain XMLInputFactory} object.
+     */
+    private static XMLInputFactory createInputFactory() {
+        final var factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        if (factory.isPropertySupported(REUSE_INSTANCE)) {
+            factory.setProperty(REUSE_INSTANCE, Boolean.TRUE);
+        }
+        return factory;
+    }
+}
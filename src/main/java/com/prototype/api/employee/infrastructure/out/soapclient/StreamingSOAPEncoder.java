@@ -0,0 +1,79 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+import lombok.RequiredArgsConstructor;
+
+import javax.xml.bind.JAXBException;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Feign encoder that streams the SOAP 1.1 envelope straight to the request body.
+ * <p>
+ * The envelope is written as constant bytes and the payload is marshalled into it as a fragment, so no SAAJ
+ * {@code SOAPMessage} DOM is built. The output is the same as the one of {@linkplain feign.soap.SOAPEncoder}. A
+ * {@code byte[]} body is taken as an already written envelope and sent as is.
+ *
+ * @author Daniel
+ */
+@RequiredArgsConstructor
+public class StreamingSOAPEncoder implements Encoder {
+
+    /**
+     * XML declaration, envelope and body start.
+     */
+    static final byte[] ENVELOPE_START = ("<?xml version=\"1.0\" encoding=\"UTF-8\" ?>"
+            + "<SOAP-ENV:Envelope xmlns:SOAP-ENV=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<SOAP-ENV:Header/><SOAP-ENV:Body>").getBytes(UTF_8);
+
+    /**
+     * Body and envelope end.
+     */
+    static final byte[] ENVELOPE_END = "</SOAP-ENV:Body></SOAP-ENV:Envelope>".getBytes(UTF_8);
+
+    /**
+     * Initial size of the body buffer.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    /**
+     * JAXB marshaller pool, with marshallers writing fragments
+     */
+    private final JAXBMarshallerPool marshallerPool;
+
+    /**
+     * Encode the object as a SOAP envelope in the request body.
+     *
+     * @param object   the object to encode.
+     * @param bodyType the type of the object.
+     * @param template the request template.
+     */
+    @Override
+    public void encode(final Object object, final Type bodyType, final RequestTemplate template) {
+        if (!(bodyType instanceof Class)) {
+            throw new UnsupportedOperationException("SOAP only supports encoding raw types. Found " + bodyType);
+        }
+        if (bodyType == byte[].class) {
+            template.body((byte[]) object, UTF_8);
+            return;
+        }
+        try {
+            final var marshaller = marshallerPool.borrowMarshaller();
+
+            final var body = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+            body.writeBytes(ENVELOPE_START);
+            marshaller.marshal(object, body);
+            body.writeBytes(ENVELOPE_END);
+
+            marshallerPool.release(marshaller);
+
+            template.body(body.toByteArray(), UTF_8);
+        } catch (JAXBException ex) {
+            throw new EncodeException(ex.toString(), ex);
+        }
+    }
+}
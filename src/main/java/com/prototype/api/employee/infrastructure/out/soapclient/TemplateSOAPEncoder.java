@@ -0,0 +1,369 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.model.soap.CreateEmployeeRequest;
+import com.prototype.api.employee.common.model.soap.EmployeeRequest;
+import com.prototype.api.employee.common.model.soap.LocalDateAdapter;
+import com.prototype.api.employee.common.util.BoundedPool;
+import com.prototype.api.employee.common.util.SalaryUtil;
+import feign.RequestTemplate;
+import feign.codec.Encoder;
+
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Feign encoder that writes the {@linkplain CreateEmployeeRequest} SOAP envelope from precomputed byte fragments.
+ * <p>
+ * The fragments are taken at startup from the output of the streaming encoder for a request with marker values, so
+ * the envelope, namespace declarations and element tags are the exact bytes written by JAXB. On each request only
+ * the escaped field values are written, into a pooled buffer shared by all threads. Any other body type, a null field or a
+ * value that the template can not write as JAXB does, is encoded by the streaming encoder. Dates are written by
+ * the same {@linkplain LocalDateAdapter} JAXB uses, and the salary digits by the same {@linkplain SalaryUtil} as
+ * the {@code SalaryAdapter}.
+ *
+ * @author Daniel
+ */
+public class TemplateSOAPEncoder implements Encoder {
+
+    /**
+     * Marker values of the {@linkplain EmployeeRequest} fields, in the order they are written.
+     */
+    private static final String[] MARKERS = {"{firstName}", "{lastName}", "{documentType}", "{documentNumber}",
+            "1001-01-01", "1002-02-02", "{cargo}", "1003.03"};
+
+    /**
+     * Initial size of the body buffer.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    /**
+     * Max size of a pooled body buffer.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * Max number of idle body buffers kept.
+     */
+    private static final int MAX_POOLED_BUFFERS = 64;
+
+    /**
+     * Encoder used to build the template and to encode what the template can not write.
+     */
+    private final StreamingSOAPEncoder delegate;
+
+    /**
+     * Constant fragments around the field values, one more than the number of fields.
+     */
+    private final byte[][] fragments;
+
+    /**
+     * Idle body buffers.
+     */
+    private final BoundedPool<Buffer> buffers = new BoundedPool<>(MAX_POOLED_BUFFERS);
+
+    /**
+     * Build the template from the output of the streaming encoder.
+     *
+     * @param delegate the streaming encoder.
+     */
+    public TemplateSOAPEncoder(final StreamingSOAPEncoder delegate) {
+        this.delegate = delegate;
+        this.fragments = compile(delegate);
+    }
+
+    /**
+     * Encode the object as a SOAP envelope in the request body.
+     *
+     * @param object   the object to encode.
+     * @param bodyType the type of the object.
+     * @param template the request template.
+     */
+    @Override
+    public void encode(final Object object, final Type bodyType, final RequestTemplate template) {
+        if (bodyType == CreateEmployeeRequest.class && object != null) {
+            final var body = write(((CreateEmployeeRequest) object).getRequest());
+            if (body != null) {
+                template.body(body, UTF_8);
+                return;
+            }
+        }
+        delegate.encode(object, bodyType, template);
+    }
+
+    /**
+     * Write the SOAP envelope of the given request.
+     *
+     * @param request the employee request.
+     * @return the envelope bytes, or {@code null} if the request can not be written by the template.
+     */
+    byte[] write(final EmployeeRequest request) {
+        if (request == null || request.getSalary() == null) {
+            return null;
+        }
+        return write(request.getFirstName(), request.getLastName(), request.getDocumentType(), request.getDocumentNumber(),
+                request.getBirthDate(), request.getJobStartDate(), request.getCargo(), request.getSalary());
+    }
+
+    /**
+     * Write the SOAP envelope of a request with the given field values.
+     *
+     * @param firstName      the employee firstname.
+     * @param lastName       the employee lastname.
+     * @param documentType   the employee document type.
+     * @param documentNumber the employee document number.
+     * @param birthDate      the employee birthdate.
+     * @param jobStartDate   the employee job start date.
+     * @param cargo          the employee job title.
+     * @param salary         the employee salary, in cents.
+     * @return the envelope bytes, or {@code null} if the values can not be written by the template.
+     */
+    public byte[] write(final String firstName, final String lastName, final String documentType, final String documentNumber,
+                        final LocalDate birthDate, final LocalDate jobStartDate, final String cargo, final long salary) {
+        if (birthDate == null || jobStartDate == null) {
+            return null;
+        }
+        final var pooledBuffer = buffers.poll();
+        final var buffer = pooledBuffer == null ? new Buffer() : pooledBuffer;
+        buffer.reset();
+        final var written = buffer.write(fragments[0]) && buffer.writeEscaped(firstName)
+                && buffer.write(fragments[1]) && buffer.writeEscaped(lastName)
+                && buffer.write(fragments[2]) && buffer.writeEscaped(documentType)
+                && buffer.write(fragments[3]) && buffer.writeEscaped(documentNumber)
+                && buffer.write(fragments[4]) && buffer.writeEscaped(LocalDateAdapter.format(birthDate))
+                && buffer.write(fragments[5]) && buffer.writeEscaped(LocalDateAdapter.format(jobStartDate))
+                && buffer.write(fragments[6]) && buffer.writeEscaped(cargo)
+                && buffer.write(fragments[7]) && buffer.writeSalary(salary)
+                && buffer.write(fragments[8]);
+        final var body = written ? buffer.toByteArray() : null;
+        buffer.trim();
+        buffers.offer(buffer);
+        return body;
+    }
+
+    /**
+     * Split the envelope of a request with marker values into the constant fragments.
+     *
+     * @param encoder the streaming encoder.
+     * @return the fragments around the field values.
+     */
+    private static byte[][] compile(final StreamingSOAPEncoder encoder) {
+        final var template = new RequestTemplate();
+        encoder.encode(markerRequest(), CreateEmployeeRequest.class, template);
+        final var envelope = template.body();
+
+        final var fragments = new byte[MARKERS.length + 1][];
+        var start = 0;
+        for (var i = 0; i < MARKERS.length; i++) {
+            final var marker = MARKERS[i].getBytes(UTF_8);
+            final var index = indexOf(envelope, marker, start);
+            if (index < 0) {
+                throw new IllegalStateException("SOAP envelope template marker not found: " + MARKERS[i]);
+            }
+            fragments[i] = Arrays.copyOfRange(envelope, start, index);
+            start = index + marker.length;
+        }
+        fragments[MARKERS.length] = Arrays.copyOfRange(envelope, start, envelope.length);
+        return fragments;
+    }
+
+    /**
+     * Build the request with the marker values.
+     *
+     * @return a {@linkplain CreateEmployeeRequest} object.
+     */
+    private static CreateEmployeeRequest markerRequest() {
+        return CreateEmployeeRequest.builder()
+                .request(EmployeeRequest.builder()
+                        .firstName(MARKERS[0])
+                        .lastName(MARKERS[1])
+                        .documentType(MARKERS[2])
+                        .documentNumber(MARKERS[3])
+                        .birthDate(LocalDate.parse(MARKERS[4]))
+                        .jobStartDate(LocalDate.parse(MARKERS[5]))
+                        .cargo(MARKERS[6])
+                        .salary(SalaryUtil.parse(MARKERS[7]))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Find the first occurrence of the marker in the envelope.
+     *
+     * @param envelope the envelope bytes.
+     * @param marker   the marker bytes.
+     * @param from     the index to start the search.
+     * @return the marker index, or -1 if it was not found.
+     */
+    private static int indexOf(final byte[] envelope, final byte[] marker, final int from) {
+        for (var i = from; i <= envelope.length - marker.length; i++) {
+            if (Arrays.equals(envelope, i, i + marker.length, marker, 0, marker.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Growable body buffer that writes text values with the escaping of the JAXB UTF-8 output.
+     */
+    private static final class Buffer {
+
+        /**
+         * Written bytes
+         */
+        private byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+
+        /**
+         * Number of written bytes
+         */
+        private int size;
+
+        /**
+         * Characters of a written salary
+         */
+        private final char[] salary = new char[SalaryUtil.MAX_LENGTH];
+
+        /**
+         * Discard the written bytes.
+         */
+        void reset() {
+            size = 0;
+        }
+
+        /**
+         * Drop the buffer if it grew over the retained size.
+         */
+        void trim() {
+            if (bytes.length > MAX_RETAINED_BUFFER_SIZE) {
+                bytes = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+
+        /**
+         * Copy of the written bytes.
+         *
+         * @return the written bytes.
+         */
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+        /**
+         * Write a constant fragment.
+         *
+         * @param fragment the fragment bytes.
+         * @return always {@code true}.
+         */
+        boolean write(final byte[] fragment) {
+            ensureCapacity(fragment.length);
+            System.arraycopy(fragment, 0, bytes, size, fragment.length);
+            size += fragment.length;
+            return true;
+        }
+
+        /**
+         * Write a text value as UTF-8, escaping {@code &}, {@code <}, {@code >} and carriage returns.
+         *
+         * @param value the text value.
+         * @return flag that indicates if the value was written, {@code false} if it is null or has an unpaired
+         * surrogate.
+         */
+        boolean writeEscaped(final String value) {
+            if (value == null) {
+                return false;
+            }
+            final var length = value.length();
+            for (var i = 0; i < length; i++) {
+                final var c = value.charAt(i);
+                if (c < 0x80) {
+                    writeAscii(c);
+                } else if (c < 0x800) {
+                    ensureCapacity(2);
+                    bytes[size++] = (byte) (0xC0 | (c >> 6));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                } else if (!Character.isSurrogate(c)) {
+                    ensureCapacity(3);
+                    bytes[size++] = (byte) (0xE0 | (c >> 12));
+                    bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    ensureCapacity(4);
+                    bytes[size++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Write a salary as a plain decimal.
+         *
+         * @param cents the salary in cents.
+         * @return always {@code true}.
+         */
+        boolean writeSalary(final long cents) {
+            final var length = SalaryUtil.format(cents, salary, 0);
+            ensureCapacity(length);
+            for (var i = 0; i < length; i++) {
+                bytes[size++] = (byte) salary[i];
+            }
+            return true;
+        }
+
+        /**
+         * Write an ASCII character, escaped if needed.
+         *
+         * @param c the character.
+         */
+        private void writeAscii(final char c) {
+            switch (c) {
+                case '&':
+                    writeAscii("&amp;");
+                    break;
+                case '<':
+                    writeAscii("&lt;");
+                    break;
+                case '>':
+                    writeAscii("&gt;");
+                    break;
+                case '\r':
+                    writeAscii("&#13;");
+                    break;
+                default:
+                    ensureCapacity(1);
+                    bytes[size++] = (byte) c;
+            }
+        }
+
+        /**
+         * Write an ASCII string as is.
+         *
+         * @param value the string.
+         */
+        private void writeAscii(final String value) {
+            ensureCapacity(value.length());
+            for (var i = 0; i < value.length(); i++) {
+                bytes[size++] = (byte) value.charAt(i);
+            }
+        }
+
+        /**
+         * Grow the buffer to fit the given number of bytes.
+         *
+         * @param length the number of bytes to write.
+         */
+        private void ensureCapacity(final int length) {
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.prototype.api.employee.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Employee batch creation properties
+ *
+ * @author Daniel
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.batch")
+public class EmployeeBatchProperties {
+
+    /**
+     * Max number of SOAP calls in flight for a single batch.
+     */
+    private int maxConcurrency = 16;
+}
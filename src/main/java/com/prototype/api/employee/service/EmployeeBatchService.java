@@ -0,0 +1,67 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.response.EmployeeBatchItemResponse;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Interface that define the Employee batch service
+ *
+ * @author Daniel
+ */
+public interface EmployeeBatchService {
+
+    /**
+     * Create the employees of a batch, writing each response as soon as it completes.
+     *
+     * @param requests the batch requests, in input order; {@code next()} throws past a malformed item and
+     *                 {@code hasNext()} throws when the rest of the input can not be read.
+     * @param writer   the writer of the item responses, always called from the calling thread.
+     * @throws IOException in case of error writing a response.
+     */
+    default void createEmployees(Iterator<EmployeeControllerRequest> requests, ItemWriter writer) throws IOException {
+        createEmployees(requests, () -> true, writer);
+    }
+
+    /**
+     * Create the employees of a batch, taking a permit for each item, writing each response as soon as it completes.
+     *
+     * @param requests    the batch requests, in input order; {@code next()} throws past a malformed item and
+     *                    {@code hasNext()} throws when the rest of the input can not be read.
+     * @param itemPermits the permits of the items, the remaining items are not created once there is none.
+     * @param writer      the writer of the item responses, always called from the calling thread.
+     * @throws IOException in case of error writing a response.
+     */
+    void createEmployees(Iterator<EmployeeControllerRequest> requests, ItemPermits itemPermits, ItemWriter writer) throws IOException;
+
+    /**
+     * Permits of the batch items
+     */
+    @FunctionalInterface
+    interface ItemPermits {
+
+        /**
+         * Take the permit of an item.
+         *
+         * @return flag that indicates if the permit was taken, {@code false} if the item must not be created.
+         */
+        boolean tryAcquire();
+    }
+
+    /**
+     * Writer of the batch item responses
+     */
+    @FunctionalInterface
+    interface ItemWriter {
+
+        /**
+         * Write an item response.
+         *
+         * @param item the item response.
+         * @throws IOException in case of error writing the response.
+         */
+        void write(EmployeeBatchItemResponse item) throws IOException;
+    }
+}
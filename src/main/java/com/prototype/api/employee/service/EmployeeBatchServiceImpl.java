@@ -0,0 +1,187 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.response.EmployeeBatchItemResponse;
+import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildUnexpectedResponse;
+
+/**
+ * Employee batch service implementation
+ * <p>
+ * Each request is created through {@linkplain EmployeeService#createEmployeeAsync(EmployeeControllerRequest, String)},
+ * which validates it and answers the replay of an already created employee from the idempotency cache. At most
+ * {@code employee.batch.max-concurrency} calls of a batch are in flight, so the input is read only as fast as the
+ * SOAP service answers. Completed responses are queued and written by the calling thread.
+ * <p>
+ * An item the requests iterator can not read is answered with the {@value #MALFORMED_ITEM} error and the batch goes on
+ * with the next one. When the iterator can not even tell whether there is a next item, the rest of the input can not
+ * be read: that index is answered with the {@value #TRUNCATED_INPUT} error and the batch stops there.
+ * <p>
+ * Each item takes one of the given {@linkplain ItemPermits} before it is created. When there is no permit left, as
+ * when the client is over its rate limit, the item is answered with the {@value #RATE_LIMITED_ITEM} error and the
+ * batch stops: that is its last line, and the following items are neither read nor created.
+ *
+ * @author Daniel
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class EmployeeBatchServiceImpl implements EmployeeBatchService {
+
+    /**
+     * Error message of an item that can not be read
+     */
+    static final String MALFORMED_ITEM = "Malformed batch item";
+
+    /**
+     * Error message of the index where the input stops being readable, the last one of the batch
+     */
+    static final String TRUNCATED_INPUT = "Malformed batch input, it was truncated at this item";
+
+    /**
+     * Error message of the item without a permit, the last one of the batch
+     */
+    static final String RATE_LIMITED_ITEM = "Too many requests, this item and the following ones were not created";
+
+    /**
+     * Employee service
+     */
+    private final EmployeeService employeeService;
+
+    /**
+     * Batch properties
+     */
+    private final EmployeeBatchProperties properties;
+
+    /**
+     * Create the employees of a batch, taking a permit for each item, writing each response as soon as it completes.
+     *
+     * @param requests    the batch requests, in input order.
+     * @param itemPermits the permits of the items, the remaining items are not created once there is none.
+     * @param writer      the writer of the item responses, always called from the calling thread.
+     * @throws IOException in case of error writing a response.
+     */
+    @Override
+    public void createEmployees(final Iterator<EmployeeControllerRequest> requests, final ItemPermits itemPermits,
+                                final ItemWriter writer) throws IOException {
+        final var permits = new Semaphore(properties.getMaxConcurrency());
+        final BlockingQueue<EmployeeBatchItemResponse> completed = new LinkedBlockingQueue<>();
+        var submitted = 0;
+        var written = 0;
+
+        try {
+            while (true) {
+                final EmployeeControllerRequest request;
+                try {
+                    if (!requests.hasNext()) {
+                        break;
+                    }
+                } catch (RuntimeException ex) {
+                    log.error("Unreadable employee batch input at item [{}], truncating it", submitted, ex);
+                    completed.add(buildItemResponse(submitted++, buildUnexpectedResponse("Error", TRUNCATED_INPUT)));
+                    break;
+                }
+                try {
+                    request = requests.next();
+                } catch (RuntimeException ex) {
+                    log.error("Malformed employee batch item [{}]", submitted, ex);
+                    completed.add(buildItemResponse(submitted++, buildUnexpectedResponse("Error", MALFORMED_ITEM)));
+                    continue;
+                }
+                if (!itemPermits.tryAcquire()) {
+                    log.warn("Employee batch over the rate limit at item [{}], stopping it", submitted);
+                    completed.add(buildItemResponse(submitted++, buildUnexpectedResponse("Error", RATE_LIMITED_ITEM)));
+                    break;
+                }
+                while (!permits.tryAcquire()) {
+                    writer.write(completed.take());
+                    written++;
+                }
+                written += drain(completed, writer);
+                submit(submitted++, request, permits, completed);
+            }
+            while (written < submitted) {
+                writer.write(completed.take());
+                written++;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the batch responses");
+        }
+        log.info("Created employee batch with [{}] items", written);
+    }
+
+    /**
+     * Start the creation of a batch item, releasing its permit and queueing its response when it completes.
+     *
+     * @param index     the item index.
+     * @param request   the item request.
+     * @param permits   the in flight permits.
+     * @param completed the completed responses.
+     */
+    private void submit(final int index, final EmployeeControllerRequest request, final Semaphore permits,
+                        final BlockingQueue<EmployeeBatchItemResponse> completed) {
+        createEmployee(request).whenComplete((response, ex) -> {
+            permits.release();
+            completed.add(buildItemResponse(index, ex == null ? response : buildUnexpectedResponse("Error", ex.getMessage())));
+        });
+    }
+
+    /**
+     * Start the creation of an employee, turning a synchronous failure into a failed response.
+     *
+     * @param request the employee request.
+     * @return a {@linkplain CompletableFuture} completed with the response.
+     */
+    private CompletableFuture<EmployeeControllerResponse> createEmployee(final EmployeeControllerRequest request) {
+        try {
+            return employeeService.createEmployeeAsync(request, null);
+        } catch (RuntimeException ex) {
+            log.error("Error creating employee batch item", ex);
+            return CompletableFuture.completedFuture(buildUnexpectedResponse("Error", ex.getMessage()));
+        }
+    }
+
+    /**
+     * Write the responses completed so far.
+     *
+     * @param completed the completed responses.
+     * @param writer    the item writer.
+     * @return the number of written responses.
+     * @throws IOException in case of error writing a response.
+     */
+    private static int drain(final BlockingQueue<EmployeeBatchItemResponse> completed, final ItemWriter writer) throws IOException {
+        var count = 0;
+        for (var item = completed.poll(); item != null; item = completed.poll()) {
+            writer.write(item);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Build a batch item response.
+     *
+     * @param index    the item index.
+     * @param response the employee response.
+     * @return a {@linkplain EmployeeBatchItemResponse} object.
+     */
+    private static EmployeeBatchItemResponse buildItemResponse(final int index, final EmployeeControllerResponse response) {
+        return EmployeeBatchItemResponse.builder()
+                .index(index)
+                .response(response)
+                .build();
+    }
+}
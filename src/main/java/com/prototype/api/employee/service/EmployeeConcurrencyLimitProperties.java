@@ -0,0 +1,82 @@
+package com.prototype.api.employee.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Employee creation adaptive concurrency limit properties
+ *
+ * @author Daniel
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.concurrency-limit")
+public class EmployeeConcurrencyLimitProperties {
+
+    /**
+     * Flag that indicates if the creations over the limit are shed.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Limit before the first latency samples, on the servlet stack.
+     */
+    private int initialLimit = 50;
+
+    /**
+     * Lowest limit.
+     */
+    private int minLimit = 10;
+
+    /**
+     * Highest limit, on the servlet stack.
+     */
+    private int maxLimit = 1000;
+
+    /**
+     * Weight of a new limit estimate, between 0 and 1.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Number of samples the long-term latency is averaged over.
+     */
+    private int longWindow = 600;
+
+    /**
+     * Ratio of the sample latency to the long-term latency tolerated before the limit decreases.
+     */
+    private double tolerance = 1.5;
+
+    /**
+     * Time the shed clients are asked to wait before retrying.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Limits of the reactive stack.
+     */
+    private Reactive reactive = new Reactive();
+
+    /**
+     * Limits of the reactive stack, whose non-blocking calls are bounded by the {@code employee-reactive} bulkhead
+     * instead of a thread pool.
+     */
+    @Getter
+    @Setter
+    public static class Reactive {
+
+        /**
+         * Limit before the first latency samples.
+         */
+        private int initialLimit = 1000;
+
+        /**
+         * Highest limit, the max concurrent calls of the {@code employee-reactive} bulkhead.
+         */
+        private int maxLimit = 20_000;
+    }
+}
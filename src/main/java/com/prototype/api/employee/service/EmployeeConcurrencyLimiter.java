@@ -0,0 +1,291 @@
+package com.prototype.api.employee.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.reactive.context.ReactiveWebApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive concurrency limit of the employee creations that call the SOAP Employee service.
+ * <p>
+ * A creation takes a permit before its SOAP call and gives it back, with the latency of the call, when it completes.
+ * There is no queue: when the permits in flight reach the limit, the creation is shed at once. The limit follows the
+ * gradient between the long-term latency, averaged over {@code employee.concurrency-limit.long-window} samples, and
+ * the latency of each call. While the calls are as fast as usual, the limit grows by its square root, as headroom
+ * for the queue the service can absorb, and when they slow down beyond the tolerance it shrinks, at most by half.
+ * Each new estimate is smoothed into the limit, which stays between the min and max limits. The limit only grows
+ * while at least half of it is in use, so an idle service does not inflate it, but it shrinks on a slow call whatever
+ * its use. When the latency drops for good, the long-term latency is decayed towards it, so the limit does not stay
+ * inflated by an old slow period.
+ * <p>
+ * The initial and max limits depend on the stack the application runs: the servlet stack calls through a bounded
+ * thread pool, while the non-blocking calls of the reactive stack are bounded by the {@code employee-reactive}
+ * bulkhead, so its limits, {@code employee.concurrency-limit.reactive.*}, are sized to that bulkhead.
+ * <p>
+ * Only the successful calls are latency samples: a failure is often fast, and sampling it would raise the limit
+ * while the service is failing. A call that timed out is a drop, and shrinks the limit by the lowest gradient, while
+ * any other failure gives back its permit without a sample.
+ *
+ * @author Daniel
+ */
+@Component
+public class EmployeeConcurrencyLimiter implements MeterBinder {
+
+    /**
+     * Lowest gradient, so the limit shrinks at most by half on a sample
+     */
+    private static final double MIN_GRADIENT = 0.5;
+
+    /**
+     * Ratio of the long-term latency to the sample latency over which the long-term latency is decayed
+     */
+    private static final double RECOVERY_RATIO = 2.0;
+
+    /**
+     * Decay of the long-term latency once the latency dropped
+     */
+    private static final double RECOVERY_DECAY = 0.95;
+
+    /**
+     * Flag that indicates if the creations over the limit are shed
+     */
+    private final boolean enabled;
+
+    /**
+     * Lowest limit
+     */
+    private final int minLimit;
+
+    /**
+     * Highest limit
+     */
+    private final int maxLimit;
+
+    /**
+     * Weight of a new limit estimate
+     */
+    private final double smoothing;
+
+    /**
+     * Weight of a sample in the long-term latency
+     */
+    private final double longWeight;
+
+    /**
+     * Tolerated ratio of the sample latency to the long-term latency
+     */
+    private final double tolerance;
+
+    /**
+     * Seconds the shed clients are asked to wait
+     */
+    private final long retryAfterSeconds;
+
+    /**
+     * Permits in flight
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Current limit, read without the lock by the permit requests
+     */
+    private volatile int limit;
+
+    /**
+     * Current limit estimate, guarded by this
+     */
+    private double estimatedLimit;
+
+    /**
+     * Long-term latency in nanoseconds, 0 before the first sample, guarded by this
+     */
+    private double longLatency;
+
+    /**
+     * Number of shed creations
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Build the limiter of the servlet stack.
+     *
+     * @param properties the concurrency limit properties.
+     */
+    public EmployeeConcurrencyLimiter(final EmployeeConcurrencyLimitProperties properties) {
+        this(properties, false);
+    }
+
+    /**
+     * Build the limiter of the stack the application runs.
+     *
+     * @param properties the concurrency limit properties.
+     * @param context    the application context.
+     */
+    @Autowired
+    public EmployeeConcurrencyLimiter(final EmployeeConcurrencyLimitProperties properties, final ApplicationContext context) {
+        this(properties, context instanceof ReactiveWebApplicationContext);
+    }
+
+    /**
+     * Build the limiter of a stack.
+     *
+     * @param properties    the concurrency limit properties.
+     * @param reactiveStack flag that indicates if the limiter is the one of the reactive stack.
+     */
+    EmployeeConcurrencyLimiter(final EmployeeConcurrencyLimitProperties properties, final boolean reactiveStack) {
+        final var initialLimit = reactiveStack ? properties.getReactive().getInitialLimit() : properties.getInitialLimit();
+        this.enabled = properties.isEnabled();
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = reactiveStack ? properties.getReactive().getMaxLimit() : properties.getMaxLimit();
+        this.smoothing = properties.getSmoothing();
+        this.longWeight = 2.0 / (properties.getLongWindow() + 1);
+        this.tolerance = properties.getTolerance();
+        this.retryAfterSeconds = Math.max(1L, (properties.getRetryAfter().toMillis() + 999) / 1000);
+        this.estimatedLimit = Math.min(maxLimit, Math.max(minLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Take a permit if the limit is not reached.
+     *
+     * @return flag that indicates if the permit was taken, {@code false} if the creation must be shed.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            final var current = inFlight.get();
+            if (enabled && current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Give back the permit of a successful call and update the limit with its latency.
+     *
+     * @param latencyNanos the latency of the call in nanoseconds, 0 to give back the permit without a sample.
+     */
+    public void release(final long latencyNanos) {
+        final var inFlightAtCompletion = inFlight.getAndDecrement();
+        if (latencyNanos > 0) {
+            update(latencyNanos, inFlightAtCompletion);
+        }
+    }
+
+    /**
+     * Give back the permit of a failed call, shrinking the limit if the call timed out.
+     *
+     * @param failure the failure of the call.
+     */
+    public void release(final Throwable failure) {
+        inFlight.decrementAndGet();
+        if (isTimeout(failure)) {
+            drop();
+        }
+    }
+
+    /**
+     * Current limit.
+     *
+     * @return the limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Permits in flight.
+     *
+     * @return the number of permits in flight.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Seconds the shed clients are asked to wait before retrying.
+     *
+     * @return the Retry-After seconds.
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * Register the limit and in flight gauges and the shed creations counter.
+     *
+     * @param registry the meter registry.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("employee.concurrency.limit", this, EmployeeConcurrencyLimiter::getLimit)
+                .description("Adaptive concurrency limit of the employee creations")
+                .register(registry);
+        Gauge.builder("employee.concurrency.in.flight", this, EmployeeConcurrencyLimiter::getInFlight)
+                .description("Employee creations in flight")
+                .register(registry);
+        FunctionCounter.builder("employee.concurrency.rejected", rejected, LongAdder::sum)
+                .description("Employee creations shed by the concurrency limit")
+                .register(registry);
+    }
+
+    /**
+     * Shrink the limit by the lowest gradient after a call timed out.
+     */
+    private synchronized void drop() {
+        estimatedLimit = Math.max(minLimit, estimatedLimit * (1 - smoothing) + estimatedLimit * MIN_GRADIENT * smoothing);
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Update the limit with a latency sample.
+     *
+     * @param latencyNanos         the latency of the call in nanoseconds.
+     * @param inFlightAtCompletion the permits in flight when the call completed, itself included.
+     */
+    private synchronized void update(final long latencyNanos, final int inFlightAtCompletion) {
+        if (longLatency == 0) {
+            longLatency = latencyNanos;
+        } else {
+            longLatency += (latencyNanos - longLatency) * longWeight;
+        }
+        if (longLatency / latencyNanos > RECOVERY_RATIO) {
+            longLatency *= RECOVERY_DECAY;
+        }
+        final var gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longLatency / latencyNanos));
+        final var inUse = inFlightAtCompletion >= estimatedLimit / 2;
+        if (!inUse && gradient == 1.0) {
+            return;
+        }
+        final var newLimit = estimatedLimit * gradient + (inUse ? Math.sqrt(estimatedLimit) : 0);
+        estimatedLimit = Math.min(maxLimit, Math.max(minLimit, estimatedLimit * (1 - smoothing) + newLimit * smoothing));
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Check if a failure, or any of its causes, is a timeout of the call.
+     *
+     * @param failure the failure of the call.
+     * @return flag that indicates if the call timed out.
+     */
+    private static boolean isTimeout(final Throwable failure) {
+        for (var cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof SocketTimeoutException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
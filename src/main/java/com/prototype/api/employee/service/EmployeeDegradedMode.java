@@ -0,0 +1,375 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import com.prototype.api.employee.infrastructure.out.soapclient.SOAPEmployeeAsyncClient;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildEmployeeRequest;
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildSuccessfulResponse;
+import static java.util.Objects.isNull;
+
+/**
+ * Degraded mode of the employee creation.
+ * <p>
+ * When it is enabled, a createEmployee call that fails because the SOAP Employee service is down or slow is queued,
+ * and answered at once with the {@value #QUEUED_STATUS} status and the employee data computed by the
+ * {@linkplain EmployeeEnrichment}. A background thread retries the queued writes in order every
+ * {@code employee.degraded-mode.retry-interval}, stopping at the first failure, and drops a write after
+ * {@code employee.degraded-mode.max-attempts} failed attempts. A call is not queued, and fails as before, when the
+ * mode is disabled or the queue is full.
+ * <p>
+ * A document has at most one queued write: the replay of a queued request is answered {@value #QUEUED_STATUS} again
+ * without queueing it twice, and a different request for the same document is not queued. When a queued write is
+ * accepted by the service, its created response is put in the {@linkplain EmployeeIdempotencyCache}, under the request
+ * and the idempotency keys of its replays, so the next replay is answered as created.
+ * <p>
+ * The queue is only kept in memory: the writes still queued are lost when the application stops, and nothing tells
+ * their clients. A {@value #QUEUED_STATUS} answer is therefore not a created employee, it is not kept by the
+ * idempotency cache, and a client that needs the creation must replay the request until it is answered as created.
+ *
+ * @author Daniel
+ */
+@Slf4j
+@Component
+public class EmployeeDegradedMode implements MeterBinder, DisposableBean {
+
+    /**
+     * Status of a queued employee creation.
+     */
+    public static final String QUEUED_STATUS = "Queued";
+
+    /**
+     * Queued writes counter name
+     */
+    private static final String WRITES_COUNTER = "employee.degraded.writes";
+
+    /**
+     * Flag that indicates if the failed writes are queued
+     */
+    private final boolean enabled;
+
+    /**
+     * Max number of attempts of a queued write
+     */
+    private final int maxAttempts;
+
+    /**
+     * Queued writes, oldest first
+     */
+    private final BlockingDeque<QueuedWrite> queue;
+
+    /**
+     * Queued writes, by document type and number
+     */
+    private final ConcurrentMap<String, QueuedWrite> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Asynchronous Employee SOAP client
+     */
+    private final SOAPEmployeeAsyncClient soapEmployeeAsyncClient;
+
+    /**
+     * Local enrichment of the queued employees
+     */
+    private final EmployeeEnrichment enrichment;
+
+    /**
+     * Cache of the created responses, by idempotency key
+     */
+    private final EmployeeIdempotencyCache idempotencyCache;
+
+    /**
+     * Retry thread, or {@code null} if the mode is disabled
+     */
+    private final ScheduledExecutorService retryExecutor;
+
+    /**
+     * Number of queued writes
+     */
+    private final LongAdder queued = new LongAdder();
+
+    /**
+     * Number of queued writes accepted by the service
+     */
+    private final LongAdder written = new LongAdder();
+
+    /**
+     * Number of queued writes dropped, rejected by the service or after the last attempt
+     */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Number of writes not queued because the queue was full
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Build the degraded mode and start the retry thread if it is enabled.
+     * <p>
+     * The SOAP client is resolved lazily, as the meter registry builds this binder while the circuit breaker
+     * registry the client needs may still be in creation.
+     *
+     * @param properties              the degraded mode properties.
+     * @param soapEmployeeAsyncClient the asynchronous SOAP client.
+     * @param enrichment              the local enrichment.
+     * @param idempotencyCache        the cache of the created responses.
+     */
+    public EmployeeDegradedMode(final EmployeeDegradedModeProperties properties,
+                                @Lazy final SOAPEmployeeAsyncClient soapEmployeeAsyncClient,
+                                final EmployeeEnrichment enrichment, final EmployeeIdempotencyCache idempotencyCache) {
+        this.enabled = properties.isEnabled();
+        this.maxAttempts = properties.getMaxAttempts();
+        this.queue = new LinkedBlockingDeque<>(properties.getQueueCapacity());
+        this.soapEmployeeAsyncClient = soapEmployeeAsyncClient;
+        this.enrichment = enrichment;
+        this.idempotencyCache = idempotencyCache;
+        this.retryExecutor = enabled ? startRetries(properties.getRetryInterval().toMillis()) : null;
+    }
+
+    /**
+     * Queue the write of an employee whose SOAP call failed.
+     *
+     * @param request the employee request.
+     * @return the {@value #QUEUED_STATUS} response with the enriched employee data, also if the same request is
+     * already queued, or {@code null} if the write was not queued.
+     */
+    public EmployeeControllerResponse queue(final EmployeeControllerRequest request) {
+        if (!enabled) {
+            return null;
+        }
+        final var document = document(request);
+        final var write = new QueuedWrite(request);
+        final var queuedWrite = pending.putIfAbsent(document, write);
+        if (!isNull(queuedWrite)) {
+            if (queuedWrite.request.equals(request)) {
+                return buildQueuedResponse(request);
+            }
+            log.error("A different employee with Type=[{}], Id[{}] is already queued, employee not queued",
+                    request.getDocumentType(), request.getDocumentNumber());
+            return null;
+        }
+        if (!queue.offerLast(write)) {
+            pending.remove(document, write);
+            rejected.increment();
+            log.error("Degraded mode queue is full, employee with Type=[{}], Id[{}] not queued",
+                    request.getDocumentType(), request.getDocumentNumber());
+            return null;
+        }
+        queued.increment();
+        log.warn("Queued employee with Type=[{}], Id[{}] until the SOAP Employee service recovers",
+                request.getDocumentType(), request.getDocumentNumber());
+        return buildQueuedResponse(request);
+    }
+
+    /**
+     * Answer the replay of a queued request, keeping its idempotency key so the created response is cached under it.
+     *
+     * @param idempotencyKey the idempotency key sent by the client, may be null.
+     * @param request        the employee request.
+     * @return the {@value #QUEUED_STATUS} response if the same request is queued, or {@code null} if it is not.
+     */
+    public EmployeeControllerResponse replay(final String idempotencyKey, final EmployeeControllerRequest request) {
+        final var queuedWrite = pending.get(document(request));
+        if (isNull(queuedWrite) || !queuedWrite.request.equals(request)) {
+            return null;
+        }
+        if (!isNull(idempotencyKey) && !idempotencyKey.isBlank()) {
+            queuedWrite.idempotencyKeys.add(idempotencyKey);
+        }
+        log.info("Employee with Type=[{}], Id[{}] is still queued", request.getDocumentType(), request.getDocumentNumber());
+        return buildQueuedResponse(request);
+    }
+
+    /**
+     * Number of queued writes waiting for the service.
+     *
+     * @return the queue size.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Write the queued employees in order, until a write fails.
+     */
+    void retryQueuedWrites() {
+        for (var write = queue.pollFirst(); !isNull(write); write = queue.pollFirst()) {
+            if (!write(write)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Register the queue size and the queued writes counters.
+     *
+     * @param registry the meter registry.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("employee.degraded.queue.size", queue, BlockingDeque::size)
+                .description("Employee writes queued until the SOAP Employee service recovers")
+                .register(registry);
+        register(registry, "queued", queued);
+        register(registry, "written", written);
+        register(registry, "dropped", dropped);
+        register(registry, "rejected", rejected);
+    }
+
+    /**
+     * Stop the retry thread.
+     */
+    @Override
+    public void destroy() {
+        if (!isNull(retryExecutor)) {
+            retryExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Send a queued write to the service.
+     *
+     * @param write the queued write.
+     * @return flag that indicates if the write is done, {@code false} if it failed and was queued again.
+     */
+    private boolean write(final QueuedWrite write) {
+        final var request = write.request;
+        try {
+            final var response = soapEmployeeAsyncClient.createEmployee(buildEmployeeRequest(request)).join();
+            if (isNull(response.getResponse())) {
+                pending.remove(document(request), write);
+                dropped.increment();
+                log.error("SOAP Employee service rejected queued employee with Type=[{}], Id[{}]: {}",
+                        request.getDocumentType(), request.getDocumentNumber(), response.getErrorResponseMessage());
+            } else {
+                final var createdResponse = buildSuccessfulResponse(response);
+                idempotencyCache.put(null, request, createdResponse);
+                write.idempotencyKeys.forEach(idempotencyKey -> idempotencyCache.put(idempotencyKey, request, createdResponse));
+                pending.remove(document(request), write);
+                written.increment();
+                log.info("Wrote queued employee with Type=[{}], Id[{}]", request.getDocumentType(), request.getDocumentNumber());
+            }
+            return true;
+        } catch (RuntimeException ex) {
+            write.attempts++;
+            if (write.attempts >= maxAttempts || !queue.offerFirst(write)) {
+                pending.remove(document(request), write);
+                dropped.increment();
+                log.error("Dropped queued employee with Type=[{}], Id[{}] after {} attempts",
+                        request.getDocumentType(), request.getDocumentNumber(), write.attempts, ex);
+                return true;
+            }
+            log.warn("Queued employee with Type=[{}], Id[{}] not written yet: {}",
+                    request.getDocumentType(), request.getDocumentNumber(), ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Build the answer of a queued request.
+     *
+     * @param request the employee request.
+     * @return the {@value #QUEUED_STATUS} response with the enriched employee data.
+     */
+    private EmployeeControllerResponse buildQueuedResponse(final EmployeeControllerRequest request) {
+        return EmployeeControllerResponse.builder()
+                .status(QUEUED_STATUS)
+                .errorMessage("")
+                .employeeData(enrichment.enrich(request))
+                .build();
+    }
+
+    /**
+     * Start the thread retrying the queued writes.
+     *
+     * @param intervalMillis the time between two retries.
+     * @return the retry executor.
+     */
+    private ScheduledExecutorService startRetries(final long intervalMillis) {
+        final var executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "employee-degraded-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                retryQueuedWrites();
+            } catch (RuntimeException ex) {
+                log.error("Error retrying the queued employees", ex);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    /**
+     * Register a queued writes counter.
+     *
+     * @param registry the meter registry.
+     * @param result   the result of the writes.
+     * @param count    the number of writes.
+     */
+    private static void register(final MeterRegistry registry, final String result, final LongAdder count) {
+        FunctionCounter.builder(WRITES_COUNTER, count, LongAdder::sum)
+                .tag("result", result)
+                .description("Employee writes of the degraded mode")
+                .register(registry);
+    }
+
+    /**
+     * Document of a request, that identifies the employee in the service.
+     *
+     * @param request the employee request.
+     * @return the document type and number.
+     */
+    private static String document(final EmployeeControllerRequest request) {
+        return request.getDocumentType() + ":" + request.getDocumentNumber();
+    }
+
+    /**
+     * Queued write of an employee.
+     */
+    private static final class QueuedWrite {
+
+        /**
+         * Employee request
+         */
+        private final EmployeeControllerRequest request;
+
+        /**
+         * Number of failed attempts
+         */
+        private int attempts;
+
+        /**
+         * Idempotency keys of the replays, to cache the created response under
+         */
+        private final Set<String> idempotencyKeys = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Build the queued write.
+         *
+         * @param request the employee request.
+         */
+        private QueuedWrite(final EmployeeControllerRequest request) {
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.prototype.api.employee.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Employee degraded mode properties
+ *
+ * @author Daniel
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.degraded-mode")
+public class EmployeeDegradedModeProperties {
+
+    /**
+     * Flag that indicates if a failed SOAP write is queued and answered with the locally enriched employee data. The
+     * queue is in memory, and lost on restart.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Max number of queued writes.
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * Time between two retries of the queued writes.
+     */
+    private Duration retryInterval = Duration.ofSeconds(5);
+
+    /**
+     * Max number of attempts of a queued write before it is dropped.
+     */
+    private int maxAttempts = 10;
+}
@@ -0,0 +1,133 @@
+package com.prototype.api.employee.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.response.EmployeeData;
+import com.prototype.api.employee.common.util.EmployeeUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Local enrichment of the employee data.
+ * <p>
+ * Computes the age and the time since the job start that the SOAP Employee service answers, in the same format, so
+ * the employee data can be built without calling the service. The periods are the years, months and days between a
+ * date and today, written with {@code employee.enrichment.period-format}, whole years by default, and they are cached
+ * by date and today: a date is formatted once per day.
+ *
+ * @author Daniel
+ */
+@Component
+public class EmployeeEnrichment implements MeterBinder {
+
+    /**
+     * Cache name in the metrics
+     */
+    private static final String CACHE_NAME = "employee.enrichment";
+
+    /**
+     * Format of the periods
+     */
+    private final String periodFormat;
+
+    /**
+     * Formatted periods, by date and today
+     */
+    private final Cache<DateAndToday, String> periods;
+
+    /**
+     * Build the enrichment.
+     *
+     * @param properties the enrichment properties.
+     */
+    public EmployeeEnrichment(final EmployeeEnrichmentProperties properties) {
+        this.periodFormat = properties.getPeriodFormat();
+        this.periods = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Build the employee data of a request, with the age and the time since the job start computed locally.
+     *
+     * @param request the employee request.
+     * @return a {@linkplain EmployeeData} object.
+     */
+    public EmployeeData enrich(final EmployeeControllerRequest request) {
+        return EmployeeData.builder()
+                .firstName(request.getFirstName())
+                .lastName(request.getLastName())
+                .documentType(isNull(request.getDocumentType()) ? null : request.getDocumentType().name())
+                .documentNumber(request.getDocumentNumber())
+                .birthDate(request.getBirthDate())
+                .jobStartDate(request.getJobStartDate())
+                .age(periodSince(request.getBirthDate()))
+                .dateSinceJobStartDate(periodSince(request.getJobStartDate()))
+                .cargo(request.getCargo())
+                .salary(request.getSalary())
+                .build();
+    }
+
+    /**
+     * Years, months and days between a date and today.
+     *
+     * @param date the start date.
+     * @return the formatted period, or {@code null} if the date is null.
+     */
+    public String periodSince(final LocalDate date) {
+        if (isNull(date)) {
+            return null;
+        }
+        final var today = EmployeeUtil.today();
+        return periods.get(new DateAndToday(date, today), key -> format(Period.between(key.date, key.today)));
+    }
+
+    /**
+     * Register the cache size, hit, miss and eviction metrics.
+     *
+     * @param registry the meter registry.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, periods, CACHE_NAME);
+    }
+
+    /**
+     * Format a period.
+     *
+     * @param period the period.
+     * @return the formatted period.
+     */
+    private String format(final Period period) {
+        return String.format(periodFormat, period.getYears(), period.getMonths(), period.getDays());
+    }
+
+    /**
+     * Cache key of a period.
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class DateAndToday {
+
+        /**
+         * Start date of the period
+         */
+        private final LocalDate date;
+
+        /**
+         * Today, the end of the period
+         */
+        private final LocalDate today;
+    }
+}
@@ -0,0 +1,27 @@
+package com.prototype.api.employee.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Employee local enrichment properties
+ *
+ * @author Daniel
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.enrichment")
+public class EmployeeEnrichmentProperties {
+
+    /**
+     * Format of the age and the time since the job start, with the years, months and days as arguments. The default
+     * writes the whole years, as the SOAP Employee service does.
+     */
+    private String periodFormat = "%d";
+
+    /**
+     * Max number of cached periods.
+     */
+    private long cacheSize = 10_000;
+}
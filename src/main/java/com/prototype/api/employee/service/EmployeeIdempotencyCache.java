@@ -0,0 +1,124 @@
+package com.prototype.api.employee.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import com.prototype.api.employee.common.util.IdempotencyKeyMismatchException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import static com.prototype.api.employee.service.EmployeeDegradedMode.QUEUED_STATUS;
+import static java.util.Objects.isNull;
+
+/**
+ * Cache of the completed createEmployee responses, by idempotency key.
+ * <p>
+ * The key is the {@code Idempotency-Key} header when the client sends it, or else the request itself, so a replay of
+ * the same payload is answered without calling the Web Service again. Each response is kept with its request, and a
+ * header key replayed with a different request is rejected instead of answered with the response of the first one.
+ * The cache is bounded in size and entries expire after the configured time to live.
+ *
+ * @author Daniel
+ */
+@Component
+public class EmployeeIdempotencyCache implements MeterBinder {
+
+    /**
+     * Cache name in the metrics
+     */
+    private static final String CACHE_NAME = "employee.idempotency";
+
+    /**
+     * Completed responses with their requests, by header key or by request
+     */
+    private final Cache<Object, Entry> responses;
+
+    /**
+     * Build the cache.
+     *
+     * @param properties the idempotency cache properties.
+     */
+    public EmployeeIdempotencyCache(final EmployeeIdempotencyProperties properties) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get the cached response of a request.
+     *
+     * @param idempotencyKey the idempotency key sent by the client, may be null.
+     * @param request        the employee request.
+     * @return the cached response, or {@code null} if there is none.
+     * @throws IdempotencyKeyMismatchException if the idempotency key was used with a different request.
+     */
+    public EmployeeControllerResponse get(final String idempotencyKey, final EmployeeControllerRequest request) {
+        final var entry = responses.getIfPresent(key(idempotencyKey, request));
+        if (isNull(entry)) {
+            return null;
+        }
+        if (!entry.request.equals(request)) {
+            throw new IdempotencyKeyMismatchException();
+        }
+        return entry.response;
+    }
+
+    /**
+     * Cache the response of a request, only if the employee was created. A {@value EmployeeDegradedMode#QUEUED_STATUS}
+     * response is not cached, its write may still be dropped, and a replay must be able to try again; the
+     * {@linkplain EmployeeDegradedMode} caches the created response once the write is done.
+     *
+     * @param idempotencyKey the idempotency key sent by the client, may be null.
+     * @param request        the employee request.
+     * @param response       the completed response.
+     */
+    public void put(final String idempotencyKey, final EmployeeControllerRequest request, final EmployeeControllerResponse response) {
+        if (!isNull(response) && !isNull(response.getEmployeeData()) && !QUEUED_STATUS.equals(response.getStatus())) {
+            responses.put(key(idempotencyKey, request), new Entry(request, response));
+        }
+    }
+
+    /**
+     * Register the cache size, hit, miss and eviction metrics.
+     *
+     * @param registry the meter registry.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, responses, CACHE_NAME);
+    }
+
+    /**
+     * Cache key of a request.
+     *
+     * @param idempotencyKey the idempotency key sent by the client, may be null.
+     * @param request        the employee request.
+     * @return the header key, or the request if there is none.
+     */
+    private static Object key(final String idempotencyKey, final EmployeeControllerRequest request) {
+        return isNull(idempotencyKey) || idempotencyKey.isBlank() ? request : idempotencyKey;
+    }
+
+    /**
+     * Completed response with its request
+     */
+    @RequiredArgsConstructor
+    private static final class Entry {
+
+        /**
+         * Employee request
+         */
+        private final EmployeeControllerRequest request;
+
+        /**
+         * Completed response
+         */
+        private final EmployeeControllerResponse response;
+    }
+}
@@ -0,0 +1,28 @@
+package com.prototype.api.employee.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Employee idempotency cache properties
+ *
+ * @author Daniel
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "employee.idempotency")
+public class EmployeeIdempotencyProperties {
+
+    /**
+     * Max number of cached responses.
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * Time a response is kept after it is cached.
+     */
+    private Duration timeToLive = Duration.ofMinutes(10);
+}
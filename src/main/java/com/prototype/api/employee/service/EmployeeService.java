@@ -2,6 +2,9 @@ package com.prototype.api.employee.service;
 
 import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
 import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import com.prototype.api.employee.common.util.Deadline;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface that define the Employee service
@@ -17,4 +20,32 @@ public interface EmployeeService {
      * @return a {@linkplain EmployeeControllerResponse} object with the response.
      */
     EmployeeControllerResponse createEmployee(EmployeeControllerRequest request);
+
+    /**
+     * Make a non-blocking createEmployee request to the client
+     *
+     * @param request a {@linkplain EmployeeControllerRequest} object with endpoint request data.
+     * @return a {@linkplain CompletableFuture} completed with the {@linkplain EmployeeControllerResponse} object.
+     */
+    CompletableFuture<EmployeeControllerResponse> createEmployeeAsync(EmployeeControllerRequest request);
+
+    /**
+     * Make a non-blocking createEmployee request to the client, answering replays from the idempotency cache
+     *
+     * @param request        a {@linkplain EmployeeControllerRequest} object with endpoint request data.
+     * @param idempotencyKey the idempotency key sent by the client, or {@code null} to key on the request data.
+     * @return a {@linkplain CompletableFuture} completed with the {@linkplain EmployeeControllerResponse} object.
+     */
+    CompletableFuture<EmployeeControllerResponse> createEmployeeAsync(EmployeeControllerRequest request, String idempotencyKey);
+
+    /**
+     * Make a non-blocking createEmployee request to the client within the deadline of the caller, answering replays
+     * from the idempotency cache
+     *
+     * @param request        a {@linkplain EmployeeControllerRequest} object with endpoint request data.
+     * @param idempotencyKey the idempotency key sent by the client, or {@code null} to key on the request data.
+     * @param deadline       the deadline of the inbound request.
+     * @return a {@linkplain CompletableFuture} completed with the {@linkplain EmployeeControllerResponse} object.
+     */
+    CompletableFuture<EmployeeControllerResponse> createEmployeeAsync(EmployeeControllerRequest request, String idempotencyKey, Deadline deadline);
 }
@@ -3,12 +3,25 @@ package com.prototype.api.employee.service;
 import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
 import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
 import com.prototype.api.employee.common.model.soap.CreateEmployeeResponse;
-import com.prototype.api.employee.infrastructure.out.soapclient.SOAPEmployeeClient;
+import com.prototype.api.employee.common.util.ConcurrencyLimitExceededException;
+import com.prototype.api.employee.common.util.Deadline;
+import com.prototype.api.employee.common.util.DeadlineExceededException;
+import com.prototype.api.employee.common.util.IdempotencyKeyMismatchException;
+import com.prototype.api.employee.common.util.SingleFlight;
+import com.prototype.api.employee.infrastructure.out.soapclient.SOAPEmployeeAsyncClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import static com.prototype.api.employee.common.util.EmployeeRequestValidator.isValidRequest;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.ERROR_STATUS;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NO_VIOLATIONS;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.firstMessage;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.messages;
+import static com.prototype.api.employee.service.EmployeeDegradedMode.QUEUED_STATUS;
 import static com.prototype.api.employee.service.EmployeeServiceMapper.buildEmployeeRequest;
 import static com.prototype.api.employee.service.EmployeeServiceMapper.buildFailedResponse;
 import static com.prototype.api.employee.service.EmployeeServiceMapper.buildSuccessfulResponse;
@@ -17,6 +30,9 @@ import static java.util.Objects.isNull;
 
 /**
  * Employee service implementation
+ * <p>
+ * The SOAP calls take a permit of the {@linkplain EmployeeConcurrencyLimiter}; a call over the limit fails at once
+ * with a {@linkplain ConcurrencyLimitExceededException} instead of waiting, and is not queued by the degraded mode.
  *
  * @author Daniel
  */
@@ -26,9 +42,35 @@ import static java.util.Objects.isNull;
 public class EmployeeServiceImpl implements EmployeeService {
 
     /**
-     * Employee SOAP client
+     * Asynchronous Employee SOAP client
+     */
+    private final SOAPEmployeeAsyncClient soapEmployeeAsyncClient;
+
+    /**
+     * Cache of the completed responses, by idempotency key
+     */
+    private final EmployeeIdempotencyCache idempotencyCache;
+
+    /**
+     * Degraded mode, queueing the calls that fail
+     */
+    private final EmployeeDegradedMode degradedMode;
+
+    /**
+     * Adaptive concurrency limit of the SOAP calls
      */
-    private final SOAPEmployeeClient soapEmployeeClient;
+    private final EmployeeConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * Configured validation rules
+     */
+    private final EmployeeValidationRules validationRules;
+
+    /**
+     * Web Service calls in flight, by request. Only equal requests share the first call: a different request for the
+     * same document makes its own call, and gets the answer of the Web Service for it.
+     */
+    private final SingleFlight<EmployeeControllerRequest, EmployeeControllerResponse> inFlightCalls = new SingleFlight<>();
 
     /**
      * Make a createEmployee request to the client and returns a createEmployee response
@@ -38,55 +80,203 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public EmployeeControllerResponse createEmployee(final EmployeeControllerRequest request) {
+        return createEmployeeAsync(request).join();
+    }
+
+    /**
+     * Make a non-blocking createEmployee request to the client
+     *
+     * @param request a {@linkplain EmployeeControllerRequest} object with endpoint request data.
+     * @return a {@linkplain CompletableFuture} completed with the {@linkplain EmployeeControllerResponse} object.
+     */
+    @Override
+    public CompletableFuture<EmployeeControllerResponse> createEmployeeAsync(final EmployeeControllerRequest request) {
+        return createEmployeeAsync(request, Deadline.none());
+    }
+
+    /**
+     * Make a non-blocking createEmployee request to the client within the deadline. Concurrent duplicates share the
+     * call of the first one, and its deadline: when that call fails because its deadline passed, a duplicate whose
+     * own deadline is still live calls again instead of sharing the failure.
+     *
+     * @param request  a {@linkplain EmployeeControllerRequest} object with endpoint request data.
+     * @param deadline the deadline of the inbound request.
+     * @return a {@linkplain CompletableFuture} completed with the {@linkplain EmployeeControllerResponse} object.
+     */
+    private CompletableFuture<EmployeeControllerResponse> createEmployeeAsync(final EmployeeControllerRequest request, final Deadline deadline) {
 
         log.info("Creating employee with Type=[{}], Id[{}]", request.getDocumentType(), request.getDocumentNumber());
 
-        final var responseBuilder = EmployeeControllerResponse.builder();
+        final var violations = validationRules.validate(request);
+
+        if (violations == NO_VIOLATIONS) {
+            return inFlightCalls.execute(request, () -> callEmployeeWebService(request, deadline))
+                    .handle((response, ex) -> isNull(ex) ? CompletableFuture.completedFuture(response) : retryExpiredCall(request, deadline, ex))
+                    .thenCompose(Function.identity());
+        } else {
+            return CompletableFuture.completedFuture(buildInvalidEmployeeResponse(violations));
+        }
+    }
 
-        if (isValidRequest(request, responseBuilder)) {
+    /**
+     * Make a non-blocking createEmployee request to the client, answering replays from the idempotency cache
+     *
+     * @param request        a {@linkplain EmployeeControllerRequest} object with endpoint request data.
+     * @param idempotencyKey the idempotency key sent by the client, or {@code null} to key on the request data.
+     * @return a {@linkplain CompletableFuture} completed with the {@linkplain EmployeeControllerResponse} object.
+     */
+    @Override
+    public CompletableFuture<EmployeeControllerResponse> createEmployeeAsync(final EmployeeControllerRequest request, final String idempotencyKey) {
+        return createEmployeeAsync(request, idempotencyKey, Deadline.none());
+    }
 
+    /**
+     * Make a non-blocking createEmployee request to the client within the deadline of the caller, answering replays
+     * from the idempotency cache
+     *
+     * @param request        a {@linkplain EmployeeControllerRequest} object with endpoint request data.
+     * @param idempotencyKey the idempotency key sent by the client, or {@code null} to key on the request data.
+     * @param deadline       the deadline of the inbound request.
+     * @return a {@linkplain CompletableFuture} completed with the {@linkplain EmployeeControllerResponse} object, or
+     * failed with a {@linkplain IdempotencyKeyMismatchException} if the key was used with a different request.
+     */
+    @Override
+    public CompletableFuture<EmployeeControllerResponse> createEmployeeAsync(final EmployeeControllerRequest request, final String idempotencyKey,
+                                                                             final Deadline deadline) {
+        final EmployeeControllerResponse cachedResponse;
+        try {
+            cachedResponse = idempotencyCache.get(idempotencyKey, request);
+        } catch (IdempotencyKeyMismatchException ex) {
+            log.warn("Idempotency key reused with employee Type=[{}], Id[{}]", request.getDocumentType(), request.getDocumentNumber());
+            return CompletableFuture.failedFuture(ex);
+        }
+        if (!isNull(cachedResponse)) {
+            log.info("Replaying employee with Type=[{}], Id[{}]", request.getDocumentType(), request.getDocumentNumber());
+            return CompletableFuture.completedFuture(cachedResponse);
+        }
+        final var queuedResponse = degradedMode.replay(idempotencyKey, request);
+        if (!isNull(queuedResponse)) {
+            return CompletableFuture.completedFuture(queuedResponse);
+        }
+        return createEmployeeAsync(request, deadline).thenApply(response -> {
+            cacheResponse(idempotencyKey, request, response);
+            return response;
+        });
+    }
 
-            return callEmployeeWebService(request);
+    /**
+     * Cache a created response, or keep the idempotency key of a queued one until its write is done.
+     *
+     * @param idempotencyKey the idempotency key sent by the client, may be null.
+     * @param request        the controller request.
+     * @param response       the completed response.
+     */
+    private void cacheResponse(final String idempotencyKey, final EmployeeControllerRequest request, final EmployeeControllerResponse response) {
+        if (QUEUED_STATUS.equals(response.getStatus())) {
+            degradedMode.replay(idempotencyKey, request);
         } else {
-            return buildInvalidEmployeeResponse(responseBuilder);
+            idempotencyCache.put(idempotencyKey, request, response);
         }
     }
 
+    /**
+     * Call again if the shared call failed because its deadline passed and the deadline of this caller is still live.
+     *
+     * @param request  the controller request.
+     * @param deadline the deadline of this caller.
+     * @param ex       the error of the shared call.
+     * @return a {@linkplain CompletableFuture} completed with the response of the new call, or with the error
+     * response if this deadline passed too, or else failed with the error.
+     */
+    private CompletableFuture<EmployeeControllerResponse> retryExpiredCall(final EmployeeControllerRequest request, final Deadline deadline,
+                                                                           final Throwable ex) {
+        final var cause = ex instanceof CompletionException && !isNull(ex.getCause()) ? ex.getCause() : ex;
+        if (!(cause instanceof DeadlineExceededException)) {
+            return CompletableFuture.failedFuture(cause);
+        }
+        if (!deadline.isExpired()) {
+            log.info("Shared call expired, calling again for employee with Type=[{}], Id[{}]",
+                    request.getDocumentType(), request.getDocumentNumber());
+            return createEmployeeAsync(request, deadline);
+        }
+        log.warn("Deadline exceeded calling SOAP Employee creator with Type=[{}], Id[{}]",
+                request.getDocumentType(), request.getDocumentNumber());
+        return CompletableFuture.completedFuture(buildUnexpectedResponse("Error", cause.getMessage()));
+    }
+
     /**
      * Build a {@linkplain EmployeeControllerResponse} in case of and invalid field in {@linkplain EmployeeControllerRequest}.
      *
-     * @param responseBuilder a {@linkplain EmployeeControllerResponse.EmployeeControllerResponseBuilder} that handles the response object.
-     * @return a {@linkplain EmployeeControllerResponse} object with a message of validation error.
+     * @param violations the violations bitmask of the request.
+     * @return a {@linkplain EmployeeControllerResponse} object with the message of the first validation error.
      */
-    private EmployeeControllerResponse buildInvalidEmployeeResponse(final EmployeeControllerResponse.EmployeeControllerResponseBuilder responseBuilder) {
-        final var response = responseBuilder.build();
-        log.error("Validation error with employee: [{}]", response.getErrorMessage());
+    private EmployeeControllerResponse buildInvalidEmployeeResponse(final int violations) {
+        final var response = EmployeeControllerResponse.builder()
+                .status(ERROR_STATUS)
+                .errorMessage(firstMessage(violations))
+                .build();
+        log.error("Validation error with employee: {}", messages(violations));
         return response;
     }
 
     /**
      * Call the SOAP Employee web service.
      *
-     * @param request the controller request.
-     * @return a {@linkplain EmployeeControllerResponse} object with WS response.
+     * @param request  the controller request.
+     * @param deadline the deadline of the inbound request.
+     * @return a {@linkplain CompletableFuture} completed with a {@linkplain EmployeeControllerResponse} object with WS
+     * response, or failed with a {@linkplain ConcurrencyLimitExceededException} if the concurrency limit is reached,
+     * or with a {@linkplain DeadlineExceededException} if the deadline passed.
      */
-    private EmployeeControllerResponse callEmployeeWebService(final EmployeeControllerRequest request) {
+    private CompletableFuture<EmployeeControllerResponse> callEmployeeWebService(final EmployeeControllerRequest request, final Deadline deadline) {
 
+        if (!concurrencyLimiter.tryAcquire()) {
+            log.warn("Concurrency limit reached, shedding employee with Type=[{}], Id[{}]",
+                    request.getDocumentType(), request.getDocumentNumber());
+            return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(concurrencyLimiter.getRetryAfterSeconds()));
+        }
+        final var start = System.nanoTime();
         try {
-            final var soapClientResponse = soapEmployeeClient.createEmployee(buildEmployeeRequest(request));
-
-
-            return buildEmployeeResponse(soapClientResponse);
-
-
+            return soapEmployeeAsyncClient.createEmployee(buildEmployeeRequest(request), deadline)
+                    .whenComplete((response, ex) -> {
+                        if (isNull(ex)) {
+                            concurrencyLimiter.release(System.nanoTime() - start);
+                        } else {
+                            concurrencyLimiter.release(ex);
+                        }
+                    })
+                    .thenApply(this::buildEmployeeResponse)
+                    .exceptionally(ex -> buildUnexpectedEmployeeResponse(request, ex));
+        } catch (DeadlineExceededException ex) {
+            concurrencyLimiter.release(ex);
+            return CompletableFuture.failedFuture(ex);
         } catch (Exception ex) {
-
-            log.warn("Error calling SOAP Employee creator ", ex);
-            return buildUnexpectedResponse("Error", ex.getMessage());
+            concurrencyLimiter.release(ex);
+            return CompletableFuture.completedFuture(buildUnexpectedEmployeeResponse(request, ex));
         }
 
     }
 
+    /**
+     * Build a {@linkplain EmployeeControllerResponse} in case of an error calling the Web Service.
+     *
+     * @param request the controller request.
+     * @param ex      the error thrown by the call.
+     * @return the queued response of the degraded mode, or else a {@linkplain EmployeeControllerResponse} object
+     * with the error message.
+     * @throws DeadlineExceededException if the deadline passed, so each caller sharing the call handles it with its
+     *                                   own deadline. It is not queued, the caller gave up on it.
+     */
+    private EmployeeControllerResponse buildUnexpectedEmployeeResponse(final EmployeeControllerRequest request, final Throwable ex) {
+        final var cause = ex instanceof CompletionException && !isNull(ex.getCause()) ? ex.getCause() : ex;
+        if (cause instanceof DeadlineExceededException) {
+            throw (DeadlineExceededException) cause;
+        }
+        log.warn("Error calling SOAP Employee creator ", cause);
+        final var queuedResponse = degradedMode.queue(request);
+        return isNull(queuedResponse) ? buildUnexpectedResponse("Error", cause.getMessage()) : queuedResponse;
+    }
+
     /**
      * Build a {@linkplain EmployeeControllerResponse} according to the received {@linkplain CreateEmployeeResponse} object.
      *
@@ -10,10 +10,6 @@ import com.prototype.api.employee.common.model.soap.EmployeeResponse;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
-import static com.prototype.api.employee.common.util.EmployeeUtil.extractDateFromLocalDate;
-import static com.prototype.api.employee.common.util.EmployeeUtil.extractDateFromXml;
 
 /**
  * Employee mapper class.
@@ -34,13 +30,13 @@ public class EmployeeServiceMapper {
 
         final var soapRequest = EmployeeRequest.builder()
                 .documentNumber(request.getDocumentNumber())
-                .documentType(request.getDocumentType())
+                .documentType(request.getDocumentType().name())
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .cargo(request.getCargo())
-                .salary(BigDecimal.valueOf(request.getSalary()))
-                .birthDate(extractDateFromLocalDate(request.getBirthDate()))
-                .jobStartDate(extractDateFromLocalDate(request.getJobStartDate()))
+                .salary(request.getSalary())
+                .birthDate(request.getBirthDate())
+                .jobStartDate(request.getJobStartDate())
                 .build();
 
 
@@ -73,15 +69,15 @@ public class EmployeeServiceMapper {
     private static EmployeeData buildEmployeeData(final EmployeeResponse response) {
         return EmployeeData.builder()
                 .documentNumber(response.getDocumentNumber())
-                .birthDate(extractDateFromXml(response.getBirthDate()))
+                .birthDate(response.getBirthDate())
                 .documentType(response.getDocumentType())
                 .firstName(response.getFirstName())
                 .lastName(response.getLastName())
                 .cargo(response.getCargo())
-                .jobStartDate(extractDateFromXml(response.getJobStartDate()))
+                .jobStartDate(response.getJobStartDate())
                 .dateSinceJobStartDate(response.getDateSinceJobStart())
                 .age(response.getAge())
-                .salary(response.getSalary().doubleValue())
+                .salary(response.getSalary())
                 .build();
     }
 
@@ -0,0 +1,30 @@
+package com.prototype.api.employee.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface that define the Employee transcoding service, the fast path of the employee creation
+ *
+ * @author Daniel
+ */
+public interface EmployeeTranscodingService {
+
+    /**
+     * Condition of the fast path beans: enabled by {@code employee.transcoder.enabled}, and only with the codecs that
+     * send an already written envelope and transcode the response.
+     */
+    String ENABLED = "${employee.transcoder.enabled:false} && !'${soap-client.codec:streaming}'.equalsIgnoreCase('saaj')";
+
+    /**
+     * Create an employee from its JSON request, answering with the JSON of the controller response.
+     *
+     * @param body the JSON of a {@linkplain com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest}.
+     * @return a {@linkplain CompletableFuture} completed with the JSON of the
+     * {@linkplain com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse}.
+     * @throws IOException in case of error reading the request, a {@linkplain com.fasterxml.jackson.core.JsonProcessingException}
+     *                     if it is malformed.
+     */
+    CompletableFuture<byte[]> createEmployee(InputStream body) throws IOException;
+}
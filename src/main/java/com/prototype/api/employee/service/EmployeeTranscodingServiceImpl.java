@@ -0,0 +1,321 @@
+package com.prototype.api.employee.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.request.EmployeeDocumentType;
+import com.prototype.api.employee.common.model.controller.request.EmployeeRequestFields;
+import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import com.prototype.api.employee.common.util.ConcurrencyLimitExceededException;
+import com.prototype.api.employee.infrastructure.out.soapclient.JAXBMarshallerPool;
+import com.prototype.api.employee.infrastructure.out.soapclient.SOAPEmployeeAsyncClient;
+import com.prototype.api.employee.infrastructure.out.soapclient.StreamingSOAPEncoder;
+import com.prototype.api.employee.infrastructure.out.soapclient.TemplateSOAPEncoder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.prototype.api.employee.common.json.EmployeeControllerRequestDeserializer.readDate;
+import static com.prototype.api.employee.common.json.EmployeeControllerRequestDeserializer.readText;
+import static com.prototype.api.employee.common.json.SalaryDeserializer.readSalary;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.ERROR_STATUS;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_BIRTH_DATE;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_CARGO;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_DOC_NUMBER;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_DOC_TYPE;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_FIRST_NAME;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_JOB_START_DATE;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_LAST_NAME;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NO_VIOLATIONS;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.firstMessage;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.messages;
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildFailedResponse;
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildUnexpectedResponse;
+import static java.util.Objects.isNull;
+
+/**
+ * Employee transcoding service implementation
+ * <p>
+ * The JSON request is read with a streaming parser into its fields, which are validated with the same rules and
+ * messages as {@linkplain EmployeeServiceImpl}, and with the readers of the
+ * {@linkplain com.prototype.api.employee.common.json.EmployeeControllerRequestDeserializer}. A valid request is written straight into the SOAP envelope by
+ * the {@linkplain TemplateSOAPEncoder}, and the SOAP response is transcoded straight into the controller response
+ * JSON, so neither the request nor the response objects are built. The call goes through the same bulkhead, circuit
+ * breaker and timeouts, takes a permit of the same {@linkplain EmployeeConcurrencyLimiter}, failing at once with a
+ * {@linkplain ConcurrencyLimitExceededException} over the limit, and a failed call is queued by the same
+ * {@linkplain EmployeeDegradedMode}, but it is not
+ * coalesced nor answered from the idempotency cache. A request the template can not write falls back to
+ * {@linkplain EmployeeService}.
+ *
+ * @author Daniel
+ */
+@Slf4j
+@Service
+@ConditionalOnExpression(EmployeeTranscodingService.ENABLED)
+public class EmployeeTranscodingServiceImpl implements EmployeeTranscodingService {
+
+    /**
+     * Asynchronous Employee SOAP client
+     */
+    private final SOAPEmployeeAsyncClient soapEmployeeAsyncClient;
+
+    /**
+     * Employee service, for the requests the template can not write
+     */
+    private final EmployeeService employeeService;
+
+    /**
+     * JSON object mapper
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * SOAP envelope template
+     */
+    private final TemplateSOAPEncoder templateEncoder;
+
+    /**
+     * Degraded mode, queueing the calls that fail
+     */
+    private final EmployeeDegradedMode degradedMode;
+
+    /**
+     * Adaptive concurrency limit of the SOAP calls
+     */
+    private final EmployeeConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * Configured validation rules
+     */
+    private final EmployeeValidationRules validationRules;
+
+    /**
+     * Build the service.
+     *
+     * @param soapEmployeeAsyncClient the asynchronous Employee SOAP client.
+     * @param employeeService         the employee service.
+     * @param objectMapper            the JSON object mapper.
+     * @param marshallerPool          the JAXB marshaller pool, to build the SOAP envelope template.
+     * @param degradedMode            the degraded mode.
+     * @param concurrencyLimiter      the adaptive concurrency limit of the SOAP calls.
+     * @param validationRules         the configured validation rules.
+     */
+    public EmployeeTranscodingServiceImpl(final SOAPEmployeeAsyncClient soapEmployeeAsyncClient, final EmployeeService employeeService,
+                                          final ObjectMapper objectMapper, final JAXBMarshallerPool marshallerPool,
+                                          final EmployeeDegradedMode degradedMode, final EmployeeConcurrencyLimiter concurrencyLimiter,
+                                          final EmployeeValidationRules validationRules) {
+        this.soapEmployeeAsyncClient = soapEmployeeAsyncClient;
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.templateEncoder = new TemplateSOAPEncoder(new StreamingSOAPEncoder(marshallerPool));
+        this.degradedMode = degradedMode;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.validationRules = validationRules;
+    }
+
+    /**
+     * Create an employee from its JSON request, answering with the JSON of the controller response.
+     *
+     * @param body the JSON of a {@linkplain EmployeeControllerRequest}.
+     * @return a {@linkplain CompletableFuture} completed with the JSON of the {@linkplain EmployeeControllerResponse},
+     * or failed with a {@linkplain ConcurrencyLimitExceededException} if the concurrency limit is reached.
+     * @throws IOException in case of error reading the request, a {@linkplain JsonProcessingException} if it is malformed.
+     */
+    @Override
+    public CompletableFuture<byte[]> createEmployee(final InputStream body) throws IOException {
+        final Fields fields;
+        try (var parser = objectMapper.getFactory().createParser(body)) {
+            fields = readFields(parser);
+        }
+
+        log.info("Creating employee with Type=[{}], Id[{}]", fields.documentType, fields.documentNumber);
+
+        if (fields.violations != NO_VIOLATIONS) {
+            log.error("Validation error with employee: {}", messages(fields.violations));
+            return CompletableFuture.completedFuture(writeJson(buildFailedResponse(ERROR_STATUS, firstMessage(fields.violations))));
+        }
+
+        final var envelope = templateEncoder.write(fields.firstName, fields.lastName, fields.documentType.name(),
+                fields.documentNumber, fields.birthDate, fields.jobStartDate, fields.cargo, fields.salary);
+        if (isNull(envelope)) {
+            return employeeService.createEmployeeAsync(fields.toRequest()).thenApply(this::writeJson);
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            log.warn("Concurrency limit reached, shedding employee with Type=[{}], Id[{}]", fields.documentType, fields.documentNumber);
+            return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(concurrencyLimiter.getRetryAfterSeconds()));
+        }
+        final var start = System.nanoTime();
+        try {
+            return soapEmployeeAsyncClient.createEmployeeJson(envelope)
+                    .whenComplete((json, ex) -> {
+                        if (isNull(ex)) {
+                            concurrencyLimiter.release(System.nanoTime() - start);
+                        } else {
+                            concurrencyLimiter.release(ex);
+                        }
+                    })
+                    .exceptionally(ex -> buildUnexpectedEmployeeResponse(fields, ex));
+        } catch (Exception ex) {
+            concurrencyLimiter.release(ex);
+            return CompletableFuture.completedFuture(buildUnexpectedEmployeeResponse(fields, ex));
+        }
+    }
+
+    /**
+     * Read the request fields and validate them.
+     *
+     * @param parser the JSON parser.
+     * @return the request fields, with their violations.
+     * @throws IOException in case of error reading the request.
+     */
+    private Fields readFields(final JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an employee request object");
+        }
+        final var fields = new Fields();
+        String name;
+        while ((name = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (name) {
+                case "firstName":
+                    fields.firstName = readText(parser, NON_VALID_FIRST_NAME);
+                    break;
+                case "lastName":
+                    fields.lastName = readText(parser, NON_VALID_LAST_NAME);
+                    break;
+                case "documentType":
+                    fields.documentType = EmployeeDocumentType.fromValue(readText(parser, NON_VALID_DOC_TYPE));
+                    break;
+                case "documentNumber":
+                    fields.documentNumber = readText(parser, NON_VALID_DOC_NUMBER);
+                    break;
+                case "birthDate":
+                    fields.birthDate = readDate(parser, NON_VALID_BIRTH_DATE);
+                    break;
+                case "jobStartDate":
+                    fields.jobStartDate = readDate(parser, NON_VALID_JOB_START_DATE);
+                    break;
+                case "cargo":
+                    fields.cargo = readText(parser, NON_VALID_CARGO);
+                    break;
+                case "salary":
+                    fields.salary = readSalary(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        fields.violations = validationRules.validate(fields);
+        return fields;
+    }
+
+    /**
+     * Build the response JSON in case of an error calling the Web Service.
+     *
+     * @param fields the request fields.
+     * @param ex     the error thrown by the call.
+     * @return the JSON of the queued response of the degraded mode, or else of the {@linkplain EmployeeControllerResponse}
+     * with the error message.
+     */
+    private byte[] buildUnexpectedEmployeeResponse(final Fields fields, final Throwable ex) {
+        final var cause = ex instanceof CompletionException && !isNull(ex.getCause()) ? ex.getCause() : ex;
+        log.warn("Error calling SOAP Employee creator ", cause);
+        final var queuedResponse = degradedMode.queue(fields.toRequest());
+        return writeJson(isNull(queuedResponse) ? buildUnexpectedResponse("Error", cause.getMessage()) : queuedResponse);
+    }
+
+    /**
+     * Write the controller response as JSON.
+     *
+     * @param response the controller response.
+     * @return the JSON bytes.
+     */
+    private byte[] writeJson(final EmployeeControllerResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+
+    /**
+     * Fields of the request being read, with their violations.
+     */
+    @Getter
+    private static final class Fields implements EmployeeRequestFields {
+
+        /**
+         * Violations bitmask
+         */
+        private int violations;
+
+        /**
+         * Employee firstname
+         */
+        private String firstName;
+
+        /**
+         * Employee lastname
+         */
+        private String lastName;
+
+        /**
+         * Employee document type
+         */
+        private EmployeeDocumentType documentType;
+
+        /**
+         * Employee document number
+         */
+        private String documentNumber;
+
+        /**
+         * Employee birthdate
+         */
+        private LocalDate birthDate;
+
+        /**
+         * Employee job start date
+         */
+        private LocalDate jobStartDate;
+
+        /**
+         * Employee job title
+         */
+        private String cargo;
+
+        /**
+         * Employee salary, in cents
+         */
+        private long salary;
+
+        /**
+         * Build the controller request with the fields.
+         *
+         * @return a {@linkplain EmployeeControllerRequest} object.
+         */
+        private EmployeeControllerRequest toRequest() {
+            return EmployeeControllerRequest.builder()
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .documentType(documentType)
+                    .documentNumber(documentNumber)
+                    .birthDate(birthDate)
+                    .jobStartDate(jobStartDate)
+                    .cargo(cargo)
+                    .salary(salary)
+                    .build();
+        }
+    }
+}
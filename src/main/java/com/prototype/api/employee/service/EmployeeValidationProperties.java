@@ -0,0 +1,41 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.util.EmployeeRule;
+import com.prototype.api.employee.common.util.EmployeeRuleProgram;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Employee request validation properties
+ *
+ * @author Daniel
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = EmployeeValidationProperties.PREFIX)
+public class EmployeeValidationProperties {
+
+    /**
+     * Properties prefix.
+     */
+    public static final String PREFIX = "employee.validation";
+
+    /**
+     * Validation rules, in evaluation order.
+     */
+    private List<EmployeeRule> rules = EmployeeRuleProgram.defaultRules();
+
+    /**
+     * Path of a YAML file with the {@code employee.validation.rules}, reloaded when it changes. Empty for none.
+     */
+    private String rulesFile = "";
+
+    /**
+     * Time between two checks of the rules file.
+     */
+    private Duration reloadInterval = Duration.ofSeconds(10);
+}
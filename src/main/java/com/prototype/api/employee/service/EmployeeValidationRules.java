@@ -0,0 +1,279 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeRequestFields;
+import com.prototype.api.employee.common.util.EmployeeColumns;
+import com.prototype.api.employee.common.util.EmployeeRequestValidator;
+import com.prototype.api.employee.common.util.EmployeeRule;
+import com.prototype.api.employee.common.util.EmployeeRuleProgram;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Configured validation rules of the employee requests.
+ * <p>
+ * The rules are compiled and installed when the application starts, so a non valid rule fails the startup, and the
+ * services validate the requests with them, reporting the violations as the {@linkplain EmployeeRequestValidator}.
+ * <p>
+ * The rules are reloaded at runtime from the {@code employee.validation.rules-file}, a YAML file with the
+ * {@code employee.validation.rules} list: when it is set, its rules replace the configured ones at startup, and a
+ * background thread checks it every {@code employee.validation.reload-interval}, compiling and installing its rules
+ * again when its content changes. Only who can write the file on the host can change the rules, so no HTTP endpoint
+ * is exposed for it. The rules are also reloaded when the {@code employee.validation} properties of the environment
+ * change, if an {@linkplain EnvironmentChangeEvent} is published. A non valid reload is logged and the installed rules
+ * are kept.
+ * <p>
+ * The sampled evaluation time of each rule is published as the {@code employee.validation.rule} timer, by rule name.
+ *
+ * @author Daniel
+ */
+@Slf4j
+@Component
+public class EmployeeValidationRules implements MeterBinder, ApplicationListener<EnvironmentChangeEvent>, DisposableBean {
+
+    /**
+     * Rule cost timer name
+     */
+    private static final String RULE_TIMER = "employee.validation.rule";
+
+    /**
+     * Evaluation cost of the rules, by rule name, kept across reloads
+     */
+    private final Map<String, EmployeeRuleProgram.Cost> costs = new ConcurrentHashMap<>();
+
+    /**
+     * Environment to bind the reloaded rules from
+     */
+    private final Environment environment;
+
+    /**
+     * Meter registry of the rule costs, once bound
+     */
+    private volatile MeterRegistry registry;
+
+    /**
+     * Installed rules
+     */
+    private volatile EmployeeRuleProgram program;
+
+    /**
+     * Rules file, or {@code null} if there is none
+     */
+    private final Path rulesFile;
+
+    /**
+     * Content of the rules file the installed rules were read from, only used by the reload thread
+     */
+    private byte[] rulesFileContent;
+
+    /**
+     * Reload thread of the rules file, or {@code null} if there is none
+     */
+    private final ScheduledExecutorService reloadExecutor;
+
+    /**
+     * Build the rules and install them, the ones of the rules file if there is one, and start watching that file.
+     *
+     * @param properties  the validation properties.
+     * @param environment the environment to bind the reloaded rules from.
+     * @throws UncheckedIOException if the rules file can not be read.
+     */
+    public EmployeeValidationRules(final EmployeeValidationProperties properties, final Environment environment) {
+        this.environment = environment;
+        this.rulesFile = properties.getRulesFile().isBlank() ? null : Path.of(properties.getRulesFile());
+        if (isNull(rulesFile)) {
+            install(properties.getRules());
+            this.reloadExecutor = null;
+        } else {
+            try {
+                rulesFileContent = Files.readAllBytes(rulesFile);
+                install(readRules(rulesFileContent));
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Can not read the employee validation rules file " + rulesFile, ex);
+            }
+            this.reloadExecutor = startReloads(properties.getReloadInterval().toMillis());
+        }
+    }
+
+    /**
+     * Compile and install the rules.
+     *
+     * @param rules the rules, in evaluation order.
+     * @throws IllegalArgumentException if a rule is not valid, the installed rules are kept.
+     */
+    public void install(final List<EmployeeRule> rules) {
+        program = EmployeeRuleProgram.compile(rules, this::cost);
+        log.info("Installed {} employee validation rules", rules.size());
+    }
+
+    /**
+     * Check all the fields of an employee request with the installed rules.
+     *
+     * @param request the employee request fields.
+     * @return the violations bitmask, {@linkplain EmployeeRequestValidator#NO_VIOLATIONS} if the request is valid.
+     */
+    public int validate(final EmployeeRequestFields request) {
+        return program.validate(request);
+    }
+
+    /**
+     * Validate the rows of a large import, stored in columns, with the installed rules.
+     *
+     * @param columns the employee requests, by column.
+     * @return the violations bitmask of each row, the one {@linkplain #validate(EmployeeRequestFields)} returns for it.
+     */
+    public int[] validate(final EmployeeColumns columns) {
+        return program.validate(columns);
+    }
+
+    /**
+     * Reload the rules when the validation properties change.
+     *
+     * @param event the environment change event.
+     */
+    @Override
+    public void onApplicationEvent(final EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().noneMatch(key -> key.startsWith(EmployeeValidationProperties.PREFIX))) {
+            return;
+        }
+        final var properties = Binder.get(environment)
+                .bind(EmployeeValidationProperties.PREFIX, EmployeeValidationProperties.class)
+                .orElseGet(EmployeeValidationProperties::new);
+        try {
+            install(properties.getRules());
+        } catch (IllegalArgumentException ex) {
+            log.error("Non valid employee validation rules, keeping the installed ones: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Reload the rules of the rules file if its content changed.
+     */
+    void reloadRulesFile() {
+        try {
+            final var content = Files.readAllBytes(rulesFile);
+            if (Arrays.equals(content, rulesFileContent)) {
+                return;
+            }
+            rulesFileContent = content;
+            install(readRules(content));
+        } catch (IOException | BindException | IllegalArgumentException ex) {
+            log.error("Non valid employee validation rules file {}, keeping the installed rules: {}", rulesFile, ex.getMessage());
+        }
+    }
+
+    /**
+     * Stop the reload thread.
+     */
+    @Override
+    public void destroy() {
+        if (!isNull(reloadExecutor)) {
+            reloadExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Register the cost timer of the rules.
+     *
+     * @param registry the meter registry.
+     */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        this.registry = registry;
+        costs.forEach((name, cost) -> register(registry, name, cost));
+    }
+
+    /**
+     * Read the rules of a rules file.
+     *
+     * @param content the YAML content of the file.
+     * @return the rules, the default ones if the file has none.
+     * @throws IOException in case of malformed YAML.
+     */
+    private List<EmployeeRule> readRules(final byte[] content) throws IOException {
+        final var sources = new YamlPropertySourceLoader().load(rulesFile.toString(), new ByteArrayResource(content));
+        return new Binder(ConfigurationPropertySources.from(sources))
+                .bind(EmployeeValidationProperties.PREFIX, EmployeeValidationProperties.class)
+                .orElseGet(EmployeeValidationProperties::new)
+                .getRules();
+    }
+
+    /**
+     * Start the thread checking the rules file.
+     *
+     * @param intervalMillis the time between two checks.
+     * @return the reload executor.
+     */
+    private ScheduledExecutorService startReloads(final long intervalMillis) {
+        final var executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "employee-validation-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                reloadRulesFile();
+            } catch (RuntimeException ex) {
+                log.error("Error reloading the employee validation rules", ex);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    /**
+     * Cost of a rule, created and registered the first time the rule name is compiled.
+     *
+     * @param name the rule name.
+     * @return the rule cost.
+     */
+    private EmployeeRuleProgram.Cost cost(final String name) {
+        return costs.computeIfAbsent(name, key -> {
+            final var cost = new EmployeeRuleProgram.Cost();
+            final var meters = registry;
+            if (meters != null) {
+                register(meters, key, cost);
+            }
+            return cost;
+        });
+    }
+
+    /**
+     * Register the cost timer of a rule.
+     *
+     * @param registry the meter registry.
+     * @param name     the rule name.
+     * @param cost     the rule cost.
+     */
+    private static void register(final MeterRegistry registry, final String name, final EmployeeRuleProgram.Cost cost) {
+        FunctionTimer.builder(RULE_TIMER, cost, EmployeeRuleProgram.Cost::samples,
+                        EmployeeRuleProgram.Cost::totalNanos, TimeUnit.NANOSECONDS)
+                .tag("rule", name)
+                .description("Sampled evaluation time of an employee validation rule")
+                .register(registry);
+    }
+}
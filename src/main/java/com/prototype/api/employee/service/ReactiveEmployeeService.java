@@ -0,0 +1,24 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import com.prototype.api.employee.common.util.Deadline;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface that define the Employee service of the reactive stack
+ *
+ * @author Daniel
+ */
+public interface ReactiveEmployeeService {
+
+    /**
+     * Make a non-blocking createEmployee request to the client, answering replays from the idempotency cache
+     *
+     * @param request        a {@linkplain EmployeeControllerRequest} object with endpoint request data.
+     * @param idempotencyKey the idempotency key sent by the client, or {@code null} to key on the request data.
+     * @param deadline       the deadline of the inbound request.
+     * @return a {@linkplain Mono} with the {@linkplain EmployeeControllerResponse} object.
+     */
+    Mono<EmployeeControllerResponse> createEmployee(EmployeeControllerRequest request, String idempotencyKey, Deadline deadline);
+}
@@ -0,0 +1,215 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import com.prototype.api.employee.common.model.soap.CreateEmployeeResponse;
+import com.prototype.api.employee.common.util.ConcurrencyLimitExceededException;
+import com.prototype.api.employee.common.util.Deadline;
+import com.prototype.api.employee.common.util.DeadlineExceededException;
+import com.prototype.api.employee.common.util.SingleFlight;
+import com.prototype.api.employee.infrastructure.out.soapclient.ReactiveSOAPEmployeeClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.ERROR_STATUS;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NO_VIOLATIONS;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.firstMessage;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.messages;
+import static com.prototype.api.employee.service.EmployeeDegradedMode.QUEUED_STATUS;
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildEmployeeRequest;
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildFailedResponse;
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildSuccessfulResponse;
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildUnexpectedResponse;
+import static java.util.Objects.isNull;
+
+/**
+ * Employee service implementation of the reactive stack
+ * <p>
+ * Same validation, idempotency cache, coalescing of concurrent duplicates, concurrency limit and degraded mode as
+ * the {@linkplain EmployeeServiceImpl}, over the non-blocking {@linkplain ReactiveSOAPEmployeeClient}.
+ *
+ * @author Daniel
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    /**
+     * Non-blocking Employee SOAP client
+     */
+    private final ReactiveSOAPEmployeeClient soapEmployeeClient;
+
+    /**
+     * Cache of the completed responses, by idempotency key
+     */
+    private final EmployeeIdempotencyCache idempotencyCache;
+
+    /**
+     * Degraded mode, queueing the calls that fail
+     */
+    private final EmployeeDegradedMode degradedMode;
+
+    /**
+     * Adaptive concurrency limit of the SOAP calls
+     */
+    private final EmployeeConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * Configured validation rules
+     */
+    private final EmployeeValidationRules validationRules;
+
+    /**
+     * Web Service calls in flight, by request
+     */
+    private final SingleFlight<EmployeeControllerRequest, EmployeeControllerResponse> inFlightCalls = new SingleFlight<>();
+
+    /**
+     * Make a non-blocking createEmployee request to the client, answering replays from the idempotency cache
+     *
+     * @param request        a {@linkplain EmployeeControllerRequest} object with endpoint request data.
+     * @param idempotencyKey the idempotency key sent by the client, or {@code null} to key on the request data.
+     * @param deadline       the deadline of the inbound request.
+     * @return a {@linkplain Mono} with the {@linkplain EmployeeControllerResponse} object, or failed with a
+     * {@linkplain com.prototype.api.employee.common.util.IdempotencyKeyMismatchException} if the key was used with a
+     * different request.
+     */
+    @Override
+    public Mono<EmployeeControllerResponse> createEmployee(final EmployeeControllerRequest request, final String idempotencyKey,
+                                                           final Deadline deadline) {
+        return Mono.defer(() -> {
+            final var cachedResponse = idempotencyCache.get(idempotencyKey, request);
+            if (!isNull(cachedResponse)) {
+                log.info("Replaying employee with Type=[{}], Id[{}]", request.getDocumentType(), request.getDocumentNumber());
+                return Mono.just(cachedResponse);
+            }
+            final var queuedResponse = degradedMode.replay(idempotencyKey, request);
+            if (!isNull(queuedResponse)) {
+                return Mono.just(queuedResponse);
+            }
+
+            log.info("Creating employee with Type=[{}], Id[{}]", request.getDocumentType(), request.getDocumentNumber());
+
+            final var violations = validationRules.validate(request);
+            if (violations != NO_VIOLATIONS) {
+                return Mono.just(buildInvalidEmployeeResponse(violations));
+            }
+            return createEmployee(request, deadline)
+                    .doOnNext(response -> cacheResponse(idempotencyKey, request, response));
+        });
+    }
+
+    /**
+     * Cache a created response, or keep the idempotency key of a queued one until its write is done.
+     *
+     * @param idempotencyKey the idempotency key sent by the client, may be null.
+     * @param request        the controller request.
+     * @param response       the completed response.
+     */
+    private void cacheResponse(final String idempotencyKey, final EmployeeControllerRequest request, final EmployeeControllerResponse response) {
+        if (QUEUED_STATUS.equals(response.getStatus())) {
+            degradedMode.replay(idempotencyKey, request);
+        } else {
+            idempotencyCache.put(idempotencyKey, request, response);
+        }
+    }
+
+    /**
+     * Call the Web Service for a valid request, sharing the call in flight of a concurrent duplicate. When the shared
+     * call fails because its deadline passed, a duplicate whose own deadline is still live calls again.
+     *
+     * @param request  the controller request.
+     * @param deadline the deadline of the inbound request.
+     * @return a {@linkplain Mono} with the {@linkplain EmployeeControllerResponse} object.
+     */
+    private Mono<EmployeeControllerResponse> createEmployee(final EmployeeControllerRequest request, final Deadline deadline) {
+        return Mono.fromFuture(inFlightCalls.execute(request, () -> callEmployeeWebService(request, deadline).toFuture()))
+                .onErrorResume(DeadlineExceededException.class, ex -> {
+                    if (!deadline.isExpired()) {
+                        log.info("Shared call expired, calling again for employee with Type=[{}], Id[{}]",
+                                request.getDocumentType(), request.getDocumentNumber());
+                        return createEmployee(request, deadline);
+                    }
+                    log.warn("Deadline exceeded calling SOAP Employee creator with Type=[{}], Id[{}]",
+                            request.getDocumentType(), request.getDocumentNumber());
+                    return Mono.just(buildUnexpectedResponse("Error", ex.getMessage()));
+                });
+    }
+
+    /**
+     * Build a {@linkplain EmployeeControllerResponse} in case of and invalid field in {@linkplain EmployeeControllerRequest}.
+     *
+     * @param violations the violations bitmask of the request.
+     * @return a {@linkplain EmployeeControllerResponse} object with the message of the first validation error.
+     */
+    private EmployeeControllerResponse buildInvalidEmployeeResponse(final int violations) {
+        final var response = EmployeeControllerResponse.builder()
+                .status(ERROR_STATUS)
+                .errorMessage(firstMessage(violations))
+                .build();
+        log.error("Validation error with employee: {}", messages(violations));
+        return response;
+    }
+
+    /**
+     * Call the SOAP Employee web service.
+     *
+     * @param request  the controller request.
+     * @param deadline the deadline of the inbound request.
+     * @return a {@linkplain Mono} with a {@linkplain EmployeeControllerResponse} object with WS response, or failed
+     * with a {@linkplain ConcurrencyLimitExceededException} if the concurrency limit is reached, or with a
+     * {@linkplain DeadlineExceededException} if the deadline passed.
+     */
+    private Mono<EmployeeControllerResponse> callEmployeeWebService(final EmployeeControllerRequest request, final Deadline deadline) {
+        return Mono.defer(() -> {
+            if (!concurrencyLimiter.tryAcquire()) {
+                log.warn("Concurrency limit reached, shedding employee with Type=[{}], Id[{}]",
+                        request.getDocumentType(), request.getDocumentNumber());
+                return Mono.error(new ConcurrencyLimitExceededException(concurrencyLimiter.getRetryAfterSeconds()));
+            }
+            final var start = System.nanoTime();
+            // Subscribed through a future that is never cancelled, so the call always ends in success or error
+            return Mono.fromCallable(() -> buildEmployeeRequest(request))
+                    .flatMap(soapRequest -> soapEmployeeClient.createEmployee(soapRequest, deadline))
+                    .doOnSuccess(response -> concurrencyLimiter.release(System.nanoTime() - start))
+                    .doOnError(concurrencyLimiter::release)
+                    .map(this::buildEmployeeResponse)
+                    .onErrorResume(ex -> !(ex instanceof DeadlineExceededException),
+                            ex -> Mono.just(buildUnexpectedEmployeeResponse(request, ex)));
+        });
+    }
+
+    /**
+     * Build a {@linkplain EmployeeControllerResponse} in case of an error calling the Web Service.
+     *
+     * @param request the controller request.
+     * @param ex      the error of the call.
+     * @return the queued response of the degraded mode, or else a {@linkplain EmployeeControllerResponse} object
+     * with the error message.
+     */
+    private EmployeeControllerResponse buildUnexpectedEmployeeResponse(final EmployeeControllerRequest request, final Throwable ex) {
+        log.warn("Error calling SOAP Employee creator ", ex);
+        final var queuedResponse = degradedMode.queue(request);
+        return isNull(queuedResponse) ? buildUnexpectedResponse("Error", ex.getMessage()) : queuedResponse;
+    }
+
+    /**
+     * Build a {@linkplain EmployeeControllerResponse} according to the received {@linkplain CreateEmployeeResponse} object.
+     *
+     * @param soapClientResponse the received {@linkplain CreateEmployeeResponse} object from the Web Service.
+     * @return a {@linkplain EmployeeControllerResponse}.
+     */
+    private EmployeeControllerResponse buildEmployeeResponse(final CreateEmployeeResponse soapClientResponse) {
+        log.info("Received response from SOAP Employee service: [{}]", soapClientResponse);
+        if (isNull(soapClientResponse.getResponse())) {
+            return buildFailedResponse(soapClientResponse.getStatus(), soapClientResponse.getErrorResponseMessage());
+        } else {
+            return buildSuccessfulResponse(soapClientResponse);
+        }
+    }
+}
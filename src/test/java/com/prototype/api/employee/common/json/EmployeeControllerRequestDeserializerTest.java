@@ -0,0 +1,106 @@
+package com.prototype.api.employee.common.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_BIRTH_DATE;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_FIRST_NAME;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_JOB_START_DATE;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_SALARY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the EmployeeControllerRequest deserializer, against the bean deserializer
+ *
+ * @author Daniel
+ */
+class EmployeeControllerRequestDeserializerTest {
+
+    /**
+     * Valid employee request
+     */
+    private static final String VALID_REQUEST = "{\"firstName\":\"Alex\",\"lastName\":\"Sanchez\",\"documentType\":\"CC\","
+            + "\"documentNumber\":\"123456789\",\"birthDate\":\"1997-12-27\",\"jobStartDate\":\"2021-03-01\","
+            + "\"cargo\":\"Software Engineer\",\"salary\":100.5}";
+
+    /**
+     * Object mapper with the bean deserializer
+     */
+    private ObjectMapper beanMapper;
+
+    /**
+     * Object mapper with the tested deserializer
+     */
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void init() {
+        beanMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        objectMapper = beanMapper.copy().registerModule(new SimpleModule()
+                .addDeserializer(EmployeeControllerRequest.class, new EmployeeControllerRequestDeserializer()));
+    }
+
+    @Test
+    void shouldReadTheSameRequestAsTheBeanDeserializer() throws Exception {
+        final var requests = List.of(VALID_REQUEST, "{}",
+                VALID_REQUEST.replace("100.5", "\" 1500.75 \"").replace("\"CC\"", "\"XX\""),
+                VALID_REQUEST.replace("100.5", "\"\"").replace("\"1997-12-27\"", "\" 1997-12-27\\t\""),
+                VALID_REQUEST.replace("100.5", "null").replace("\"1997-12-27\"", "\"  \""),
+                VALID_REQUEST.replace("100.5", "1500").replace("\"1997-12-27\"", "null"),
+                VALID_REQUEST.replace("100.5", "1.00555E2").replace("\"Alex\"", "12").replace("\"Sanchez\"", "true"),
+                VALID_REQUEST.replace("1997-12-27", "2021-02-30").replace("2021-03-01", "2020-02-31"),
+                VALID_REQUEST.replace("1997-12-27", "0005-01-09").replace("2021-03-01", "9999-12-31"),
+                VALID_REQUEST.replace("{", "{\"unknown\":{\"a\":[1,2]},\"salary\":-1,"));
+
+        for (final var request : requests) {
+            assertThat(objectMapper.readValue(request, EmployeeControllerRequest.class)).as(request)
+                    .isEqualTo(beanMapper.readValue(request, EmployeeControllerRequest.class));
+        }
+    }
+
+    @Test
+    void shouldReadTheItemsOfAStream() throws Exception {
+        try (var requests = objectMapper.readerFor(EmployeeControllerRequest.class)
+                .<EmployeeControllerRequest>readValues(VALID_REQUEST + "\n" + VALID_REQUEST.replace("Alex", "Ana"))) {
+            assertThat(requests.next().getFirstName()).isEqualTo("Alex");
+            assertThat(requests.next().getFirstName()).isEqualTo("Ana");
+            assertThat(requests.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldRejectMalformedValuesWithTheValidationMessage() {
+        assertMessage(VALID_REQUEST.replace("1997-12-27", "27/12/1997"), NON_VALID_BIRTH_DATE);
+        assertMessage(VALID_REQUEST.replace("1997-12-27", "1997-13-01"), NON_VALID_BIRTH_DATE);
+        assertMessage(VALID_REQUEST.replace("\"2021-03-01\"", "20210301"), NON_VALID_JOB_START_DATE);
+        assertMessage(VALID_REQUEST.replace("100.5", "\"cien\""), NON_VALID_SALARY);
+        assertMessage(VALID_REQUEST.replace("100.5", "true"), NON_VALID_SALARY);
+        assertMessage(VALID_REQUEST.replace("100.5", "\"NaN\""), NON_VALID_SALARY);
+        assertMessage(VALID_REQUEST.replace("100.5", "1E+20"), NON_VALID_SALARY);
+        assertMessage(VALID_REQUEST.replace("\"Alex\"", "{}"), NON_VALID_FIRST_NAME);
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue("[]", EmployeeControllerRequest.class));
+    }
+
+    /**
+     * Assert the request is rejected with the given message.
+     *
+     * @param request the request JSON.
+     * @param message the expected message.
+     */
+    private void assertMessage(final String request, final String message) {
+        final var ex = assertThrows(JsonProcessingException.class,
+                () -> objectMapper.readValue(request, EmployeeControllerRequest.class));
+        assertThat(ex.getOriginalMessage()).as(request).isEqualTo(message);
+    }
+}
@@ -0,0 +1,86 @@
+package com.prototype.api.employee.common.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prototype.api.employee.common.model.controller.response.EmployeeBatchItemResponse;
+import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
+import com.prototype.api.employee.common.model.controller.response.EmployeeData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerResponse;
+import static com.prototype.api.employee.util.TestUtil.createFailedEmployeeControllerResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the EmployeeControllerResponse and EmployeeData serializers, against the bean serializer
+ *
+ * @author Daniel
+ */
+class EmployeeControllerResponseSerializerTest {
+
+    /**
+     * Object mapper with the bean serializers
+     */
+    private ObjectMapper beanMapper;
+
+    /**
+     * Object mapper with the tested serializers
+     */
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void init() {
+        beanMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .registerModule(new SimpleModule()
+                        .addSerializer(EmployeeControllerResponse.class, new EmployeeControllerResponseSerializer())
+                        .addSerializer(EmployeeData.class, new EmployeeDataSerializer()));
+    }
+
+    @Test
+    void shouldWriteTheSameJsonAsTheBeanSerializer() throws Exception {
+        final var responses = List.of(createEmployeeControllerResponse("Success", ""),
+                createFailedEmployeeControllerResponse("Error", "Non valid \"request\"\n"),
+                new EmployeeControllerResponse(),
+                EmployeeControllerResponse.builder().employeeData(new EmployeeData()).build(),
+                withDates(LocalDate.of(5, 1, 9), LocalDate.of(9999, 12, 31)),
+                withDates(LocalDate.of(12021, 3, 1), LocalDate.of(-3, 10, 20)),
+                withDates(LocalDate.of(0, 2, 29), null));
+
+        for (final var response : responses) {
+            assertThat(objectMapper.writeValueAsString(response)).isEqualTo(beanMapper.writeValueAsString(response));
+            assertThat(objectMapper.writeValueAsBytes(response)).isEqualTo(beanMapper.writeValueAsBytes(response));
+        }
+    }
+
+    @Test
+    void shouldWriteTheUnwrappedResponseOfABatchItem() throws Exception {
+        final var items = List.of(new EmployeeBatchItemResponse(3, createEmployeeControllerResponse("Success", "")),
+                new EmployeeBatchItemResponse(4, null));
+
+        for (final var item : items) {
+            assertThat(objectMapper.writeValueAsString(item)).isEqualTo(beanMapper.writeValueAsString(item));
+        }
+        assertThat(objectMapper.writeValueAsString(items.get(0))).startsWith("{\"index\":3,\"status\":\"Success\"");
+    }
+
+    /**
+     * Build a successful response with the given dates.
+     *
+     * @param birthDate    the birthdate.
+     * @param jobStartDate the job start date.
+     * @return a {@linkplain EmployeeControllerResponse} object.
+     */
+    private static EmployeeControllerResponse withDates(final LocalDate birthDate, final LocalDate jobStartDate) {
+        return EmployeeControllerResponse.builder()
+                .status("Success")
+                .employeeData(EmployeeData.builder().firstName("José").birthDate(birthDate).jobStartDate(jobStartDate)
+                        .salary(1_000_000_000L).build())
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.prototype.api.employee.common.model.controller.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for EmployeeDocumentType
+ *
+ * @author Daniel
+ */
+class EmployeeDocumentTypeTest {
+
+    @Test
+    void shouldFindTheDocumentTypeByName() {
+        assertThat(EmployeeDocumentType.fromValue("PP")).isEqualTo(EmployeeDocumentType.PP);
+        assertThat(EmployeeDocumentType.fromValue("pp")).isNull();
+        assertThat(EmployeeDocumentType.fromValue(null)).isNull();
+    }
+
+    @Test
+    void shouldReadAnUnknownDocumentTypeAsNull() throws Exception {
+        final var objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        final var valid = objectMapper.readValue("{\"documentType\":\"CE\"}", EmployeeControllerRequest.class);
+        final var unknown = objectMapper.readValue("{\"documentType\":\"ABC\"}", EmployeeControllerRequest.class);
+
+        assertThat(valid.getDocumentType()).isEqualTo(EmployeeDocumentType.CE);
+        assertThat(unknown.getDocumentType()).isNull();
+    }
+}
@@ -0,0 +1,42 @@
+package com.prototype.api.employee.common.model.soap;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for LocalDateAdapter
+ *
+ * @author Daniel
+ */
+class LocalDateAdapterTest {
+
+    /**
+     * Tested class
+     */
+    private final LocalDateAdapter adapter = new LocalDateAdapter();
+
+    @Test
+    void shouldWriteTheDateWithoutTimezone() {
+        assertThat(adapter.marshal(LocalDate.of(1997, 12, 27))).isEqualTo("1997-12-27");
+        assertThat(adapter.marshal(LocalDate.of(5, 1, 9))).isEqualTo("0005-01-09");
+        assertThat(adapter.marshal(null)).isNull();
+    }
+
+    @Test
+    void shouldReadTheDateIgnoringTheTimezone() {
+        assertThat(adapter.unmarshal("2021-11-21")).isEqualTo(LocalDate.of(2021, 11, 21));
+        assertThat(adapter.unmarshal(" 2021-11-21-05:00 ")).isEqualTo(LocalDate.of(2021, 11, 21));
+        assertThat(adapter.unmarshal("2021-11-21Z")).isEqualTo(LocalDate.of(2021, 11, 21));
+        assertThat(adapter.unmarshal(null)).isNull();
+    }
+
+    @Test
+    void shouldRejectANonValidDate() {
+        assertThatThrownBy(() -> adapter.unmarshal("2021-13-01")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> adapter.unmarshal("21/11/2021")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,49 @@
+package com.prototype.api.employee.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for BoundedPool
+ *
+ * @author Daniel
+ */
+class BoundedPoolTest {
+
+    @Test
+    void shouldReturnTheReleasedInstances() {
+        final var pool = new BoundedPool<String>(2);
+
+        assertThat(pool.poll()).isNull();
+        pool.offer("a");
+
+        assertThat(pool.poll()).isEqualTo("a");
+        assertThat(pool.poll()).isNull();
+    }
+
+    @Test
+    void shouldDropTheInstances_WhenThePoolIsFull() {
+        final var pool = new BoundedPool<String>(2);
+
+        pool.offer("a");
+        pool.offer("b");
+        pool.offer("c");
+
+        assertThat(pool.size()).isEqualTo(2);
+        assertThat(pool.poll()).isEqualTo("a");
+        assertThat(pool.poll()).isEqualTo("b");
+        assertThat(pool.poll()).isNull();
+        assertThat(pool.size()).isZero();
+    }
+
+    @Test
+    void shouldShareTheInstancesBetweenThreads() throws InterruptedException {
+        final var pool = new BoundedPool<String>(2);
+        final var thread = new Thread(() -> pool.offer("a"));
+        thread.start();
+        thread.join();
+
+        assertThat(pool.poll()).isEqualTo("a");
+    }
+}
@@ -1,10 +1,16 @@
 package com.prototype.api.employee.common.util;
 
+import com.prototype.api.employee.common.model.controller.request.EmployeeDocumentType;
 import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.DOC_NUMBER_VIOLATION;
 import static com.prototype.api.employee.common.util.EmployeeRequestValidator.ERROR_STATUS;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.LAST_NAME_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_LAST_NAME;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NO_VIOLATIONS;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.SALARY_VIOLATION;
 import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_BIRTH_DATE;
 import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_CARGO;
 import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_DOC_NUMBER;
@@ -12,7 +18,11 @@ import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NO
 import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_FIRST_NAME;
 import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_JOB_START_DATE;
 import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_SALARY;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.firstMessage;
 import static com.prototype.api.employee.common.util.EmployeeRequestValidator.isValidRequest;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.messages;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.validate;
+import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerRequest;
 import static com.prototype.api.employee.util.TestUtil.createNotValidEmployeeControllerRequest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -125,7 +135,7 @@ class EmployeeRequestValidatorTest {
     @Test
     void shouldRejectRequest_WhenDocTypeIsNotValid() {
         final var request = createNotValidEmployeeControllerRequest()
-                .documentType("ABC")
+                .documentType(EmployeeDocumentType.fromValue("ABC"))
                 .build();
         final var isValid =  isValidRequest(request, responseBuilder);
         final var response = responseBuilder.build();
@@ -168,4 +178,25 @@ class EmployeeRequestValidatorTest {
         assertThat(response.getErrorMessage()).isNotNull().isEqualTo(NON_VALID_DOC_NUMBER);
 
     }
+
+    @Test
+    void shouldReportNoViolations_WhenRequestIsValid() {
+        assertThat(validate(createEmployeeControllerRequest())).isEqualTo(NO_VIOLATIONS);
+        assertThat(validate(createNotValidEmployeeControllerRequest().documentNumber("AbZ09").build()))
+                .isEqualTo(NO_VIOLATIONS);
+    }
+
+    @Test
+    void shouldReportAllViolations_InCheckOrder() {
+        final var request = createNotValidEmployeeControllerRequest()
+                .lastName(" ")
+                .salary(-1)
+                .documentNumber("ñ123")
+                .build();
+        final var violations = validate(request);
+
+        assertThat(violations).isEqualTo(LAST_NAME_VIOLATION | SALARY_VIOLATION | DOC_NUMBER_VIOLATION);
+        assertThat(firstMessage(violations)).isEqualTo(NON_VALID_LAST_NAME);
+        assertThat(messages(violations)).containsExactly(NON_VALID_LAST_NAME, NON_VALID_SALARY, NON_VALID_DOC_NUMBER);
+    }
 }
@@ -0,0 +1,169 @@
+package com.prototype.api.employee.common.util;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.request.EmployeeDocumentType;
+import com.prototype.api.employee.common.util.EmployeeRule.Check;
+import com.prototype.api.employee.common.util.EmployeeRule.Field;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.DOC_TYPE_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.FIRST_NAME_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.JOB_START_DATE_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NO_VIOLATIONS;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.SALARY_VIOLATION;
+import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerRequest;
+import static com.prototype.api.employee.util.TestUtil.createNotValidEmployeeControllerRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the compiled validation rules
+ *
+ * @author Daniel
+ */
+class EmployeeRuleProgramTest {
+
+    @Test
+    void shouldCheckTheConfiguredBounds() {
+        final var program = EmployeeRuleProgram.compile(List.of(
+                new EmployeeRule(Field.SALARY, Check.MIN, "50"),
+                new EmployeeRule(Field.SALARY, Check.MAX, "1000"),
+                new EmployeeRule(Field.FIRST_NAME, Check.MAX_LENGTH, "4"),
+                new EmployeeRule(Field.DOCUMENT_TYPE, Check.ONE_OF, "CC, CE"),
+                new EmployeeRule(Field.JOB_START_DATE, Check.MAX_DAYS_BEFORE_TODAY, "36500")));
+
+        assertThat(program.validate(createEmployeeControllerRequest())).isEqualTo(NO_VIOLATIONS);
+        assertThat(program.validate(createNotValidEmployeeControllerRequest().salary(4999).firstName("Alexa")
+                .documentType(EmployeeDocumentType.PP).build()))
+                .isEqualTo(SALARY_VIOLATION | FIRST_NAME_VIOLATION | DOC_TYPE_VIOLATION);
+        assertThat(program.validate(createNotValidEmployeeControllerRequest().salary(100001)
+                .jobStartDate(EmployeeUtil.today().minusDays(36501)).build()))
+                .isEqualTo(SALARY_VIOLATION | JOB_START_DATE_VIOLATION);
+        assertThat(program.validate(createNotValidEmployeeControllerRequest().salary(-1).build()))
+                .isEqualTo(SALARY_VIOLATION);
+    }
+
+    @Test
+    void shouldSkipTheRulesOfAFieldThatAlreadyFailed() {
+        final var program = EmployeeRuleProgram.compile(List.of(
+                new EmployeeRule(Field.FIRST_NAME, Check.NOT_NULL, null),
+                new EmployeeRule(Field.FIRST_NAME, Check.MIN_LENGTH, "2")));
+        final var request = createNotValidEmployeeControllerRequest().firstName(null).build();
+
+        for (var i = 0; i < EmployeeRuleProgram.SAMPLE_RATE * 100; i++) {
+            assertThat(program.validate(request)).isEqualTo(FIRST_NAME_VIOLATION);
+        }
+        assertThat(program.cost(0).samples()).isPositive();
+        assertThat(program.cost(1).samples()).isZero();
+        assertThat(program.name(1)).isEqualTo("first-name.min-length");
+    }
+
+    @Test
+    void shouldRejectNonValidRules() {
+        assertThrows(IllegalArgumentException.class, () -> EmployeeRuleProgram.compile(
+                List.of(new EmployeeRule(Field.SALARY, Check.NOT_BLANK, null))));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeRuleProgram.compile(
+                List.of(new EmployeeRule(Field.FIRST_NAME, Check.MAX_LENGTH, null))));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeRuleProgram.compile(
+                List.of(new EmployeeRule(Field.FIRST_NAME, Check.MAX_LENGTH, "-1"))));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeRuleProgram.compile(
+                List.of(new EmployeeRule(Field.DOCUMENT_TYPE, Check.ONE_OF, "CC,XX"))));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeRuleProgram.compile(
+                List.of(new EmployeeRule(null, Check.NOT_NULL, null))));
+    }
+
+    @Test
+    void shouldNotAllocate_WhenValidatingARequest() {
+        final var program = EmployeeRuleProgram.compile(EmployeeRuleProgram.defaultRules());
+        final var request = createEmployeeControllerRequest();
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var threadId = Thread.currentThread().getId();
+        final var iterations = 100_000;
+        var violations = 0;
+        for (var i = 0; i < iterations; i++) {
+            violations |= program.validate(request);
+        }
+
+        final var start = threads.getThreadAllocatedBytes(threadId);
+        for (var i = 0; i < iterations; i++) {
+            violations |= program.validate(request);
+        }
+        final var allocated = threads.getThreadAllocatedBytes(threadId) - start;
+
+        assertThat(violations).isEqualTo(NO_VIOLATIONS);
+        assertThat(allocated / iterations).isZero();
+    }
+
+    @Test
+    void shouldReturnThePerRequestViolations_WhenValidatingColumns() {
+        final var rules = new ArrayList<>(EmployeeRuleProgram.defaultRules());
+        rules.add(new EmployeeRule(Field.FIRST_NAME, Check.MAX_LENGTH, "6"));
+        rules.add(new EmployeeRule(Field.LAST_NAME, Check.NOT_NULL, null));
+        rules.add(new EmployeeRule(Field.DOCUMENT_TYPE, Check.ONE_OF, "CC,CE"));
+        rules.add(new EmployeeRule(Field.SALARY, Check.MIN, "50"));
+        rules.add(new EmployeeRule(Field.SALARY, Check.MAX, "1000"));
+        rules.add(new EmployeeRule(Field.SALARY, Check.NOT_NULL, null));
+        rules.add(new EmployeeRule(Field.BIRTH_DATE, Check.MAX_DAYS_BEFORE_TODAY, "36500"));
+        final var program = EmployeeRuleProgram.compile(rules);
+        final var random = new Random(42);
+        final var texts = new String[]{null, "", "  ", "Alex", "Alexandra", "AB12", "12-3", "Ñandú"};
+        final var today = EmployeeUtil.today();
+        final var requests = new ArrayList<EmployeeControllerRequest>();
+        for (var i = 0; i < EmployeeRuleProgram.ROWS_PER_TASK * 3 + 7; i++) {
+            final var documentTypes = EmployeeDocumentType.values();
+            final var documentType = random.nextInt(documentTypes.length + 1);
+            requests.add(createNotValidEmployeeControllerRequest()
+                    .firstName(texts[random.nextInt(texts.length)])
+                    .lastName(texts[random.nextInt(texts.length)])
+                    .cargo(texts[random.nextInt(texts.length)])
+                    .documentNumber(texts[random.nextInt(texts.length)])
+                    .documentType(documentType == documentTypes.length ? null : documentTypes[documentType])
+                    .birthDate(random.nextInt(10) == 0 ? null : today.minusDays(random.nextInt(40_000)))
+                    .jobStartDate(random.nextInt(10) == 0 ? null : today.minusDays(random.nextInt(20_000) - 10))
+                    .salary(random.nextInt(200_000) - 10_000)
+                    .build());
+        }
+
+        final var violations = program.validate(EmployeeColumns.of(requests));
+
+        assertThat(violations).hasSize(requests.size());
+        for (var row = 0; row < requests.size(); row++) {
+            assertThat(violations[row]).as("row %d", row).isEqualTo(program.validate(requests.get(row)));
+        }
+        assertThat(violations).contains(NO_VIOLATIONS);
+    }
+
+    @Test
+    void shouldValidateTheColumnsLikeTheRequests_WhenTheColumnsAreFilledByColumn() {
+        final var program = EmployeeRuleProgram.compile(EmployeeRuleProgram.defaultRules());
+        final var requests = List.of(
+                createEmployeeControllerRequest(),
+                createNotValidEmployeeControllerRequest().build(),
+                createNotValidEmployeeControllerRequest().documentNumber("123").documentType(null).jobStartDate(null).build());
+        final var columns = new EmployeeColumns(requests.size());
+        for (var row = 0; row < requests.size(); row++) {
+            final var request = requests.get(row);
+            columns.setFirstName(row, request.getFirstName());
+            columns.setLastName(row, request.getLastName());
+            columns.setDocumentType(row, request.getDocumentType());
+            columns.setDocumentNumber(row, request.getDocumentNumber());
+            columns.setBirthEpochDay(row, request.getBirthDate().toEpochDay());
+            columns.setJobStartEpochDay(row, request.getJobStartDate() == null
+                    ? EmployeeColumns.NULL_DATE : request.getJobStartDate().toEpochDay());
+            columns.setCargo(row, request.getCargo());
+            columns.setSalaryCents(row, request.getSalary());
+        }
+
+        final var violations = program.validate(columns);
+
+        assertThat(violations).containsExactly(
+                program.validate(requests.get(0)), program.validate(requests.get(1)), program.validate(requests.get(2)));
+        assertThat(violations[0]).isEqualTo(NO_VIOLATIONS);
+        assertThat(violations[2] & DOC_TYPE_VIOLATION).isEqualTo(DOC_TYPE_VIOLATION);
+    }
+}
@@ -8,6 +8,7 @@ import java.time.LocalDate;
 
 import static com.prototype.api.employee.common.util.EmployeeUtil.extractDateFromLocalDate;
 import static com.prototype.api.employee.common.util.EmployeeUtil.extractDateFromXml;
+import static com.prototype.api.employee.common.util.EmployeeUtil.today;
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -39,4 +40,13 @@ class EmployeeUtilTest {
         assertThat(result.getMonthValue()).isEqualTo(11);
         assertThat(result.getYear()).isEqualTo(2021);
     }
+
+    @Test
+    void shouldReturnTheCurrentDate() {
+        final var before = LocalDate.now();
+        final var result = today();
+
+        assertThat(result).isBetween(before, LocalDate.now());
+        assertThat(today()).isSameAs(result);
+    }
 }
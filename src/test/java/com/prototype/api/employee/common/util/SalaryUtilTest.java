@@ -0,0 +1,50 @@
+package com.prototype.api.employee.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the salary fixed-point utils
+ *
+ * @author Daniel
+ */
+class SalaryUtilTest {
+
+    @Test
+    void shouldReadTheSalaryAsBigDecimalRoundingHalfUpToTheCent() {
+        final var values = List.of("100.5", "100", "0.005", "-0.005", " +1234.50 ", "1E+3", "1.00555E2", "12345e-4",
+                "0.0000001", "-0", ".75", "92233720368547758.07", "1e-1000", "0e1000", "100.000000000000000000",
+                "0.12345678901234567890", "1.99999999999999999999999", "0.12345678901234567890e5",
+                "12345678901234567890123e-10", "92233720368547758.0749999999", "0.0049999999999999999999");
+
+        for (final var value : values) {
+            final var expected = new BigDecimal(value.trim()).setScale(SalaryUtil.SCALE, RoundingMode.HALF_UP)
+                    .unscaledValue().longValueExact();
+            assertThat(SalaryUtil.parse(value)).as(value).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldRejectNonValidSalaries() {
+        for (final var value : List.of("", "-", "1.2.3", "1e", "1e+", "NaN", "Infinity", "1,5", "92233720368547758.08",
+                "1e1000", "12345678901234567890")) {
+            assertThrows(NumberFormatException.class, () -> SalaryUtil.parse(value), value);
+        }
+    }
+
+    @Test
+    void shouldWriteTheSalaryAsBigDecimalFromDouble() {
+        for (final var cents : new long[]{10050, 10000, 5, -5, 0, 123456, 100001, -99}) {
+            final var expected = BigDecimal.valueOf(cents / 100.0).toPlainString();
+            assertThat(SalaryUtil.toPlainString(cents)).isEqualTo(expected);
+        }
+        assertThat(SalaryUtil.toPlainString(Long.MAX_VALUE)).isEqualTo("92233720368547758.07");
+        assertThat(SalaryUtil.toPlainString(Long.MIN_VALUE)).isEqualTo("-92233720368547758.08");
+    }
+}
@@ -0,0 +1,113 @@
+package com.prototype.api.employee.common.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for SingleFlight
+ *
+ * @author Daniel
+ */
+class SingleFlightTest {
+
+    /**
+     * Tested class
+     */
+    private SingleFlight<String, String> singleFlight;
+
+    /**
+     * Number of started calls
+     */
+    private AtomicInteger calls;
+
+    @BeforeEach
+    public void init() {
+        singleFlight = new SingleFlight<>();
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void shouldShareTheCallInFlight_WhenTheKeyIsTheSame() {
+        final var call = new CompletableFuture<String>();
+
+        final var first = singleFlight.execute("CC:1", () -> start(call));
+        final var second = singleFlight.execute("CC:1", () -> start(new CompletableFuture<>()));
+        call.complete("created");
+
+        assertThat(first.join()).isEqualTo("created");
+        assertThat(second.join()).isEqualTo("created");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(singleFlight.getCoalesced()).isEqualTo(1);
+        assertThat(singleFlight.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotShareTheCall_WhenTheKeyIsDifferent() {
+        singleFlight.execute("CC:1", () -> start(new CompletableFuture<>()));
+        singleFlight.execute("CC:2", () -> start(new CompletableFuture<>()));
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(singleFlight.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStartANewCall_WhenThePreviousOneCompleted() {
+        final var first = singleFlight.execute("CC:1", () -> start(CompletableFuture.completedFuture("first")));
+        final var second = singleFlight.execute("CC:1", () -> start(CompletableFuture.completedFuture("second")));
+
+        assertThat(first.join()).isEqualTo("first");
+        assertThat(second.join()).isEqualTo("second");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldShareTheFailure_WhenTheCallFails() {
+        final var call = new CompletableFuture<String>();
+
+        final var first = singleFlight.execute("CC:1", () -> start(call));
+        final var second = singleFlight.execute("CC:1", () -> start(new CompletableFuture<>()));
+        call.completeExceptionally(new IllegalStateException("Failed"));
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(singleFlight.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldReleaseTheKey_WhenTheCallThrows() {
+        final var first = singleFlight.execute("CC:1", () -> {
+            throw new IllegalStateException("Failed");
+        });
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(singleFlight.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotAffectOtherCallers_WhenACallerCompletesItsFuture() {
+        final var call = new CompletableFuture<String>();
+
+        final var first = singleFlight.execute("CC:1", () -> start(call));
+        final var second = singleFlight.execute("CC:1", () -> start(new CompletableFuture<>()));
+        first.cancel(true);
+        call.complete("created");
+
+        assertThat(second.join()).isEqualTo("created");
+    }
+
+    /**
+     * Count a started call.
+     *
+     * @param call the call result.
+     * @return the call result.
+     */
+    private CompletableFuture<String> start(final CompletableFuture<String> call) {
+        calls.incrementAndGet();
+        return call;
+    }
+}
@@ -0,0 +1,40 @@
+package com.prototype.api.employee.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the virtual threads of the running JDK
+ *
+ * @author Daniel
+ */
+class VirtualThreadsTest {
+
+    @Test
+    void shouldBeSupportedFromJava21() {
+        assertThat(VirtualThreads.isSupported()).isEqualTo(Runtime.version().feature() >= 21);
+    }
+
+    @Test
+    void shouldRunEachTaskOnANewNamedThread_WhenSupported() throws Exception {
+        if (!VirtualThreads.isSupported()) {
+            assertThrows(IllegalStateException.class, () -> VirtualThreads.newThreadPerTaskExecutor("test-"));
+            return;
+        }
+        final var executor = VirtualThreads.newThreadPerTaskExecutor("test-");
+        try {
+            final var first = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor);
+            final var second = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor);
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).startsWith("test-");
+            assertThat(second.get(5, TimeUnit.SECONDS)).startsWith("test-").isNotEqualTo(first.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
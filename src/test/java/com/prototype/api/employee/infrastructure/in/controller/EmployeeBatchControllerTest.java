@@ -0,0 +1,126 @@
+package com.prototype.api.employee.infrastructure.in.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prototype.api.employee.service.EmployeeBatchProperties;
+import com.prototype.api.employee.service.EmployeeBatchService.ItemPermits;
+import com.prototype.api.employee.service.EmployeeBatchServiceImpl;
+import com.prototype.api.employee.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerResponse;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for EmployeeBatchController class
+ *
+ * @author Daniel
+ */
+class EmployeeBatchControllerTest {
+
+    /**
+     * Employee request JSON
+     */
+    private static final String REQUEST = "{\"firstName\":\"Alex\",\"lastName\":\"Sanchez\",\"documentType\":\"CC\","
+            + "\"documentNumber\":\"123456789\",\"birthDate\":\"1997-12-27\",\"jobStartDate\":\"2021-03-01\","
+            + "\"cargo\":\"Software Engineer\",\"salary\":100.5}";
+
+    /**
+     * Tested class.
+     */
+    private EmployeeBatchController employeeBatchController;
+
+    @BeforeEach
+    public void init() {
+        final var employeeService = mock(EmployeeService.class);
+        when(employeeService.createEmployeeAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(createEmployeeControllerResponse("", "")));
+        final var objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        employeeBatchController = new EmployeeBatchControllerImpl(
+                new EmployeeBatchServiceImpl(employeeService, new EmployeeBatchProperties()), objectMapper);
+    }
+
+    @Test
+    void shouldStreamOneLinePerItem_WhenTheInputIsAJsonArray() throws Exception {
+        final var lines = createEmployees("[" + REQUEST + "," + REQUEST + "]", MediaType.APPLICATION_JSON, null);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines).allSatisfy(line -> assertThat(line)
+                .matches("\\{\"index\":[01],\"status\":\"\",\"errorMessage\":\"\",\"employeeData\":\\{.*}}"));
+    }
+
+    @Test
+    void shouldStreamOneLinePerItem_WhenTheInputIsNdjson() throws Exception {
+        final var lines = createEmployees(REQUEST + "\n" + REQUEST + "\n\n" + REQUEST + "\n");
+
+        assertThat(lines).hasSize(3);
+    }
+
+    @Test
+    void shouldStreamAnErrorLineAndGoOn_WhenAnNdjsonItemIsMalformed() throws Exception {
+        final var lines = createEmployees(REQUEST + "\n{\"firstName\":\n" + REQUEST + "\n");
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"index\":0,\"status\":\"\"");
+        assertThat(lines[1]).startsWith("{\"index\":1,\"status\":\"Error\",\"errorMessage\":\"Malformed batch item\"");
+        assertThat(lines[2]).startsWith("{\"index\":2,\"status\":\"\"");
+    }
+
+    @Test
+    void shouldStreamATruncatedInputLine_WhenTheJsonArrayCanNotBeReadPastAnItem() throws Exception {
+        final var lines = createEmployees("[" + REQUEST + ",{\"firstName\":", MediaType.APPLICATION_JSON, null);
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines[1]).startsWith("{\"index\":1,\"status\":\"Error\",\"errorMessage\":\"Malformed batch item\"");
+        assertThat(lines[2]).startsWith("{\"index\":2,\"status\":\"Error\",\"errorMessage\":\"Malformed batch input");
+    }
+
+    @Test
+    void shouldStopTheBatchWithAnErrorLine_WhenTheItemsRunOutOfPermits() throws Exception {
+        final var permits = new AtomicInteger(2);
+
+        final var lines = createEmployees(REQUEST + "\n" + REQUEST + "\n" + REQUEST + "\n" + REQUEST + "\n",
+                MediaType.APPLICATION_NDJSON, () -> permits.getAndDecrement() > 0);
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).startsWith("{\"index\":2,\"status\":\"Error\",\"errorMessage\":\"Too many requests");
+    }
+
+    /**
+     * Call the batch endpoint with an NDJSON body, as a client that is not rate limited.
+     *
+     * @param body the request body.
+     * @return the response lines.
+     * @throws Exception in case of error writing the response.
+     */
+    private String[] createEmployees(final String body) throws Exception {
+        return createEmployees(body, MediaType.APPLICATION_NDJSON, null);
+    }
+
+    /**
+     * Call the batch endpoint.
+     *
+     * @param body        the request body.
+     * @param contentType the media type of the body.
+     * @param itemPermits the per-item permits, may be null.
+     * @return the response lines.
+     * @throws Exception in case of error writing the response.
+     */
+    private String[] createEmployees(final String body, final MediaType contentType, final ItemPermits itemPermits) throws Exception {
+        final var output = new ByteArrayOutputStream();
+        employeeBatchController.createEmployees(new ByteArrayInputStream(body.getBytes(UTF_8)), contentType, itemPermits)
+                .writeTo(output);
+        return output.toString(UTF_8).split("\n");
+    }
+}
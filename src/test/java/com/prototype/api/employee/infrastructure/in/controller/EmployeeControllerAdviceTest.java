@@ -0,0 +1,89 @@
+package com.prototype.api.employee.infrastructure.in.controller;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.prototype.api.employee.common.util.ConcurrencyLimitExceededException;
+import com.prototype.api.employee.common.util.IdempotencyKeyMismatchException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.web.server.ServerWebInputException;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_BIRTH_DATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for EmployeeControllerAdvice class
+ *
+ * @author Daniel
+ */
+class EmployeeControllerAdviceTest {
+
+    /**
+     * Tested class.
+     */
+    private final EmployeeControllerAdvice controllerAdvice = new EmployeeControllerAdvice();
+
+    @Test
+    void shouldAnswerServiceUnavailableWithRetryAfter_WhenTheConcurrencyLimitIsReached() {
+
+        final var response = controllerAdvice.handleConcurrencyLimitExceeded(new ConcurrencyLimitExceededException(2));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo("Error");
+        assertThat(response.getBody().getErrorMessage()).isEqualTo(ConcurrencyLimitExceededException.MESSAGE);
+    }
+
+    @Test
+    void shouldAnswerUnprocessableEntity_WhenTheIdempotencyKeyIsReusedWithADifferentRequest() {
+
+        final var response = controllerAdvice.handleIdempotencyKeyMismatch(new IdempotencyKeyMismatchException());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo("Error");
+        assertThat(response.getBody().getErrorMessage()).isEqualTo(IdempotencyKeyMismatchException.MESSAGE);
+    }
+
+    @Test
+    void shouldAnswerBadRequestWithTheFieldMessage_WhenTheDeserializerRejectsTheRequest() {
+        final var parseError = new JsonParseException(null, NON_VALID_BIRTH_DATE);
+
+        final var response = controllerAdvice.handleNonReadableRequest(new HttpMessageNotReadableException(
+                "JSON parse error: " + NON_VALID_BIRTH_DATE, parseError, new MockHttpInputMessage(new byte[0])));
+        final var reactiveResponse = controllerAdvice.handleNonReadableRequest(new ServerWebInputException(
+                "Failed to read HTTP message", null, new RuntimeException(parseError)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo("Error");
+        assertThat(response.getBody().getErrorMessage()).isEqualTo(NON_VALID_BIRTH_DATE);
+        assertThat(reactiveResponse.getBody()).isNotNull();
+        assertThat(reactiveResponse.getBody().getErrorMessage()).isEqualTo(NON_VALID_BIRTH_DATE);
+    }
+
+    @Test
+    void shouldAnswerBadRequestWithAGenericMessage_WhenTheBodyIsNotAParseError() {
+
+        final var response = controllerAdvice.handleNonReadableRequest(new HttpMessageNotReadableException(
+                "Required request body is missing", new MockHttpInputMessage(new byte[0])));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getErrorMessage()).isEqualTo(EmployeeControllerAdvice.NON_READABLE_REQUEST);
+    }
+
+    @Test
+    void shouldAnswerBadRequestWithTheParserMessage_WhenAStreamedBodyIsNotValidJson() {
+
+        final var response = controllerAdvice.handleMalformedJson(new JsonParseException(null, "Unexpected character"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo("Error");
+        assertThat(response.getBody().getErrorMessage()).isEqualTo("Unexpected character");
+    }
+}
@@ -1,8 +1,12 @@
 package com.prototype.api.employee.infrastructure.in.controller;
 
+import com.prototype.api.employee.common.util.Deadline;
 import com.prototype.api.employee.service.EmployeeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.CompletableFuture;
 
 import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_DOC_NUMBER;
 import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerRequest;
@@ -11,7 +15,10 @@ import static com.prototype.api.employee.util.TestUtil.createFailedEmployeeContr
 import static com.prototype.api.employee.util.TestUtil.createNotValidEmployeeControllerRequest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -39,9 +46,9 @@ class EmployeeControllerTest {
 
     @Test
     void shouldReturnEmployeeResponseSuccessfully() {
-        when(employeeService.createEmployee(any())).thenReturn(createEmployeeControllerResponse("", ""));
+        when(employeeService.createEmployeeAsync(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(createEmployeeControllerResponse("", "")));
 
-        final var response = employeeController.createEmployee(createEmployeeControllerRequest());
+        final var response = employeeController.createEmployee(null, null, createEmployeeControllerRequest()).join();
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isNotNull().isEqualTo("");
@@ -58,9 +65,9 @@ class EmployeeControllerTest {
     @Test
     void shouldReturnEmployeeResponseSuccessfully_WhenEmployeeAlreadyExists() {
 
-        when(employeeService.createEmployee(any())).thenReturn(createEmployeeControllerResponse("Error", "The employee already exists"));
+        when(employeeService.createEmployeeAsync(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(createEmployeeControllerResponse("Error", "The employee already exists")));
 
-        final var response = employeeController.createEmployee(createEmployeeControllerRequest());
+        final var response = employeeController.createEmployee(null, null, createEmployeeControllerRequest()).join();
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isNotNull().isEqualTo("Error");
@@ -76,9 +83,9 @@ class EmployeeControllerTest {
 
     @Test
     void shouldReturnNotSuccessfulResponse_WhenAnExceptionIsThrown(){
-        when(employeeService.createEmployee(any())).thenReturn(createFailedEmployeeControllerResponse("Error", "Message"));
+        when(employeeService.createEmployeeAsync(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(createFailedEmployeeControllerResponse("Error", "Message")));
 
-        final var response = employeeController.createEmployee(createEmployeeControllerRequest());
+        final var response = employeeController.createEmployee(null, null, createEmployeeControllerRequest()).join();
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isNotNull().isEqualTo("Error");
@@ -90,8 +97,8 @@ class EmployeeControllerTest {
     @Test
     void shouldReturnNotSuccessfulResponse_WhenValidationFails(){
 
-        when(employeeService.createEmployee(any())).thenReturn(createFailedEmployeeControllerResponse("Error", NON_VALID_DOC_NUMBER));
-        final var response = employeeController.createEmployee(createNotValidEmployeeControllerRequest().build());
+        when(employeeService.createEmployeeAsync(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(createFailedEmployeeControllerResponse("Error", NON_VALID_DOC_NUMBER)));
+        final var response = employeeController.createEmployee(null, null, createNotValidEmployeeControllerRequest().build()).join();
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isNotNull().isEqualTo("Error");
@@ -99,4 +106,18 @@ class EmployeeControllerTest {
         assertThat(response.getEmployeeData()).isNull();
 
     }
+
+    @Test
+    void shouldPassTheRequestTimeoutAsTheDeadline() {
+        when(employeeService.createEmployeeAsync(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(createEmployeeControllerResponse("", "")));
+        final var deadline = ArgumentCaptor.forClass(Deadline.class);
+
+        employeeController.createEmployee("key", 60_000L, createEmployeeControllerRequest()).join();
+        employeeController.createEmployee("key", null, createEmployeeControllerRequest()).join();
+
+        verify(employeeService, times(2)).createEmployeeAsync(any(), eq("key"), deadline.capture());
+        assertThat(deadline.getAllValues().get(0).isBounded()).isTrue();
+        assertThat(deadline.getAllValues().get(0).remainingMillis()).isBetween(1L, 60_000L);
+        assertThat(deadline.getAllValues().get(1)).isSameAs(Deadline.none());
+    }
 }
@@ -0,0 +1,124 @@
+package com.prototype.api.employee.infrastructure.in.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prototype.api.employee.service.EmployeeBatchService.ItemPermits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for ClientRateLimitFilter
+ *
+ * @author Daniel
+ */
+class ClientRateLimitFilterTest {
+
+    /**
+     * Tested class, with a burst of 1 and 1 permit per second
+     */
+    private ClientRateLimitFilter filter;
+
+    @BeforeEach
+    public void init() throws JsonProcessingException {
+        final var properties = new ClientRateLimitProperties();
+        properties.setPermitsPerSecond(1);
+        properties.setBurst(1);
+        properties.setApiKeys(Set.of("batch", "interactive"));
+        filter = new ClientRateLimitFilter(new ClientRateLimiter(properties), properties, new ObjectMapper());
+    }
+
+    @Test
+    void shouldRejectTheRequest_WhenTheClientIsOverItsRate() throws ServletException, IOException {
+        final var first = doFilter(createRequest("/api", "batch"));
+        final var second = doFilter(createRequest("/api", "batch"));
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(second.getContentAsString()).contains(ClientRateLimiter.REJECTED_MESSAGE);
+    }
+
+    @Test
+    void shouldLetOtherClientsThrough_WhenAClientIsOverItsRate() throws ServletException, IOException {
+        doFilter(createRequest("/api", "batch"));
+        doFilter(createRequest("/api", "batch"));
+
+        assertThat(doFilter(createRequest("/api", null)).getStatus()).isEqualTo(200);
+        assertThat(doFilter(createRequest("/api", "interactive")).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldKeyUnknownApiKeysByAddress() throws ServletException, IOException {
+        assertThat(doFilter(createRequest("/api", "random-1")).getStatus()).isEqualTo(200);
+
+        assertThat(doFilter(createRequest("/api", "random-2")).getStatus()).isEqualTo(429);
+        assertThat(doFilter(createRequest("/api", null)).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void shouldLimitEveryCreationRoute() throws ServletException, IOException {
+        doFilter(createRequest("/api", "batch"));
+
+        assertThat(doFilter(createRequest("/api/stream", "batch")).getStatus()).isEqualTo(429);
+        assertThat(doFilter(createRequest("/api/batch", "batch")).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void shouldChargeEachBatchItemAfterTheFirst() throws ServletException, IOException {
+        final var request = createRequest("/api/batch", "batch");
+        assertThat(doFilter(request).getStatus()).isEqualTo(200);
+        final var itemPermits = (ItemPermits) request.getAttribute(ClientRateLimitFilter.ITEM_PERMITS_ATTRIBUTE);
+
+        assertThat(itemPermits).isNotNull();
+        assertThat(itemPermits.tryAcquire()).isTrue();
+        assertThat(itemPermits.tryAcquire()).isFalse();
+        assertThat(doFilter(createRequest("/api", "batch")).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void shouldNotLimitTheOtherRoutes() throws ServletException, IOException {
+        doFilter(createRequest("/actuator/health", "batch"));
+
+        assertThat(doFilter(createRequest("/actuator/health", "batch")).getStatus()).isEqualTo(200);
+    }
+
+    /**
+     * Build a request.
+     *
+     * @param path   the servlet path.
+     * @param apiKey the API key, may be null.
+     * @return the request.
+     */
+    private static MockHttpServletRequest createRequest(final String path, final String apiKey) {
+        final var request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+
+    /**
+     * Run the tested filter.
+     *
+     * @param request the request.
+     * @return the response.
+     * @throws ServletException in case of error in the chain.
+     * @throws IOException      in case of error writing the response.
+     */
+    private MockHttpServletResponse doFilter(final MockHttpServletRequest request) throws ServletException, IOException {
+        final var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,110 @@
+package com.prototype.api.employee.infrastructure.in.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for ClientRateLimiter
+ *
+ * @author Daniel
+ */
+class ClientRateLimiterTest {
+
+    /**
+     * Clock of the tested class, in nanoseconds
+     */
+    private AtomicLong clock;
+
+    /**
+     * Tested class, with 10 permits per second and a burst of 5
+     */
+    private ClientRateLimiter rateLimiter;
+
+    @BeforeEach
+    public void init() {
+        final var properties = new ClientRateLimitProperties();
+        properties.setPermitsPerSecond(10);
+        properties.setBurst(5);
+        properties.setApiKeys(Set.of("batch"));
+        clock = new AtomicLong(-TimeUnit.SECONDS.toNanos(100));
+        rateLimiter = new ClientRateLimiter(properties, clock::get);
+    }
+
+    @Test
+    void shouldRejectTheRequests_WhenTheBurstIsUsed() {
+        for (var i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("addr:1")).isZero();
+        }
+
+        assertThat(rateLimiter.tryAcquire("addr:1")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void shouldRefillTheBucketAtTheRate() {
+        for (var i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("addr:1");
+        }
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+
+        assertThat(rateLimiter.tryAcquire("addr:1")).isZero();
+        assertThat(rateLimiter.tryAcquire("addr:1")).isZero();
+        assertThat(rateLimiter.tryAcquire("addr:1")).isPositive();
+    }
+
+    @Test
+    void shouldNotRefillTheBucketOverTheBurst() {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        for (var i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("addr:1")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire("addr:1")).isPositive();
+    }
+
+    @Test
+    void shouldLimitEachClientOnItsOwn() {
+        for (var i = 0; i < 6; i++) {
+            rateLimiter.tryAcquire("addr:1");
+        }
+
+        assertThat(rateLimiter.tryAcquire("addr:2")).isZero();
+        assertThat(rateLimiter.tryAcquire("key:batch")).isZero();
+    }
+
+    @Test
+    void shouldKeyTheClientByKnownApiKeyOrElseByAddress() {
+        assertThat(rateLimiter.clientKey("batch", "10.0.0.1")).isEqualTo("key:batch");
+        assertThat(rateLimiter.clientKey("batch", null)).isEqualTo("key:batch");
+        assertThat(rateLimiter.clientKey("random", "10.0.0.1")).isEqualTo("addr:10.0.0.1");
+        assertThat(rateLimiter.clientKey(" ", "10.0.0.1")).isEqualTo("addr:10.0.0.1");
+        assertThat(rateLimiter.clientKey(null, "10.0.0.1")).isEqualTo("addr:10.0.0.1");
+        assertThat(rateLimiter.clientKey("random", null)).isNull();
+    }
+
+    @Test
+    void shouldRoundTheRetryAfterUpToSeconds() {
+        assertThat(ClientRateLimiter.retryAfterSeconds(1L)).isEqualTo(1);
+        assertThat(ClientRateLimiter.retryAfterSeconds(TimeUnit.MILLISECONDS.toNanos(1001))).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRegisterTheRejectedCounter() {
+        final var registry = new SimpleMeterRegistry();
+        rateLimiter.bindTo(registry);
+
+        for (var i = 0; i < 7; i++) {
+            rateLimiter.tryAcquire("addr:1");
+        }
+
+        assertThat(registry.get("employee.rate-limit.rejected").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.size").tag("cache", "employee.rate-limit").gauge().value()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,62 @@
+package com.prototype.api.employee.infrastructure.in.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for ReactiveClientRateLimitFilter
+ *
+ * @author Daniel
+ */
+class ReactiveClientRateLimitFilterTest {
+
+    /**
+     * Tested class, with a burst of 1 and 1 permit per second
+     */
+    private ReactiveClientRateLimitFilter filter;
+
+    @BeforeEach
+    public void init() throws JsonProcessingException {
+        final var properties = new ClientRateLimitProperties();
+        properties.setPermitsPerSecond(1);
+        properties.setBurst(1);
+        filter = new ReactiveClientRateLimitFilter(new ClientRateLimiter(properties), properties, new ObjectMapper());
+    }
+
+    @Test
+    void shouldRejectTheRequest_WhenTheAddressIsOverItsRate() {
+        final var address = new InetSocketAddress("10.0.0.1", 40000);
+
+        assertThat(doFilter(MockServerHttpRequest.post("/api/stream").remoteAddress(address))).isNull();
+        assertThat(doFilter(MockServerHttpRequest.post("/api/stream").remoteAddress(address)))
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void shouldNotShareABucket_WhenTheRequestsHaveNoAddress() {
+        assertThat(doFilter(MockServerHttpRequest.get("/api"))).isNull();
+        assertThat(doFilter(MockServerHttpRequest.get("/api"))).isNull();
+    }
+
+    /**
+     * Run the tested filter.
+     *
+     * @param request the request.
+     * @return the status set by the filter, {@code null} if the request went through.
+     */
+    private HttpStatus doFilter(final MockServerHttpRequest.BaseBuilder<?> request) {
+        final var exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, filtered -> Mono.empty()).block();
+        return exchange.getResponse().getStatusCode();
+    }
+}
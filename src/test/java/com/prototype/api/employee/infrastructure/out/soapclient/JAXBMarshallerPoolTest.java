@@ -0,0 +1,75 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import static com.prototype.api.employee.util.TestUtil.createJAXBMarshallerPool;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the JAXB marshaller pool
+ *
+ * @author Daniel
+ */
+class JAXBMarshallerPoolTest {
+
+    /**
+     * Tested class
+     */
+    private JAXBMarshallerPool pool;
+
+    @BeforeEach
+    public void init() {
+        pool = createJAXBMarshallerPool();
+    }
+
+    @Test
+    void shouldReuseReleasedMarshaller() throws JAXBException {
+        final var first = pool.borrowMarshaller();
+        pool.release(first);
+        final var second = pool.borrowMarshaller();
+
+        assertThat(second).isSameAs(first);
+        assertThat(pool.getMarshallerMisses()).isEqualTo(1);
+        assertThat(pool.getMarshallerHits()).isEqualTo(1);
+        assertThat(second.getProperty(Marshaller.JAXB_FRAGMENT)).isEqualTo(Boolean.TRUE);
+    }
+
+    @Test
+    void shouldKeepAtMostTheConfiguredIdleInstances() throws JAXBException {
+        final var first = pool.borrowUnmarshaller();
+        final var second = pool.borrowUnmarshaller();
+        final var third = pool.borrowUnmarshaller();
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+
+        pool.borrowUnmarshaller();
+        pool.borrowUnmarshaller();
+        pool.borrowUnmarshaller();
+
+        assertThat(pool.getUnmarshallerHits()).isEqualTo(2);
+        assertThat(pool.getUnmarshallerMisses()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldReuseTheInstancesReleasedByOtherThreads() throws Exception {
+        pool.release(pool.borrowMarshaller());
+
+        final var thread = new Thread(() -> {
+            try {
+                pool.borrowMarshaller();
+            } catch (JAXBException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertThat(pool.getMarshallerMisses()).isEqualTo(1);
+        assertThat(pool.getMarshallerHits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the rolling latency histogram
+ *
+ * @author Daniel
+ */
+class LatencyHistogramTest {
+
+    /**
+     * Fake clock, in nanoseconds
+     */
+    private AtomicLong clock;
+
+    /**
+     * Tested class
+     */
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    public void init() {
+        clock = new AtomicLong();
+        histogram = new LatencyHistogram(Duration.ofSeconds(10), 6, clock::get);
+    }
+
+    @Test
+    void shouldReturnTheBucketBoundOfThePercentile() {
+        for (var i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(histogram.valueAtPercentile(0.5, 1))).isBetween(50L, 60L);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(histogram.valueAtPercentile(0.99, 1))).isBetween(99L, 119L);
+        assertThat(histogram.count()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldReturnNoValue_WhenThereAreNotEnoughSamples() {
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(histogram.valueAtPercentile(0.99, 2)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldForgetTheSamples_WhenTheyLeaveTheWindow() {
+        histogram.record(TimeUnit.SECONDS.toNanos(3));
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(histogram.count()).isEqualTo(2);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(40));
+
+        assertThat(histogram.count()).isEqualTo(1);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(histogram.valueAtPercentile(1, 1))).isLessThan(13L);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        assertThat(histogram.count()).isZero();
+    }
+}
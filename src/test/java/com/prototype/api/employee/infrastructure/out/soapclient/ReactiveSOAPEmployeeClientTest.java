@@ -0,0 +1,161 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.util.Deadline;
+import com.prototype.api.employee.common.util.DeadlineExceededException;
+import feign.codec.DecodeException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.prototype.api.employee.util.TestUtil.SUCCESSFUL_SOAP_RESPONSE;
+import static com.prototype.api.employee.util.TestUtil.createJAXBMarshallerPool;
+import static com.prototype.api.employee.util.TestUtil.getCreateEmployeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for the non-blocking SOAP Employee client class
+ *
+ * @author Daniel
+ */
+class ReactiveSOAPEmployeeClientTest {
+
+    /**
+     * JAXB marshaller pool of the codecs
+     */
+    private JAXBMarshallerPool marshallerPool;
+
+    /**
+     * Circuit breaker of the SOAP calls
+     */
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    public void init() {
+        marshallerPool = createJAXBMarshallerPool();
+        circuitBreaker = CircuitBreaker.ofDefaults("employee");
+    }
+
+    @Test
+    void shouldPostTheEnvelopeAndDecodeTheResponse() {
+        final var sent = new AtomicReference<ClientRequest>();
+        final var client = createClient(request -> {
+            sent.set(request);
+            return respond(HttpStatus.OK, SUCCESSFUL_SOAP_RESPONSE);
+        }, Bulkhead.ofDefaults("employee-reactive"));
+
+        final var response = client.createEmployee(getCreateEmployeeRequest(), Deadline.none()).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("Success");
+        assertThat(response.getResponse()).isNotNull();
+        assertThat(sent.get().url().getPath()).isEqualTo(ReactiveSOAPEmployeeClient.PATH);
+        assertThat(sent.get().headers().getContentType()).isEqualTo(MediaType.TEXT_XML);
+        assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFail_WhenTheServiceAnswersAnError() {
+        final var client = createClient(request -> respond(HttpStatus.INTERNAL_SERVER_ERROR, ""),
+                Bulkhead.ofDefaults("employee-reactive"));
+
+        final var response = client.createEmployee(getCreateEmployeeRequest(), Deadline.none());
+
+        assertThatThrownBy(response::block).hasMessageContaining("500");
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFail_WhenTheResponseHasNoBody() {
+        final var client = createClient(request -> respond(HttpStatus.OK, ""), Bulkhead.ofDefaults("employee-reactive"));
+
+        assertThatThrownBy(() -> client.createEmployee(getCreateEmployeeRequest(), Deadline.none()).block()).isInstanceOf(DecodeException.class);
+    }
+
+    @Test
+    void shouldFailWithoutCallingTheService_WhenTheDeadlineHasPassed() {
+        final var client = createClient(request -> {
+            throw new AssertionError("The service must not be called");
+        }, Bulkhead.ofDefaults("employee-reactive"));
+
+        assertThatThrownBy(() -> client.createEmployee(getCreateEmployeeRequest(), Deadline.afterMillis(0)).block())
+                .isInstanceOf(DeadlineExceededException.class);
+        assertThat(circuitBreaker.getMetrics().getNumberOfBufferedCalls()).isZero();
+    }
+
+    @Test
+    void shouldFailWithDeadlineExceeded_WhenTheCallTimesOutOnTheCappedTimeout() {
+        final var client = createClient(request -> Mono.never(), Bulkhead.ofDefaults("employee-reactive"));
+
+        assertThatThrownBy(() -> client.createEmployee(getCreateEmployeeRequest(), Deadline.afterMillis(20)).block())
+                .isInstanceOf(DeadlineExceededException.class);
+    }
+
+    @Test
+    void shouldFailFast_WhenTheCircuitBreakerIsOpen() {
+        circuitBreaker.transitionToOpenState();
+        final var client = createClient(request -> {
+            throw new AssertionError("The service must not be called");
+        }, Bulkhead.ofDefaults("employee-reactive"));
+
+        assertThatThrownBy(() -> client.createEmployee(getCreateEmployeeRequest(), Deadline.none()).block())
+                .isInstanceOf(CallNotPermittedException.class);
+    }
+
+    @Test
+    void shouldRejectAtOnce_WhenTheBulkheadIsFull() {
+        final var bulkhead = Bulkhead.of("employee-reactive", BulkheadConfig.custom().maxConcurrentCalls(1).build());
+        final var client = createClient(request -> Mono.never(), bulkhead);
+
+        final var first = client.createEmployee(getCreateEmployeeRequest(), Deadline.none()).subscribe();
+
+        assertThatThrownBy(() -> client.createEmployee(getCreateEmployeeRequest(), Deadline.none()).block())
+                .isInstanceOf(BulkheadFullException.class);
+        first.dispose();
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    /**
+     * Create the tested client over the given exchange.
+     *
+     * @param exchange the exchange answering the calls.
+     * @param bulkhead the bulkhead of the calls.
+     * @return the client.
+     */
+    private ReactiveSOAPEmployeeClient createClient(final ExchangeFunction exchange, final Bulkhead bulkhead) {
+        final var webClient = WebClient.builder()
+                .baseUrl("http://localhost:10002")
+                .exchangeFunction(exchange)
+                .build();
+        return new ReactiveSOAPEmployeeClient(webClient, new StreamingSOAPEncoder(marshallerPool),
+                new StreamingSOAPDecoder(marshallerPool), circuitBreaker, bulkhead,
+                new SOAPLatencyPolicy(new SOAPClientProperties()));
+    }
+
+    /**
+     * Answer a call.
+     *
+     * @param status the HTTP status.
+     * @param body   the response body.
+     * @return the response.
+     */
+    private static Mono<ClientResponse> respond(final HttpStatus status, final String body) {
+        return Mono.just(ClientResponse.create(status)
+                .header("Content-Type", MediaType.TEXT_XML_VALUE)
+                .body(body)
+                .build());
+    }
+}
@@ -0,0 +1,202 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.util.Deadline;
+import com.prototype.api.employee.common.util.DeadlineExceededException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.prototype.api.employee.util.TestUtil.getCreateEmployeeRequest;
+import static com.prototype.api.employee.util.TestUtil.getCreateEmployeeResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test for asynchronous SOAP Employee client class
+ *
+ * @author Daniel
+ */
+class SOAPEmployeeAsyncClientTest {
+
+    /**
+     * SOAP Employee client
+     */
+    private SOAPEmployeeClient soapEmployeeClient;
+
+    /**
+     * Circuit breaker of the SOAP calls
+     */
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    public void init() {
+        soapEmployeeClient = mock(SOAPEmployeeClient.class);
+        circuitBreaker = CircuitBreaker.ofDefaults("employee");
+    }
+
+    @Test
+    void shouldCompleteWithTheClientResponse() {
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateEmployeeResponse("", ""));
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, Runnable::run, circuitBreaker, Bulkhead.ofDefaults("employee"),
+                new SOAPLatencyPolicy(new SOAPClientProperties()));
+
+        final var response = asyncClient.createEmployee(getCreateEmployeeRequest()).join();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("");
+        assertThat(response.getResponse()).isNotNull();
+    }
+
+    @Test
+    void shouldCompleteExceptionally_WhenExecutorRejectsTheCall() {
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, command -> {
+            throw new RejectedExecutionException("Queue is full");
+        }, circuitBreaker, Bulkhead.ofDefaults("employee"),
+                new SOAPLatencyPolicy(new SOAPClientProperties()));
+
+        final var response = asyncClient.createEmployee(getCreateEmployeeRequest());
+
+        assertThat(response).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldFailFast_WhenTheCircuitBreakerIsOpen() {
+        circuitBreaker.transitionToOpenState();
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, Runnable::run, circuitBreaker, Bulkhead.ofDefaults("employee"),
+                new SOAPLatencyPolicy(new SOAPClientProperties()));
+
+        final var response = asyncClient.createEmployee(getCreateEmployeeRequest());
+
+        assertThat(response).isCompletedExceptionally();
+        assertThatThrownBy(response::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(CallNotPermittedException.class);
+        verifyNoInteractions(soapEmployeeClient);
+    }
+
+    @Test
+    void shouldFailFast_WhenTheBulkheadIsFull() {
+        final var bulkhead = Bulkhead.of("employee", BulkheadConfig.custom().maxConcurrentCalls(1).build());
+        final var pending = new CompletableFuture<Runnable>();
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, pending::complete, circuitBreaker, bulkhead,
+                new SOAPLatencyPolicy(new SOAPClientProperties()));
+
+        final var first = asyncClient.createEmployee(getCreateEmployeeRequest());
+        final var second = asyncClient.createEmployee(getCreateEmployeeRequest());
+
+        assertThat(first).isNotDone();
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(BulkheadFullException.class);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void shouldFailWithoutCallingTheService_WhenTheDeadlineHasPassed() {
+        final var latencyPolicy = new SOAPLatencyPolicy(new SOAPClientProperties());
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, Runnable::run, circuitBreaker, Bulkhead.ofDefaults("employee"),
+                latencyPolicy);
+
+        final var response = asyncClient.createEmployee(getCreateEmployeeRequest(), Deadline.afterMillis(0));
+
+        assertThatThrownBy(response::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(DeadlineExceededException.class);
+        verifyNoInteractions(soapEmployeeClient);
+        assertThat(circuitBreaker.getMetrics().getNumberOfBufferedCalls()).isZero();
+    }
+
+    @Test
+    void shouldFailWithoutCallingTheService_WhenTheDeadlinePassesInTheQueue() throws Exception {
+        final var pending = new CompletableFuture<Runnable>();
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, pending::complete, circuitBreaker, Bulkhead.ofDefaults("employee"),
+                new SOAPLatencyPolicy(new SOAPClientProperties()));
+
+        final var response = asyncClient.createEmployee(getCreateEmployeeRequest(), Deadline.afterMillis(20));
+        Thread.sleep(50);
+        pending.get().run();
+
+        assertThatThrownBy(response::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(DeadlineExceededException.class);
+        verifyNoInteractions(soapEmployeeClient);
+    }
+
+    @Test
+    void shouldFailWithDeadlineExceeded_WhenTheCallTimesOutOnTheCappedTimeout() {
+        when(soapEmployeeClient.createEmployee(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(30);
+            throw new IllegalStateException("Read timed out");
+        });
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, Runnable::run, circuitBreaker, Bulkhead.ofDefaults("employee"),
+                new SOAPLatencyPolicy(new SOAPClientProperties()));
+
+        final var response = asyncClient.createEmployee(getCreateEmployeeRequest(), Deadline.afterMillis(10));
+
+        assertThatThrownBy(response::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(DeadlineExceededException.class);
+    }
+
+    @Test
+    void shouldKeepTheFailure_WhenTheCallFailsWithinTheDeadline() {
+        when(soapEmployeeClient.createEmployee(any(), any())).thenThrow(new IllegalStateException("Connection refused"));
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, Runnable::run, circuitBreaker, Bulkhead.ofDefaults("employee"),
+                new SOAPLatencyPolicy(new SOAPClientProperties()));
+
+        final var response = asyncClient.createEmployee(getCreateEmployeeRequest(), Deadline.afterMillis(10_000));
+
+        assertThatThrownBy(response::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCallTheServiceWithTheTimeoutsCappedToTheDeadline() {
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateEmployeeResponse("", ""));
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, Runnable::run, circuitBreaker, Bulkhead.ofDefaults("employee"),
+                new SOAPLatencyPolicy(new SOAPClientProperties()));
+        final var options = ArgumentCaptor.forClass(Request.Options.class);
+
+        asyncClient.createEmployee(getCreateEmployeeRequest(), Deadline.afterMillis(1000)).join();
+
+        verify(soapEmployeeClient).createEmployee(any(), options.capture());
+        assertThat(options.getValue().readTimeoutMillis()).isBetween(1, 1000);
+    }
+
+    @Test
+    void shouldCompleteWithTheHedgedAttempt_WhenTheFirstOneIsSlow() throws Exception {
+        final var properties = new SOAPClientProperties();
+        properties.getTimeout().setMinSamples(1);
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setMinDelay(Duration.ofMillis(10));
+        final var latencyPolicy = new SOAPLatencyPolicy(properties);
+        latencyPolicy.record(TimeUnit.MILLISECONDS.toNanos(1));
+        final var release = new CountDownLatch(1);
+        when(soapEmployeeClient.createEmployee(any(), any()))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return getCreateEmployeeResponse("Slow", "");
+                })
+                .thenReturn(getCreateEmployeeResponse("Hedged", ""));
+        final var executor = Executors.newFixedThreadPool(2);
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, executor, circuitBreaker,
+                Bulkhead.ofDefaults("employee"), latencyPolicy);
+
+        final var response = asyncClient.createEmployee(getCreateEmployeeRequest()).get(5, TimeUnit.SECONDS);
+
+        assertThat(response.getStatus()).isEqualTo("Hedged");
+        verify(soapEmployeeClient, times(2)).createEmployee(any(), any());
+        release.countDown();
+        executor.shutdown();
+    }
+}
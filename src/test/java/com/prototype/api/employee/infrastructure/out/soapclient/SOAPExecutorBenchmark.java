@@ -0,0 +1,206 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.model.soap.CreateEmployeeRequest;
+import com.prototype.api.employee.common.model.soap.CreateEmployeeResponse;
+import com.prototype.api.employee.common.util.VirtualThreads;
+import feign.Request;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.prototype.api.employee.util.TestUtil.getCreateEmployeeRequest;
+import static com.prototype.api.employee.util.TestUtil.getCreateEmployeeResponse;
+
+/**
+ * Benchmark of the request handling and SOAP call threads at high SOAP latency
+ * <p>
+ * Each request is handled on a handler thread, as Tomcat does, that blocks on the {@linkplain SOAPEmployeeAsyncClient}
+ * call, and the call sleeps for the SOAP latency on the SOAP client executor. It prints the throughput, the peak
+ * resident memory and the peak number of platform threads. Run one mode per JVM, on Java 21 for the virtual mode:
+ * <pre>
+ * java -cp target/classes:target/test-classes:&lt;dependencies&gt; \
+ *     com.prototype.api.employee.infrastructure.out.soapclient.SOAPExecutorBenchmark virtual 2000 500 20000
+ * </pre>
+ * The modes are {@code platform}, with the default 200 Tomcat threads and 50 SOAP client threads,
+ * {@code platform-sized}, with as many platform threads as concurrent requests, and {@code virtual}. The arguments
+ * after the mode are the concurrent requests, the SOAP latency in milliseconds and the number of requests.
+ *
+ * @author Daniel
+ */
+public final class SOAPExecutorBenchmark {
+
+    /**
+     * Default max number of Tomcat threads
+     */
+    private static final int TOMCAT_THREADS = 200;
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args the mode, concurrent requests, SOAP latency in milliseconds and number of requests.
+     * @throws Exception in case of error.
+     */
+    public static void main(final String[] args) throws Exception {
+        final var mode = args.length > 0 ? args[0] : "virtual";
+        final var concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        final var latencyMillis = args.length > 2 ? Long.parseLong(args[2]) : 500L;
+        final var requests = args.length > 3 ? Integer.parseInt(args[3]) : 20_000;
+
+        final ExecutorService handlers;
+        final ExecutorService soapExecutor;
+        switch (mode) {
+            case "platform":
+                handlers = Executors.newFixedThreadPool(TOMCAT_THREADS);
+                soapExecutor = platformExecutor(new SOAPClientProperties().getExecutor().getPoolSize(), concurrency);
+                break;
+            case "platform-sized":
+                handlers = Executors.newFixedThreadPool(concurrency);
+                soapExecutor = platformExecutor(concurrency, concurrency);
+                break;
+            default:
+                handlers = VirtualThreads.newThreadPerTaskExecutor("handler-");
+                soapExecutor = VirtualThreads.newThreadPerTaskExecutor("soap-client-");
+        }
+
+        final SOAPEmployeeClient soapEmployeeClient = new SleepingClient(latencyMillis);
+        final var bulkhead = Bulkhead.of("employee", BulkheadConfig.custom()
+                .maxConcurrentCalls(concurrency).maxWaitDuration(Duration.ofSeconds(60)).build());
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, soapExecutor,
+                CircuitBreaker.ofDefaults("employee"), bulkhead, new SOAPLatencyPolicy(new SOAPClientProperties()));
+
+        final var peakRss = new AtomicLong();
+        final var sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                peakRss.accumulateAndGet(residentKilobytes(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        }, "rss-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+
+        final var request = getCreateEmployeeRequest();
+        final var inFlight = new Semaphore(concurrency);
+        final var done = new CountDownLatch(requests);
+        final var failed = new AtomicLong();
+        final var start = System.nanoTime();
+        for (var i = 0; i < requests; i++) {
+            inFlight.acquire();
+            handlers.execute(() -> {
+                try {
+                    asyncClient.createEmployee(request).join();
+                } catch (RuntimeException ex) {
+                    failed.incrementAndGet();
+                } finally {
+                    inFlight.release();
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        final var seconds = (System.nanoTime() - start) / 1e9;
+        sampler.interrupt();
+
+        System.out.printf("mode=%s concurrency=%d latency=%dms requests=%d failed=%d%n",
+                mode, concurrency, latencyMillis, requests, failed.get());
+        System.out.printf("throughput=%.0f req/s elapsed=%.1fs peakRss=%d MB peakPlatformThreads=%d%n",
+                requests / seconds, seconds, peakRss.get() / 1024, ManagementFactory.getThreadMXBean().getPeakThreadCount());
+        handlers.shutdownNow();
+        soapExecutor.shutdownNow();
+    }
+
+    /**
+     * Bounded pool of platform threads, as the SOAP client uses by default.
+     *
+     * @param poolSize      the number of threads.
+     * @param queueCapacity the capacity of the queue.
+     * @return the executor.
+     */
+    private static ExecutorService platformExecutor(final int poolSize, final int queueCapacity) {
+        return new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity));
+    }
+
+    /**
+     * Resident memory of the process.
+     *
+     * @return the resident memory in kilobytes, or 0 if it is not known.
+     */
+    private static long residentKilobytes() {
+        try {
+            for (final var line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException ex) {
+            return 0L;
+        }
+        return 0L;
+    }
+
+    /**
+     * SOAP client that answers after the SOAP latency.
+     */
+    private static final class SleepingClient implements SOAPEmployeeClient {
+
+        /**
+         * SOAP latency
+         */
+        private final long latencyMillis;
+
+        /**
+         * Build the client.
+         *
+         * @param latencyMillis the SOAP latency in milliseconds.
+         */
+        private SleepingClient(final long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public CreateEmployeeResponse createEmployee(final CreateEmployeeRequest request) {
+            return createEmployee(request, null);
+        }
+
+        @Override
+        public CreateEmployeeResponse createEmployee(final CreateEmployeeRequest request, final Request.Options options) {
+            sleep();
+            return getCreateEmployeeResponse("", "");
+        }
+
+        @Override
+        public byte[] createEmployeeJson(final byte[] envelope, final Request.Options options) {
+            sleep();
+            return new byte[0];
+        }
+
+        /**
+         * Wait for the SOAP latency.
+         */
+        private void sleep() {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for SOAP HTTP client configuration
+ *
+ * @author Daniel
+ */
+class SOAPHttpClientConfigurationTest {
+
+    /**
+     * Tested class
+     */
+    private SOAPHttpClientConfiguration configuration;
+
+    /**
+     * SOAP client properties
+     */
+    private SOAPClientProperties properties;
+
+    @BeforeEach
+    public void init() {
+        configuration = new SOAPHttpClientConfiguration();
+        properties = new SOAPClientProperties();
+    }
+
+    @Test
+    void shouldCreateConnectionManagerWithPoolLimits() {
+        properties.getPool().setMaxConnections(20);
+        properties.getPool().setMaxConnectionsPerRoute(10);
+
+        final var connectionManager = configuration.soapConnectionManager(properties);
+
+        assertThat(connectionManager.getMaxTotal()).isEqualTo(20);
+        assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(10);
+        connectionManager.shutdown();
+    }
+
+    @Test
+    void shouldUseDefaultKeepAlive_WhenServerDoesNotSendIt() {
+        final var response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+
+        final var keepAlive = SOAPHttpClientConfiguration.keepAliveStrategy(30000)
+                .getKeepAliveDuration(response, new BasicHttpContext());
+
+        assertThat(keepAlive).isEqualTo(30000);
+    }
+
+    @Test
+    void shouldUseServerKeepAlive_WhenServerSendsIt() {
+        final var response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.addHeader("Keep-Alive", "timeout=5");
+
+        final var keepAlive = SOAPHttpClientConfiguration.keepAliveStrategy(30000)
+                .getKeepAliveDuration(response, new BasicHttpContext());
+
+        assertThat(keepAlive).isEqualTo(5000);
+    }
+}
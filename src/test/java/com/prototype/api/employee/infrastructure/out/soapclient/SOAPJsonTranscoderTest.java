@@ -0,0 +1,92 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prototype.api.employee.common.model.soap.CreateEmployeeResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildFailedResponse;
+import static com.prototype.api.employee.service.EmployeeServiceMapper.buildSuccessfulResponse;
+import static com.prototype.api.employee.util.TestUtil.SUCCESSFUL_SOAP_RESPONSE;
+import static com.prototype.api.employee.util.TestUtil.createFeignResponse;
+import static com.prototype.api.employee.util.TestUtil.createJAXBMarshallerPool;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the SOAP response to JSON transcoder
+ *
+ * @author Daniel
+ */
+class SOAPJsonTranscoderTest {
+
+    /**
+     * Failed SOAP response, without employee data
+     */
+    private static final String FAILED_RESPONSE = "<SOAP-ENV:Envelope xmlns:SOAP-ENV=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<SOAP-ENV:Body><ns2:createEmployeeResponse xmlns:ns2=\"http://localhost:10002/employees\">"
+            + "<ns2:status>Error</ns2:status><ns2:errorResponseMessage>Employee &amp; \"duplicated\"</ns2:errorResponseMessage>"
+            + "</ns2:createEmployeeResponse></SOAP-ENV:Body></SOAP-ENV:Envelope>";
+
+    /**
+     * Streaming decoder, that transcodes the {@code byte[]} results
+     */
+    private StreamingSOAPDecoder decoder;
+
+    /**
+     * Object mapper of the service path
+     */
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void init() {
+        decoder = new StreamingSOAPDecoder(createJAXBMarshallerPool());
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    @Test
+    void shouldWriteTheSameJsonAsTheServicePath() throws IOException {
+        assertThat(transcode(SUCCESSFUL_SOAP_RESPONSE)).isEqualTo(throughService(SUCCESSFUL_SOAP_RESPONSE));
+        assertThat(transcode(FAILED_RESPONSE)).isEqualTo(throughService(FAILED_RESPONSE));
+    }
+
+    @Test
+    void shouldWriteTheDatesWithoutTimezone_AndTheSalaryAsADouble() throws IOException {
+        final var response = SUCCESSFUL_SOAP_RESPONSE
+                .replace("1997-12-27<", "1997-12-27-05:00<")
+                .replace("<ns2:salary>100.00<", "<ns2:salary> 1234.50 <");
+
+        final var json = transcode(response);
+
+        assertThat(json).isEqualTo(throughService(response));
+        assertThat(json).contains("\"birthDate\":\"1997-12-27\"", "\"salary\":1234.5}");
+    }
+
+    /**
+     * Transcode the SOAP response to JSON.
+     *
+     * @param body the SOAP response body.
+     * @return the JSON.
+     * @throws IOException in case of error decoding the response.
+     */
+    private String transcode(final String body) throws IOException {
+        return new String((byte[]) decoder.decode(createFeignResponse(200, body), byte[].class), UTF_8);
+    }
+
+    /**
+     * Decode the SOAP response and map it to JSON as the service path does.
+     *
+     * @param body the SOAP response body.
+     * @return the JSON.
+     * @throws IOException in case of error decoding the response.
+     */
+    private String throughService(final String body) throws IOException {
+        final var response = (CreateEmployeeResponse) decoder.decode(createFeignResponse(200, body), CreateEmployeeResponse.class);
+        return objectMapper.writeValueAsString(response.getResponse() == null
+                ? buildFailedResponse(response.getStatus(), response.getErrorResponseMessage())
+                : buildSuccessfulResponse(response));
+    }
+}
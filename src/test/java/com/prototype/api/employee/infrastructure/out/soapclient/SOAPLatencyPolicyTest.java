@@ -0,0 +1,164 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.util.Deadline;
+import com.prototype.api.employee.common.util.DeadlineExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the SOAP latency policy
+ *
+ * @author Daniel
+ */
+class SOAPLatencyPolicyTest {
+
+    /**
+     * Fake clock, in nanoseconds
+     */
+    private AtomicLong clock;
+
+    /**
+     * SOAP client properties
+     */
+    private SOAPClientProperties properties;
+
+    @BeforeEach
+    public void init() {
+        clock = new AtomicLong();
+        properties = new SOAPClientProperties();
+        properties.getTimeout().setMinSamples(10);
+    }
+
+    @Test
+    void shouldUseTheConfiguredReadTimeout_WhenThereAreNotEnoughSamples() {
+        final var policy = new SOAPLatencyPolicy(properties, clock::get);
+        record(policy, 5, 100);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(policy.nextOptions().readTimeoutMillis()).isEqualTo(5000);
+        assertThat(policy.nextOptions().connectTimeoutMillis()).isEqualTo(5000);
+    }
+
+    @Test
+    void shouldAdaptTheReadTimeoutToTheObservedLatency() {
+        final var policy = new SOAPLatencyPolicy(properties, clock::get);
+        record(policy, 20, 1000);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(policy.nextOptions().readTimeoutMillis()).isBetween(2000, 2400);
+    }
+
+    @Test
+    void shouldKeepTheReadTimeoutBetweenTheBounds() {
+        final var policy = new SOAPLatencyPolicy(properties, clock::get);
+        record(policy, 20, 10);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(policy.nextOptions().readTimeoutMillis()).isEqualTo(250);
+
+        record(policy, 2000, 9000);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertThat(policy.nextOptions().readTimeoutMillis()).isEqualTo(5000);
+    }
+
+    @Test
+    void shouldCapTheTimeoutsToTheRemainingBudgetOfTheDeadline() {
+        final var policy = new SOAPLatencyPolicy(properties, clock::get);
+
+        final var capped = policy.nextOptions(Deadline.afterMillis(1000));
+
+        assertThat(capped.readTimeoutMillis()).isBetween(1, 1000);
+        assertThat(capped.connectTimeoutMillis()).isEqualTo(capped.readTimeoutMillis());
+        assertThat(policy.nextOptions(Deadline.afterMillis(60_000))).isSameAs(policy.nextOptions());
+        assertThat(policy.nextOptions(Deadline.none())).isSameAs(policy.nextOptions());
+        assertThat(policy.nextOptions(Deadline.afterMillis(0)).readTimeoutMillis()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountTheExpiredCallsByStage() {
+        final var policy = new SOAPLatencyPolicy(properties, clock::get);
+        final var registry = new SimpleMeterRegistry();
+        policy.bindTo(registry);
+
+        policy.recordExpired(false);
+        policy.recordExpired(true);
+        policy.recordExpired(true);
+
+        assertThat(registry.get("soap.client.deadline.expired").tag("stage", "call").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("soap.client.deadline.expired").tag("stage", "queue").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReplaceTheFailureWithoutRecordingIt_WhenTheDeadlinePassed() {
+        final var policy = new SOAPLatencyPolicy(properties, clock::get);
+        final var registry = new SimpleMeterRegistry();
+        policy.bindTo(registry);
+        final var failure = new IllegalStateException("Read timed out");
+
+        assertThat(policy.recordFailure(failure, Deadline.afterMillis(0), 1L)).isInstanceOf(DeadlineExceededException.class);
+        assertThat(policy.recordFailure(failure, Deadline.none(), 1L)).isSameAs(failure);
+        assertThat(policy.recordFailure(failure, Deadline.afterMillis(60_000), 1L)).isSameAs(failure);
+
+        assertThat(registry.get("soap.client.deadline.expired").tag("stage", "flight").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotHedge_WhenHedgingIsDisabled() {
+        final var policy = new SOAPLatencyPolicy(properties, clock::get);
+        record(policy, 20, 100);
+
+        assertThat(policy.hedgeDelayMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldLimitTheHedgesToTheBudget() {
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setBurst(2);
+        properties.getHedge().setBudget(0.1);
+        final var policy = new SOAPLatencyPolicy(properties, clock::get);
+        final var registry = new SimpleMeterRegistry();
+        policy.bindTo(registry);
+
+        assertThat(policy.tryAcquireHedge()).isTrue();
+        assertThat(policy.tryAcquireHedge()).isTrue();
+        assertThat(policy.tryAcquireHedge()).isFalse();
+
+        record(policy, 10, 100);
+
+        assertThat(policy.tryAcquireHedge()).isTrue();
+        assertThat(policy.tryAcquireHedge()).isFalse();
+        assertThat(policy.hedgeDelayMillis()).isBetween(100L, 120L);
+        assertThat(registry.get("soap.client.hedges").functionCounter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldWaitTheMinDelayBeforeHedging() {
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setMinDelay(Duration.ofMillis(50));
+        final var policy = new SOAPLatencyPolicy(properties, clock::get);
+        record(policy, 10, 1);
+
+        assertThat(policy.hedgeDelayMillis()).isEqualTo(50);
+    }
+
+    /**
+     * Record the same latency several times.
+     *
+     * @param policy the latency policy.
+     * @param times  the number of samples.
+     * @param millis the latency, in milliseconds.
+     */
+    private static void record(final SOAPLatencyPolicy policy, final int times, final long millis) {
+        for (var i = 0; i < times; i++) {
+            policy.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.model.soap.CreateEmployeeResponse;
+import feign.codec.DecodeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.prototype.api.employee.util.TestUtil.createFeignResponse;
+import static com.prototype.api.employee.util.TestUtil.SUCCESSFUL_SOAP_RESPONSE;
+import static com.prototype.api.employee.util.TestUtil.createJAXBMarshallerPool;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the streaming SOAP decoder
+ *
+ * @author Daniel
+ */
+class StreamingSOAPDecoderTest {
+
+    /**
+     * SOAP fault response
+     */
+    private static final String FAULT_RESPONSE = "<SOAP-ENV:Envelope xmlns:SOAP-ENV=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<SOAP-ENV:Body><SOAP-ENV:Fault><faultcode>SOAP-ENV:Server</faultcode>"
+            + "<faultstring>Database unavailable</faultstring></SOAP-ENV:Fault></SOAP-ENV:Body></SOAP-ENV:Envelope>";
+
+    /**
+     * Tested class
+     */
+    private StreamingSOAPDecoder decoder;
+
+    /**
+     * JAXB marshaller pool of the tested class
+     */
+    private JAXBMarshallerPool marshallerPool;
+
+    @BeforeEach
+    public void init() {
+        marshallerPool = createJAXBMarshallerPool();
+        decoder = new StreamingSOAPDecoder(marshallerPool);
+    }
+
+    @Test
+    void shouldReuseThePooledUnmarshaller_WhenEachResponseIsDecodedOnANewThread() throws Exception {
+        for (var i = 0; i < 10; i++) {
+            final var response = new AtomicReference<Object>();
+            final var thread = new Thread(() -> {
+                try {
+                    response.set(decoder.decode(createFeignResponse(200, SUCCESSFUL_SOAP_RESPONSE), CreateEmployeeResponse.class));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            thread.start();
+            thread.join();
+
+            assertThat(response.get()).isInstanceOf(CreateEmployeeResponse.class);
+        }
+
+        assertThat(marshallerPool.getUnmarshallerMisses()).isEqualTo(1);
+        assertThat(marshallerPool.getUnmarshallerHits()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldReadTheResponseFromTheSOAPBody() throws IOException {
+        final var response = (CreateEmployeeResponse) decoder.decode(createFeignResponse(200, SUCCESSFUL_SOAP_RESPONSE), CreateEmployeeResponse.class);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("Success");
+        assertThat(response.getErrorResponseMessage()).isEqualTo("");
+        assertThat(response.getResponse().getFirstName()).isEqualTo("Alex");
+        assertThat(response.getResponse().getBirthDate().getYear()).isEqualTo(1997);
+        assertThat(response.getResponse().getSalary()).isEqualTo(10000L);
+        assertThat(response.getResponse().getDateSinceJobStart()).isEqualTo("1");
+    }
+
+    @Test
+    void shouldThrowDecodeException_WhenResponseIsASOAPFault() {
+        final var exception = assertThrows(DecodeException.class,
+                () -> decoder.decode(createFeignResponse(200, FAULT_RESPONSE), CreateEmployeeResponse.class));
+
+        assertThat(exception.getMessage()).isEqualTo("Database unavailable");
+    }
+
+    @Test
+    void shouldReturnEmptyValue_WhenResponseIsNotFound() throws IOException {
+        final var response = decoder.decode(createFeignResponse(404, ""), CreateEmployeeResponse.class);
+
+        assertThat(response).isNull();
+    }
+}
@@ -0,0 +1,67 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.model.soap.CreateEmployeeRequest;
+import feign.RequestTemplate;
+import feign.jaxb.JAXBContextFactory;
+import feign.soap.SOAPEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.prototype.api.employee.util.TestUtil.createJAXBMarshallerPool;
+import static com.prototype.api.employee.util.TestUtil.getCreateEmployeeRequest;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the streaming SOAP encoder
+ *
+ * @author Daniel
+ */
+class StreamingSOAPEncoderTest {
+
+    /**
+     * JAXB factory, configured as in {@linkplain SOAPConfiguration}
+     */
+    private JAXBContextFactory jaxbFactory;
+
+    /**
+     * Tested class
+     */
+    private StreamingSOAPEncoder encoder;
+
+    @BeforeEach
+    public void init() {
+        jaxbFactory = new JAXBContextFactory.Builder()
+                .withMarshallerJAXBEncoding("UTF-8")
+                .withMarshallerSchemaLocation("${}")
+                .build();
+        encoder = new StreamingSOAPEncoder(createJAXBMarshallerPool());
+    }
+
+    @Test
+    void shouldWriteTheSameEnvelopeAsTheSAAJEncoder() {
+        final var request = getCreateEmployeeRequest();
+        request.getRequest().setCargo("R&D <Lead> \"Senior\"");
+
+        final var streamingTemplate = new RequestTemplate();
+        encoder.encode(request, CreateEmployeeRequest.class, streamingTemplate);
+        final var saajTemplate = new RequestTemplate();
+        new SOAPEncoder(jaxbFactory).encode(request, CreateEmployeeRequest.class, saajTemplate);
+
+        assertThat(new String(streamingTemplate.body(), UTF_8)).isEqualTo(new String(saajTemplate.body(), UTF_8));
+    }
+
+    @Test
+    void shouldWriteTheRequestInsideTheSOAPBody() {
+        final var template = new RequestTemplate();
+        encoder.encode(getCreateEmployeeRequest(), CreateEmployeeRequest.class, template);
+
+        final var body = new String(template.body(), UTF_8);
+
+        assertThat(template.requestCharset()).isEqualTo(UTF_8);
+        assertThat(body).startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\" ?><SOAP-ENV:Envelope")
+                .contains("<SOAP-ENV:Body><createEmployeeRequest xmlns=\"http://localhost:10002/employees\"")
+                .contains("<documentNumber>123456789</documentNumber>")
+                .endsWith("</createEmployeeRequest></SOAP-ENV:Body></SOAP-ENV:Envelope>");
+    }
+}
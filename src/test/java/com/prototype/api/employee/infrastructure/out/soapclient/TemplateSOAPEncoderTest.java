@@ -0,0 +1,114 @@
+package com.prototype.api.employee.infrastructure.out.soapclient;
+
+import com.prototype.api.employee.common.model.soap.CreateEmployeeRequest;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.prototype.api.employee.util.TestUtil.createJAXBMarshallerPool;
+import static com.prototype.api.employee.util.TestUtil.getCreateEmployeeRequest;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the byte-template SOAP encoder
+ *
+ * @author Daniel
+ */
+class TemplateSOAPEncoderTest {
+
+    /**
+     * Streaming encoder, the JAXB reference output
+     */
+    private StreamingSOAPEncoder streamingEncoder;
+
+    /**
+     * Tested class
+     */
+    private TemplateSOAPEncoder encoder;
+
+    @BeforeEach
+    public void init() {
+        streamingEncoder = new StreamingSOAPEncoder(createJAXBMarshallerPool());
+        encoder = new TemplateSOAPEncoder(streamingEncoder);
+    }
+
+    @Test
+    void shouldWriteTheSameBytesAsJAXB() {
+        final var request = getCreateEmployeeRequest();
+
+        assertThat(encode(encoder, request)).isEqualTo(encode(streamingEncoder, request));
+        assertThat(encoder.write(request.getRequest())).isNotNull();
+    }
+
+    @Test
+    void shouldWriteTheSameBytes_WhenEachRequestIsEncodedOnANewThread() throws Exception {
+        final var expected = encode(streamingEncoder, getCreateEmployeeRequest());
+        final var executor = Executors.newCachedThreadPool();
+        final var bodies = new ArrayList<Future<byte[]>>();
+        for (var i = 0; i < 50; i++) {
+            bodies.add(executor.submit(() -> encode(encoder, getCreateEmployeeRequest())));
+        }
+
+        for (final var body : bodies) {
+            assertThat(body.get()).isEqualTo(expected);
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldEscapeTheValuesAsJAXB() {
+        final var request = getCreateEmployeeRequest();
+        request.getRequest().setFirstName("José \"Pepe\" O'Neil");
+        request.getRequest().setLastName("中文 😀");
+        request.getRequest().setCargo("R&D <Lead>\r\n\tSenior]]>");
+        request.getRequest().setSalary(-100005L);
+
+        assertThat(new String(encode(encoder, request), UTF_8))
+                .isEqualTo(new String(encode(streamingEncoder, request), UTF_8));
+    }
+
+    @Test
+    void shouldWriteDatesAsJAXB() {
+        final var request = getCreateEmployeeRequest();
+        request.getRequest().setBirthDate(LocalDate.of(5, 1, 9));
+        request.getRequest().setJobStartDate(LocalDate.of(12021, 11, 30));
+
+        assertThat(encode(encoder, request)).isEqualTo(encode(streamingEncoder, request));
+    }
+
+    @Test
+    void shouldFallBackToJAXB_WhenAFieldIsNull() {
+        final var request = getCreateEmployeeRequest();
+        request.getRequest().setCargo(null);
+
+        assertThat(encoder.write(request.getRequest())).isNull();
+        assertThat(encode(encoder, request)).isEqualTo(encode(streamingEncoder, request));
+    }
+
+    @Test
+    void shouldFallBackToJAXB_WhenAValueHasAnUnpairedSurrogate() {
+        final var request = getCreateEmployeeRequest();
+        request.getRequest().setFirstName("a\uD83D");
+
+        assertThat(encoder.write(request.getRequest())).isNull();
+    }
+
+    /**
+     * Encode the request with the given encoder.
+     *
+     * @param encoder the encoder.
+     * @param request the request.
+     * @return the body bytes.
+     */
+    private static byte[] encode(final feign.codec.Encoder encoder, final CreateEmployeeRequest request) {
+        final var template = new RequestTemplate();
+        encoder.encode(request, CreateEmployeeRequest.class, template);
+        return template.body();
+    }
+}
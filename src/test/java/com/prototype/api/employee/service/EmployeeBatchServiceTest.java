@@ -0,0 +1,200 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.response.EmployeeBatchItemResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.prototype.api.employee.service.EmployeeBatchServiceImpl.MALFORMED_ITEM;
+import static com.prototype.api.employee.service.EmployeeBatchServiceImpl.RATE_LIMITED_ITEM;
+import static com.prototype.api.employee.service.EmployeeBatchServiceImpl.TRUNCATED_INPUT;
+import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerRequest;
+import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for EmployeeBatchService
+ *
+ * @author Daniel
+ */
+class EmployeeBatchServiceTest {
+
+    /**
+     * Tested class
+     */
+    private EmployeeBatchService employeeBatchService;
+
+    /**
+     * Employee service
+     */
+    private EmployeeService employeeService;
+
+    /**
+     * Scheduler that completes the delayed responses
+     */
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void init() {
+        employeeService = mock(EmployeeService.class);
+        final var properties = new EmployeeBatchProperties();
+        properties.setMaxConcurrency(2);
+        employeeBatchService = new EmployeeBatchServiceImpl(employeeService, properties);
+        scheduler = Executors.newScheduledThreadPool(4);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void shouldWriteEveryItemWithItsIndex() throws Exception {
+        when(employeeService.createEmployeeAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(createEmployeeControllerResponse("", "")));
+        final var items = new ArrayList<EmployeeBatchItemResponse>();
+
+        employeeBatchService.createEmployees(requests(5), items::add);
+
+        assertThat(items).extracting(EmployeeBatchItemResponse::getIndex).containsExactly(0, 1, 2, 3, 4);
+        assertThat(items).allSatisfy(item -> assertThat(item.getResponse().getEmployeeData()).isNotNull());
+    }
+
+    @Test
+    void shouldKeepTheCallsInFlightUnderTheConcurrencyBound() throws Exception {
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+        when(employeeService.createEmployeeAsync(any(), any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            final var future = new CompletableFuture<>();
+            scheduler.schedule(() -> {
+                inFlight.decrementAndGet();
+                future.complete(createEmployeeControllerResponse("", ""));
+            }, 20, TimeUnit.MILLISECONDS);
+            return future;
+        });
+        final var items = Collections.synchronizedList(new ArrayList<EmployeeBatchItemResponse>());
+
+        employeeBatchService.createEmployees(requests(10), items::add);
+
+        assertThat(items).extracting(EmployeeBatchItemResponse::getIndex)
+                .containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void shouldWriteAnErrorItemAndGoOn_WhenAnItemInTheMiddleIsMalformed() throws Exception {
+        when(employeeService.createEmployeeAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(createEmployeeControllerResponse("", "")));
+        final var valid = requests(2);
+        final var read = new AtomicInteger();
+        final Iterator<EmployeeControllerRequest> malformed = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return read.get() < 3;
+            }
+
+            @Override
+            public EmployeeControllerRequest next() {
+                if (read.getAndIncrement() == 1) {
+                    throw new IllegalArgumentException("Unexpected character");
+                }
+                return valid.next();
+            }
+        };
+        final var items = new ArrayList<EmployeeBatchItemResponse>();
+
+        employeeBatchService.createEmployees(malformed, items::add);
+
+        assertThat(items).extracting(EmployeeBatchItemResponse::getIndex).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(items).filteredOn(item -> item.getIndex() == 1).singleElement()
+                .satisfies(item -> assertThat(item.getResponse().getErrorMessage()).isEqualTo(MALFORMED_ITEM));
+        verify(employeeService, times(2)).createEmployeeAsync(any(), any());
+    }
+
+    @Test
+    void shouldWriteATruncatedInputItemAndStop_WhenTheInputCanNotBeRead() throws Exception {
+        when(employeeService.createEmployeeAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(createEmployeeControllerResponse("", "")));
+        final var valid = requests(1);
+        final Iterator<EmployeeControllerRequest> truncated = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (valid.hasNext()) {
+                    return true;
+                }
+                throw new IllegalArgumentException("Unexpected end-of-input");
+            }
+
+            @Override
+            public EmployeeControllerRequest next() {
+                return valid.next();
+            }
+        };
+        final var items = new ArrayList<EmployeeBatchItemResponse>();
+
+        employeeBatchService.createEmployees(truncated, items::add);
+
+        assertThat(items).hasSize(2);
+        assertThat(items.get(1).getIndex()).isEqualTo(1);
+        assertThat(items.get(1).getResponse().getStatus()).isEqualTo("Error");
+        assertThat(items.get(1).getResponse().getErrorMessage()).isEqualTo(TRUNCATED_INPUT);
+    }
+
+    @Test
+    void shouldWriteAnErrorItemAndStop_WhenTheItemsRunOutOfPermits() throws Exception {
+        when(employeeService.createEmployeeAsync(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(createEmployeeControllerResponse("", "")));
+        final var permits = new AtomicInteger(3);
+        final var items = new ArrayList<EmployeeBatchItemResponse>();
+
+        employeeBatchService.createEmployees(requests(10), () -> permits.getAndDecrement() > 0, items::add);
+
+        assertThat(items).extracting(EmployeeBatchItemResponse::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(items.get(3).getResponse().getStatus()).isEqualTo("Error");
+        assertThat(items.get(3).getResponse().getErrorMessage()).isEqualTo(RATE_LIMITED_ITEM);
+        verify(employeeService, times(3)).createEmployeeAsync(any(), any());
+    }
+
+    @Test
+    void shouldWriteAnErrorItem_WhenTheServiceFails() throws Exception {
+        when(employeeService.createEmployeeAsync(any(), any()))
+                .thenThrow(new NullPointerException("Message"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Failed")));
+        final var items = new ArrayList<EmployeeBatchItemResponse>();
+
+        employeeBatchService.createEmployees(requests(2), items::add);
+
+        assertThat(items).extracting(item -> item.getResponse().getErrorMessage()).containsExactly("Message", "Failed");
+    }
+
+    /**
+     * Build the given number of valid requests.
+     *
+     * @param count the number of requests.
+     * @return the requests iterator.
+     */
+    private static Iterator<EmployeeControllerRequest> requests(final int count) {
+        final List<EmployeeControllerRequest> requests = new ArrayList<>();
+        for (var i = 0; i < count; i++) {
+            requests.add(createEmployeeControllerRequest());
+        }
+        return requests.iterator();
+    }
+}
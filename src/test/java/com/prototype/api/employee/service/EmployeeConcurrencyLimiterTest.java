@@ -0,0 +1,216 @@
+package com.prototype.api.employee.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.reactive.context.GenericReactiveWebApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for EmployeeConcurrencyLimiter
+ *
+ * @author Daniel
+ */
+class EmployeeConcurrencyLimiterTest {
+
+    /**
+     * Latency of a usual call, in nanoseconds
+     */
+    private static final long LATENCY = 10_000_000L;
+
+    @Test
+    void shouldShedTheCalls_WhenTheLimitIsReached() {
+        final var limiter = createLimiter(true, 10);
+
+        for (var i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        limiter.release(0);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldNotShedTheCalls_WhenItIsDisabled() {
+        final var limiter = createLimiter(false, 10);
+
+        for (var i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+    }
+
+    @Test
+    void shouldRaiseTheLimit_WhenTheLatencyIsSteadyAndTheLimitIsInUse() {
+        final var limiter = createLimiter(true, 10);
+
+        for (var i = 0; i < 100; i++) {
+            fill(limiter);
+            limiter.release(LATENCY);
+            drain(limiter);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void shouldNotRaiseTheLimit_WhenTheLimitIsNotInUse() {
+        final var limiter = createLimiter(true, 10);
+
+        for (var i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(LATENCY);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldLowerTheLimit_WhenTheLatencyRises() {
+        final var limiter = createLimiter(true, 50);
+        for (var i = 0; i < 100; i++) {
+            fill(limiter);
+            limiter.release(LATENCY);
+            drain(limiter);
+        }
+        final var limit = limiter.getLimit();
+
+        for (var i = 0; i < 20; i++) {
+            fill(limiter);
+            limiter.release(LATENCY * 10);
+            drain(limiter);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(limit / 2).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void shouldLowerTheLimit_WhenTheLatencyRisesAndTheLimitIsNotInUse() {
+        final var limiter = createLimiter(true, 50);
+        for (var i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(LATENCY);
+        }
+
+        for (var i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(LATENCY * 10);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(25).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void shouldSizeTheLimitToTheBulkheadOfTheReactiveStack() {
+        final var properties = new EmployeeConcurrencyLimitProperties();
+
+        final var reactiveLimiter = new EmployeeConcurrencyLimiter(properties, new GenericReactiveWebApplicationContext());
+        final var servletLimiter = new EmployeeConcurrencyLimiter(properties, new GenericApplicationContext());
+
+        assertThat(reactiveLimiter.getLimit()).isEqualTo(1000);
+        assertThat(servletLimiter.getLimit()).isEqualTo(50);
+        for (var i = 0; i < 100; i++) {
+            fill(reactiveLimiter);
+            reactiveLimiter.release(LATENCY);
+            drain(reactiveLimiter);
+        }
+        assertThat(reactiveLimiter.getLimit()).isGreaterThan(properties.getMaxLimit())
+                .isLessThanOrEqualTo(properties.getReactive().getMaxLimit());
+    }
+
+    @Test
+    void shouldNotSampleTheFailures() {
+        final var limiter = createLimiter(true, 10);
+
+        for (var i = 0; i < 100; i++) {
+            fill(limiter);
+            limiter.release(new IllegalStateException("Connection refused"));
+            drain(limiter);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldLowerTheLimit_WhenTheCallsTimeOut() {
+        final var limiter = createLimiter(true, 50);
+
+        for (var i = 0; i < 20; i++) {
+            fill(limiter);
+            limiter.release(new CompletionException(new RuntimeException(new SocketTimeoutException("Read timed out"))));
+            drain(limiter);
+        }
+        limiter.tryAcquire();
+        limiter.release(new TimeoutException());
+
+        assertThat(limiter.getLimit()).isLessThan(25).isGreaterThanOrEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldRoundTheRetryAfterUpToSeconds() {
+        final var properties = new EmployeeConcurrencyLimitProperties();
+        properties.setRetryAfter(Duration.ofMillis(1500));
+
+        assertThat(new EmployeeConcurrencyLimiter(properties).getRetryAfterSeconds()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRegisterTheLimitMetrics() {
+        final var registry = new SimpleMeterRegistry();
+        final var limiter = createLimiter(true, 10);
+        limiter.bindTo(registry);
+
+        fill(limiter);
+        limiter.tryAcquire();
+
+        assertThat(registry.get("employee.concurrency.limit").gauge().value()).isEqualTo(10);
+        assertThat(registry.get("employee.concurrency.in.flight").gauge().value()).isEqualTo(10);
+        assertThat(registry.get("employee.concurrency.rejected").functionCounter().count()).isEqualTo(1);
+    }
+
+    /**
+     * Build a limiter.
+     *
+     * @param enabled      flag that indicates if the calls over the limit are shed.
+     * @param initialLimit the initial limit.
+     * @return the limiter.
+     */
+    private static EmployeeConcurrencyLimiter createLimiter(final boolean enabled, final int initialLimit) {
+        final var properties = new EmployeeConcurrencyLimitProperties();
+        properties.setEnabled(enabled);
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(5);
+        return new EmployeeConcurrencyLimiter(properties);
+    }
+
+    /**
+     * Take permits until the limit is reached.
+     *
+     * @param limiter the limiter.
+     */
+    private static void fill(final EmployeeConcurrencyLimiter limiter) {
+        while (limiter.getInFlight() < limiter.getLimit()) {
+            limiter.tryAcquire();
+        }
+    }
+
+    /**
+     * Give back the permits in flight without latency samples.
+     *
+     * @param limiter the limiter.
+     */
+    private static void drain(final EmployeeConcurrencyLimiter limiter) {
+        while (limiter.getInFlight() > 0) {
+            limiter.release(0);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.util.EmployeeUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the local enrichment of the employee data
+ *
+ * @author Daniel
+ */
+class EmployeeEnrichmentTest {
+
+    /**
+     * Tested class
+     */
+    private EmployeeEnrichment enrichment;
+
+    @BeforeEach
+    public void init() {
+        enrichment = new EmployeeEnrichment(new EmployeeEnrichmentProperties());
+    }
+
+    @Test
+    void shouldFormatTheWholeYearsSinceTheDate_AsTheWebService() {
+        final var today = EmployeeUtil.today();
+        final var birthDate = LocalDate.of(1997, 12, 27);
+
+        assertThat(enrichment.periodSince(birthDate)).isEqualTo(Integer.toString(Period.between(birthDate, today).getYears()));
+        assertThat(enrichment.periodSince(today.minusDays(400))).isEqualTo("1");
+        assertThat(enrichment.periodSince(today)).isEqualTo("0");
+        assertThat(enrichment.periodSince(null)).isNull();
+    }
+
+    @Test
+    void shouldFormatTheYearsMonthsAndDaysSinceTheDate_WithTheConfiguredFormat() {
+        final var properties = new EmployeeEnrichmentProperties();
+        properties.setPeriodFormat("%d years, %d months, %d days");
+        final var today = EmployeeUtil.today();
+        final var birthDate = LocalDate.of(1997, 12, 27);
+        final var period = Period.between(birthDate, today);
+
+        enrichment = new EmployeeEnrichment(properties);
+
+        assertThat(enrichment.periodSince(birthDate)).isEqualTo(period.getYears() + " years, "
+                + period.getMonths() + " months, " + period.getDays() + " days");
+    }
+
+    @Test
+    void shouldReuseTheFormattedPeriod_WhenTheDateIsRepeatedTheSameDay() {
+        final var date = EmployeeUtil.today().minusDays(400);
+
+        assertThat(enrichment.periodSince(date)).isSameAs(enrichment.periodSince(date));
+    }
+
+    @Test
+    void shouldBuildTheEmployeeDataFromTheRequest() {
+        final var request = createEmployeeControllerRequest();
+
+        final var data = enrichment.enrich(request);
+
+        assertThat(data.getDocumentType()).isEqualTo(request.getDocumentType().name());
+        assertThat(data.getSalary()).isEqualTo(request.getSalary());
+        assertThat(data.getAge()).isEqualTo(enrichment.periodSince(request.getBirthDate()));
+        assertThat(data.getDateSinceJobStartDate()).isEqualTo(enrichment.periodSince(request.getJobStartDate()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.util.IdempotencyKeyMismatchException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerRequest;
+import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerResponse;
+import static com.prototype.api.employee.util.TestUtil.createFailedEmployeeControllerResponse;
+import static com.prototype.api.employee.util.TestUtil.createNotValidEmployeeControllerRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for EmployeeIdempotencyCache
+ *
+ * @author Daniel
+ */
+class EmployeeIdempotencyCacheTest {
+
+    /**
+     * Tested class
+     */
+    private EmployeeIdempotencyCache idempotencyCache;
+
+    @BeforeEach
+    public void init() {
+        idempotencyCache = new EmployeeIdempotencyCache(new EmployeeIdempotencyProperties());
+    }
+
+    @Test
+    void shouldFindTheResponseByHeaderKey() {
+        final var response = createEmployeeControllerResponse("", "");
+        idempotencyCache.put("key-1", createEmployeeControllerRequest(), response);
+
+        assertThat(idempotencyCache.get("key-1", createEmployeeControllerRequest())).isSameAs(response);
+        assertThat(idempotencyCache.get("key-2", createEmployeeControllerRequest())).isNull();
+    }
+
+    @Test
+    void shouldRejectTheHeaderKey_WhenItIsReusedWithADifferentRequest() {
+        idempotencyCache.put("key-1", createEmployeeControllerRequest(), createEmployeeControllerResponse("", ""));
+        final var otherRequest = createNotValidEmployeeControllerRequest().documentNumber("987654321").build();
+
+        assertThrows(IdempotencyKeyMismatchException.class, () -> idempotencyCache.get("key-1", otherRequest));
+    }
+
+    @Test
+    void shouldFindTheResponseByRequest_WhenThereIsNoHeaderKey() {
+        final var response = createEmployeeControllerResponse("", "");
+        idempotencyCache.put(null, createEmployeeControllerRequest(), response);
+
+        assertThat(idempotencyCache.get(" ", createEmployeeControllerRequest())).isSameAs(response);
+    }
+
+    @Test
+    void shouldNotCacheTheResponse_WhenThereIsNoEmployeeData() {
+        idempotencyCache.put("key-1", createEmployeeControllerRequest(), createFailedEmployeeControllerResponse("Error", "Message"));
+
+        assertThat(idempotencyCache.get("key-1", createEmployeeControllerRequest())).isNull();
+    }
+
+    @Test
+    void shouldNotCacheTheResponse_WhenTheCreationWasQueued() {
+        final var queuedResponse = createEmployeeControllerResponse(EmployeeDegradedMode.QUEUED_STATUS, "");
+        idempotencyCache.put("key-1", createEmployeeControllerRequest(), queuedResponse);
+
+        assertThat(idempotencyCache.get("key-1", createEmployeeControllerRequest())).isNull();
+    }
+
+    @Test
+    void shouldRegisterTheCacheMetrics() {
+        final var registry = new SimpleMeterRegistry();
+        idempotencyCache.bindTo(registry);
+
+        idempotencyCache.get("key-1", null);
+
+        assertThat(registry.get("cache.gets").tag("cache", "employee.idempotency").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.find("cache.evictions").tag("cache", "employee.idempotency").meter()).isNotNull();
+    }
+}
@@ -1,8 +1,24 @@
 package com.prototype.api.employee.service;
 
+import com.prototype.api.employee.common.model.soap.CreateEmployeeRequest;
+import com.prototype.api.employee.common.util.ConcurrencyLimitExceededException;
+import com.prototype.api.employee.common.util.Deadline;
+import com.prototype.api.employee.common.util.DeadlineExceededException;
+import com.prototype.api.employee.common.util.IdempotencyKeyMismatchException;
+import com.prototype.api.employee.infrastructure.out.soapclient.SOAPClientProperties;
+import com.prototype.api.employee.infrastructure.out.soapclient.SOAPEmployeeAsyncClient;
 import com.prototype.api.employee.infrastructure.out.soapclient.SOAPEmployeeClient;
+import com.prototype.api.employee.infrastructure.out.soapclient.SOAPLatencyPolicy;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_DOC_NUMBER;
 import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerRequest;
@@ -10,8 +26,12 @@ import static com.prototype.api.employee.util.TestUtil.createNotValidEmployeeCon
 import static com.prototype.api.employee.util.TestUtil.getCreateEmployeeResponse;
 import static com.prototype.api.employee.util.TestUtil.getCreateFailedEmployeeResponse;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -29,16 +49,33 @@ class EmployeeServiceTest {
      */
     private SOAPEmployeeClient soapEmployeeClient;
 
+    /**
+     * Circuit breaker of the SOAP calls
+     */
+    private CircuitBreaker circuitBreaker;
+
+    /**
+     * Degraded mode of the tested service
+     */
+    private EmployeeDegradedMode degradedMode;
+
+    /**
+     * Concurrency limit of the tested service
+     */
+    private EmployeeConcurrencyLimiter concurrencyLimiter;
+
     @BeforeEach
     public void init() {
         soapEmployeeClient = mock(SOAPEmployeeClient.class);
-        employeeService = new EmployeeServiceImpl(soapEmployeeClient);
+        circuitBreaker = CircuitBreaker.ofDefaults("employee");
+        concurrencyLimiter = new EmployeeConcurrencyLimiter(new EmployeeConcurrencyLimitProperties());
+        employeeService = createEmployeeService(Runnable::run, new EmployeeDegradedModeProperties());
     }
 
     @Test
     void shouldReturnSuccessfulCreateClientResponse() {
 
-        when(soapEmployeeClient.createEmployee(any())).thenReturn(getCreateEmployeeResponse("", ""));
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateEmployeeResponse("", ""));
 
         final var response = employeeService.createEmployee(createEmployeeControllerRequest());
 
@@ -57,7 +94,7 @@ class EmployeeServiceTest {
     @Test
     void shouldReturnSuccessfulCreateClientResponse_WhenEmployeeAlreadyExists() {
 
-        when(soapEmployeeClient.createEmployee(any())).thenReturn(getCreateEmployeeResponse("Error", "The employee already exists"));
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateEmployeeResponse("Error", "The employee already exists"));
 
         final var response = employeeService.createEmployee(createEmployeeControllerRequest());
 
@@ -76,7 +113,7 @@ class EmployeeServiceTest {
     @Test
     void shouldReturnUnSuccessfulCreateClientResponse_WhenErrorInWebServiceOccurs() {
 
-        when(soapEmployeeClient.createEmployee(any())).thenReturn(getCreateFailedEmployeeResponse("Error", "Message"));
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateFailedEmployeeResponse("Error", "Message"));
 
         final var response = employeeService.createEmployee(createEmployeeControllerRequest());
 
@@ -99,7 +136,7 @@ class EmployeeServiceTest {
     @Test
     void shouldReturnUnSuccessfulCreateClientResponse_WhenExceptionIsThrown() {
 
-        when(soapEmployeeClient.createEmployee(any())).thenThrow(new NullPointerException("Message"));
+        when(soapEmployeeClient.createEmployee(any(), any())).thenThrow(new NullPointerException("Message"));
 
         final var response = employeeService.createEmployee(createEmployeeControllerRequest());
 
@@ -108,5 +145,288 @@ class EmployeeServiceTest {
         assertThat(response.getErrorMessage()).isNotNull().isEqualTo("Message");
     }
 
+    @Test
+    void shouldReturnSuccessfulCreateClientResponse_WhenCalledAsynchronously() {
+
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateEmployeeResponse("", ""));
+
+        final var response = employeeService.createEmployeeAsync(createEmployeeControllerRequest()).join();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isNotNull().isEqualTo("");
+        assertThat(response.getEmployeeData()).isNotNull();
+    }
+
+    @Test
+    void shouldCallTheWebServiceOnce_WhenTheSameDocumentIsInFlight() {
+
+        final var release = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(2);
+        when(soapEmployeeClient.createEmployee(any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return getCreateEmployeeResponse("", "");
+        });
+        employeeService = createEmployeeService(executor, new EmployeeDegradedModeProperties());
+
+        final var first = employeeService.createEmployeeAsync(createEmployeeControllerRequest());
+        final var second = employeeService.createEmployeeAsync(createEmployeeControllerRequest());
+        release.countDown();
+
+        assertThat(first.join().getEmployeeData()).isNotNull();
+        assertThat(second.join().getEmployeeData()).isNotNull();
+        verify(soapEmployeeClient, times(1)).createEmployee(any(), any());
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldCallTheWebServiceForEachRequest_WhenADifferentRequestForTheSameDocumentIsInFlight() {
+
+        final var release = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(2);
+        when(soapEmployeeClient.createEmployee(any(), any())).thenAnswer(invocation -> {
+            release.await();
+            final CreateEmployeeRequest soapRequest = invocation.getArgument(0);
+            return soapRequest.getRequest().getSalary() == createEmployeeControllerRequest().getSalary()
+                    ? getCreateEmployeeResponse("", "")
+                    : getCreateFailedEmployeeResponse("Error", "The employee already exists");
+        });
+        employeeService = createEmployeeService(executor, new EmployeeDegradedModeProperties());
+
+        final var first = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-1");
+        final var second = employeeService.createEmployeeAsync(
+                createNotValidEmployeeControllerRequest().documentNumber("123456789").salary(20000).build(), "key-2");
+        release.countDown();
+
+        assertThat(first.join().getEmployeeData()).isNotNull();
+        assertThat(second.join().getErrorMessage()).isEqualTo("The employee already exists");
+        assertThat(second.join().getEmployeeData()).isNull();
+        verify(soapEmployeeClient, times(2)).createEmployee(any(), any());
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldReplayTheCachedResponse_WhenTheIdempotencyKeyIsRepeated() {
+
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateEmployeeResponse("", ""));
+
+        final var first = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-1").join();
+        final var replay = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-1").join();
+
+        assertThat(replay).isSameAs(first);
+        verify(soapEmployeeClient, times(1)).createEmployee(any(), any());
+    }
+
+    @Test
+    void shouldReplayTheCachedResponse_WhenTheSameRequestIsRepeatedWithoutKey() {
+
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateEmployeeResponse("", ""));
+
+        final var first = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), null).join();
+        final var replay = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), null).join();
+
+        assertThat(replay).isSameAs(first);
+        verify(soapEmployeeClient, times(1)).createEmployee(any(), any());
+    }
+
+    @Test
+    void shouldNotCacheTheResponse_WhenTheEmployeeWasNotCreated() {
+
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateFailedEmployeeResponse("Error", "Message"));
+
+        employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-1").join();
+        employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-1").join();
+
+        verify(soapEmployeeClient, times(2)).createEmployee(any(), any());
+    }
+
+    @Test
+    void shouldFailWithoutCallingTheWebService_WhenTheIdempotencyKeyIsReusedWithADifferentRequest() {
+
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateEmployeeResponse("", ""));
+        employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-1").join();
+
+        final var response = employeeService.createEmployeeAsync(
+                createNotValidEmployeeControllerRequest().documentNumber("987654321").build(), "key-1");
+
+        assertThatThrownBy(response::join).hasCauseInstanceOf(IdempotencyKeyMismatchException.class);
+        verify(soapEmployeeClient, times(1)).createEmployee(any(), any());
+    }
+
+    @Test
+    void shouldReturnUnSuccessfulCreateClientResponse_WhenTheCircuitBreakerIsOpen() {
+
+        circuitBreaker.transitionToOpenState();
+
+        final var response = employeeService.createEmployee(createEmployeeControllerRequest());
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isNotNull().isEqualTo("Error");
+        assertThat(response.getErrorMessage()).contains("OPEN");
+        assertThat(response.getEmployeeData()).isNull();
+    }
+
+    @Test
+    void shouldQueueTheCallAndAnswerTheEnrichedEmployee_WhenTheDegradedModeIsEnabled() {
+
+        final var properties = new EmployeeDegradedModeProperties();
+        properties.setEnabled(true);
+        properties.setRetryInterval(Duration.ofHours(1));
+        employeeService = createEmployeeService(Runnable::run, properties);
+        circuitBreaker.transitionToOpenState();
+
+        final var response = employeeService.createEmployee(createEmployeeControllerRequest());
+
+        assertThat(response.getStatus()).isEqualTo(EmployeeDegradedMode.QUEUED_STATUS);
+        assertThat(response.getEmployeeData().getDocumentNumber()).isEqualTo("123456789");
+        assertThat(response.getEmployeeData().getAge()).matches("\\d+");
+        assertThat(degradedMode.size()).isEqualTo(1);
+
+        circuitBreaker.transitionToClosedState();
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateEmployeeResponse("", ""));
+        degradedMode.retryQueuedWrites();
+
+        assertThat(degradedMode.size()).isZero();
+        verify(soapEmployeeClient, times(1)).createEmployee(any(), any());
+        degradedMode.destroy();
+    }
+
+    @Test
+    void shouldQueueTheReplaysOnceAndAnswerThemAsCreated_WhenTheQueuedWriteIsDone() {
+
+        final var properties = new EmployeeDegradedModeProperties();
+        properties.setEnabled(true);
+        properties.setRetryInterval(Duration.ofHours(1));
+        employeeService = createEmployeeService(Runnable::run, properties);
+        circuitBreaker.transitionToOpenState();
+
+        final var first = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-1").join();
+        final var replay = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-1").join();
+        final var otherKey = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-2").join();
+
+        assertThat(first.getStatus()).isEqualTo(EmployeeDegradedMode.QUEUED_STATUS);
+        assertThat(replay.getStatus()).isEqualTo(EmployeeDegradedMode.QUEUED_STATUS);
+        assertThat(otherKey.getStatus()).isEqualTo(EmployeeDegradedMode.QUEUED_STATUS);
+        assertThat(degradedMode.size()).isEqualTo(1);
+
+        circuitBreaker.transitionToClosedState();
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateEmployeeResponse("", ""));
+        degradedMode.retryQueuedWrites();
+
+        final var created = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-1").join();
+        assertThat(created.getStatus()).isEqualTo("");
+        assertThat(created.getEmployeeData()).isNotNull();
+        assertThat(employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-2").join()).isSameAs(created);
+        assertThat(employeeService.createEmployeeAsync(createEmployeeControllerRequest(), null).join()).isSameAs(created);
+        verify(soapEmployeeClient, times(1)).createEmployee(any(), any());
+        degradedMode.destroy();
+    }
+
+    @Test
+    void shouldNotQueueTheCall_WhenADifferentRequestForTheDocumentIsQueued() {
+
+        final var properties = new EmployeeDegradedModeProperties();
+        properties.setEnabled(true);
+        properties.setRetryInterval(Duration.ofHours(1));
+        employeeService = createEmployeeService(Runnable::run, properties);
+        circuitBreaker.transitionToOpenState();
+        employeeService.createEmployeeAsync(createEmployeeControllerRequest(), "key-1").join();
+
+        final var response = employeeService.createEmployeeAsync(
+                createNotValidEmployeeControllerRequest().documentNumber("123456789").salary(20000).build(), "key-2").join();
+
+        assertThat(response.getStatus()).isEqualTo("Error");
+        assertThat(response.getErrorMessage()).contains("OPEN");
+        assertThat(degradedMode.size()).isEqualTo(1);
+        degradedMode.destroy();
+    }
+
+    @Test
+    void shouldRejectTheCallWithoutQueueingIt_WhenTheDeadlineHasPassed() {
+
+        final var properties = new EmployeeDegradedModeProperties();
+        properties.setEnabled(true);
+        properties.setRetryInterval(Duration.ofHours(1));
+        employeeService = createEmployeeService(Runnable::run, properties);
+
+        final var response = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), null, Deadline.afterMillis(0)).join();
+
+        assertThat(response.getStatus()).isEqualTo("Error");
+        assertThat(response.getErrorMessage()).isEqualTo(DeadlineExceededException.MESSAGE);
+        assertThat(response.getEmployeeData()).isNull();
+        assertThat(degradedMode.size()).isZero();
+        verifyNoInteractions(soapEmployeeClient);
+        degradedMode.destroy();
+    }
+
+    @Test
+    void shouldCallAgainForTheDuplicate_WhenTheSharedCallExpiredAndItsDeadlineIsLive() throws InterruptedException {
+
+        final var pool = Executors.newCachedThreadPool();
+        employeeService = createEmployeeService(pool, new EmployeeDegradedModeProperties());
+        final var duplicateJoined = new CountDownLatch(1);
+        when(soapEmployeeClient.createEmployee(any(), any()))
+                .thenAnswer(invocation -> {
+                    duplicateJoined.await();
+                    Thread.sleep(60);
+                    throw new IllegalStateException("Read timed out");
+                })
+                .thenReturn(getCreateEmployeeResponse("", ""));
+
+        final var first = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), null, Deadline.afterMillis(30));
+        final var duplicate = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), null, Deadline.none());
+        duplicateJoined.countDown();
+
+        assertThat(first.join().getErrorMessage()).isEqualTo(DeadlineExceededException.MESSAGE);
+        assertThat(duplicate.join().getStatus()).isEqualTo("");
+        assertThat(duplicate.join().getEmployeeData()).isNotNull();
+        verify(soapEmployeeClient, times(2)).createEmployee(any(), any());
+        pool.shutdown();
+    }
 
+    @Test
+    void shouldShedTheCallWithoutQueueingIt_WhenTheConcurrencyLimitIsReached() {
+        final var limitProperties = new EmployeeConcurrencyLimitProperties();
+        limitProperties.setInitialLimit(1);
+        limitProperties.setMinLimit(1);
+        concurrencyLimiter = new EmployeeConcurrencyLimiter(limitProperties);
+        final var properties = new EmployeeDegradedModeProperties();
+        properties.setEnabled(true);
+        properties.setRetryInterval(Duration.ofHours(1));
+        employeeService = createEmployeeService(Runnable::run, properties);
+        assertThat(concurrencyLimiter.tryAcquire()).isTrue();
+
+        final var response = employeeService.createEmployeeAsync(createEmployeeControllerRequest(), null, Deadline.none());
+
+        assertThatThrownBy(response::join).hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(degradedMode.size()).isZero();
+        verifyNoInteractions(soapEmployeeClient);
+        degradedMode.destroy();
+    }
+
+    @Test
+    void shouldReleaseThePermit_WhenTheCallCompletes() {
+
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(getCreateEmployeeResponse("", ""));
+
+        employeeService.createEmployee(createEmployeeControllerRequest());
+
+        assertThat(concurrencyLimiter.getInFlight()).isZero();
+    }
+
+    /**
+     * Build the tested service.
+     *
+     * @param executor   the executor of the SOAP calls.
+     * @param properties the degraded mode properties.
+     * @return the employee service.
+     */
+    private EmployeeService createEmployeeService(final Executor executor, final EmployeeDegradedModeProperties properties) {
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, executor, circuitBreaker,
+                Bulkhead.ofDefaults("employee"), new SOAPLatencyPolicy(new SOAPClientProperties()));
+        final var idempotencyCache = new EmployeeIdempotencyCache(new EmployeeIdempotencyProperties());
+        degradedMode = new EmployeeDegradedMode(properties, asyncClient, new EmployeeEnrichment(new EmployeeEnrichmentProperties()),
+                idempotencyCache);
+        return new EmployeeServiceImpl(asyncClient, idempotencyCache, degradedMode,
+                concurrencyLimiter, new EmployeeValidationRules(new EmployeeValidationProperties(), new MockEnvironment()));
+    }
 }
@@ -0,0 +1,282 @@
+package com.prototype.api.employee.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.soap.CreateEmployeeRequest;
+import com.prototype.api.employee.common.model.soap.CreateEmployeeResponse;
+import com.prototype.api.employee.common.util.ConcurrencyLimitExceededException;
+import com.prototype.api.employee.infrastructure.out.soapclient.SOAPClientProperties;
+import com.prototype.api.employee.infrastructure.out.soapclient.SOAPEmployeeAsyncClient;
+import com.prototype.api.employee.infrastructure.out.soapclient.SOAPEmployeeClient;
+import com.prototype.api.employee.infrastructure.out.soapclient.SOAPLatencyPolicy;
+import com.prototype.api.employee.infrastructure.out.soapclient.StreamingSOAPDecoder;
+import com.prototype.api.employee.infrastructure.out.soapclient.StreamingSOAPEncoder;
+import feign.Request;
+import feign.RequestTemplate;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.prototype.api.employee.util.TestUtil.SUCCESSFUL_SOAP_RESPONSE;
+import static com.prototype.api.employee.util.TestUtil.createFeignResponse;
+import static com.prototype.api.employee.util.TestUtil.createJAXBMarshallerPool;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the Employee transcoding service, against the service path with the same SOAP codec
+ *
+ * @author Daniel
+ */
+class EmployeeTranscodingServiceTest {
+
+    /**
+     * Valid employee request
+     */
+    private static final String VALID_REQUEST = "{\"firstName\":\"Alex\",\"lastName\":\"Sanchez\",\"documentType\":\"CC\","
+            + "\"documentNumber\":\"123456789\",\"birthDate\":\"1997-12-27\",\"jobStartDate\":\"2021-03-01\","
+            + "\"cargo\":\"Software Engineer\",\"salary\":100.5}";
+
+    /**
+     * SOAP envelopes sent by both paths
+     */
+    private final List<byte[]> envelopes = new ArrayList<>();
+
+    /**
+     * Object mapper, as configured by Spring Boot
+     */
+    private ObjectMapper objectMapper;
+
+    /**
+     * Service path
+     */
+    private EmployeeServiceImpl employeeService;
+
+    /**
+     * Tested class
+     */
+    private EmployeeTranscodingServiceImpl transcodingService;
+
+    /**
+     * Concurrency limit of the tested service
+     */
+    private EmployeeConcurrencyLimiter concurrencyLimiter;
+
+    @BeforeEach
+    public void init() {
+        final var marshallerPool = createJAXBMarshallerPool();
+        final var encoder = new StreamingSOAPEncoder(marshallerPool);
+        final var decoder = new StreamingSOAPDecoder(marshallerPool);
+        final var soapEmployeeClient = new SOAPEmployeeClient() {
+            @Override
+            public CreateEmployeeResponse createEmployee(final CreateEmployeeRequest request) {
+                return createEmployee(request, null);
+            }
+
+            @Override
+            public CreateEmployeeResponse createEmployee(final CreateEmployeeRequest request, final Request.Options options) {
+                final var template = new RequestTemplate();
+                encoder.encode(request, CreateEmployeeRequest.class, template);
+                envelopes.add(template.body());
+                return (CreateEmployeeResponse) decode(decoder, CreateEmployeeResponse.class);
+            }
+
+            @Override
+            public byte[] createEmployeeJson(final byte[] envelope, final Request.Options options) {
+                envelopes.add(envelope);
+                return (byte[]) decode(decoder, byte[].class);
+            }
+        };
+        final var asyncClient = new SOAPEmployeeAsyncClient(soapEmployeeClient, Runnable::run,
+                CircuitBreaker.ofDefaults("employee"), Bulkhead.ofDefaults("employee"),
+                new SOAPLatencyPolicy(new SOAPClientProperties()));
+
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        final var idempotencyCache = new EmployeeIdempotencyCache(new EmployeeIdempotencyProperties());
+        final var degradedMode = new EmployeeDegradedMode(new EmployeeDegradedModeProperties(), asyncClient,
+                new EmployeeEnrichment(new EmployeeEnrichmentProperties()), idempotencyCache);
+        final var limitProperties = new EmployeeConcurrencyLimitProperties();
+        limitProperties.setInitialLimit(1);
+        limitProperties.setMinLimit(1);
+        limitProperties.setMaxLimit(1);
+        concurrencyLimiter = new EmployeeConcurrencyLimiter(limitProperties);
+        final var validationRules = new EmployeeValidationRules(new EmployeeValidationProperties(), new MockEnvironment());
+        employeeService = new EmployeeServiceImpl(asyncClient, idempotencyCache, degradedMode,
+                concurrencyLimiter, validationRules);
+        transcodingService = new EmployeeTranscodingServiceImpl(asyncClient, employeeService, objectMapper, marshallerPool, degradedMode,
+                concurrencyLimiter, validationRules);
+    }
+
+    @Test
+    void shouldSendTheSameEnvelopeAndAnswerTheSameJson() throws IOException {
+        final var requests = List.of(VALID_REQUEST,
+                VALID_REQUEST.replace("100.5", "\"1500.75\""),
+                VALID_REQUEST.replace("\"Alex\"", "\"José & <Ana>\\r\\n\"").replace("{", "{\"unknown\":{\"a\":[1,2]},"),
+                VALID_REQUEST.replace("\"firstName\":\"Alex\",", "").replace("}", ",\"firstName\":\"Alex\"}"),
+                VALID_REQUEST.replace("\"salary\":100.5", "\"salary\":-1,\"salary\":1E+3"));
+
+        for (final var request : requests) {
+            envelopes.clear();
+            final var expected = throughService(request);
+            final var json = transcode(request);
+
+            assertThat(json).as(request).isEqualTo(expected);
+            assertThat(envelopes).hasSize(2);
+            assertThat(envelopes.get(1)).as(request).isEqualTo(envelopes.get(0));
+        }
+    }
+
+    @Test
+    void shouldRejectNonValidRequestsWithTheSameMessage() throws IOException {
+        final var requests = List.of("{}",
+                VALID_REQUEST.replace("\"Sanchez\"", "\" \"").replace("100.5", "0"),
+                VALID_REQUEST.replace("2021-03-01", "2999-01-01"),
+                VALID_REQUEST.replace("2021-03-01", "1990-01-01"),
+                VALID_REQUEST.replace("\"CC\"", "\"XX\""),
+                VALID_REQUEST.replace("\"123456789\"", "\"12-3\""),
+                VALID_REQUEST.replace("\"Software Engineer\"", "null").replace("\"1997-12-27\"", "\"\""));
+
+        for (final var request : requests) {
+            assertThat(transcode(request)).as(request).isEqualTo(throughService(request)).contains("\"status\":\"Error\"");
+        }
+        assertThat(envelopes).isEmpty();
+    }
+
+    @Test
+    void shouldFallBackToTheServicePath_WhenTheTemplateCanNotWriteTheRequest() throws IOException {
+        final var request = VALID_REQUEST.replace("\"Alex\"", "\"Alex\\ud83d\"");
+
+        assertThat(transcode(request)).isEqualTo(throughService(request)).contains("\"status\":\"Error\"");
+        assertThat(envelopes).isEmpty();
+    }
+
+    @Test
+    void shouldThrowJsonProcessingException_WhenTheRequestIsMalformed() {
+        assertThrows(JsonProcessingException.class, () -> transcode("[]"));
+        assertThrows(JsonProcessingException.class, () -> transcode(VALID_REQUEST.replace("1997-12-27", "27/12/1997")));
+        assertThrows(JsonProcessingException.class, () -> transcode(VALID_REQUEST.replace("100.5", "\"cien\"")));
+    }
+
+    @Test
+    void shouldShedTheCall_WhenTheConcurrencyLimitIsReached() throws IOException {
+        assertThat(concurrencyLimiter.tryAcquire()).isTrue();
+
+        final var response = transcodingService.createEmployee(new ByteArrayInputStream(VALID_REQUEST.getBytes(UTF_8)));
+
+        assertThatThrownBy(response::join).hasCauseInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(envelopes).isEmpty();
+
+        concurrencyLimiter.release(0);
+        transcode(VALID_REQUEST);
+        assertThat(concurrencyLimiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldAllocateLessThanTheServicePath() throws IOException {
+        final var loggers = List.of((Logger) LoggerFactory.getLogger(EmployeeServiceImpl.class),
+                (Logger) LoggerFactory.getLogger(EmployeeTranscodingServiceImpl.class));
+        loggers.forEach(logger -> logger.setLevel(Level.WARN));
+        try {
+            final var servicePath = allocatedBytesPerRequest(() -> throughService(VALID_REQUEST));
+            final var transcodedPath = allocatedBytesPerRequest(() -> transcode(VALID_REQUEST));
+
+            assertThat(transcodedPath).as("allocated bytes per request of the transcoded path").isLessThan(servicePath);
+        } finally {
+            loggers.forEach(logger -> logger.setLevel(null));
+        }
+    }
+
+    /**
+     * Create the employee through the transcoding service.
+     *
+     * @param request the request JSON.
+     * @return the response JSON.
+     * @throws IOException in case of a malformed request.
+     */
+    private String transcode(final String request) throws IOException {
+        return new String(transcodingService.createEmployee(new ByteArrayInputStream(request.getBytes(UTF_8))).join(), UTF_8);
+    }
+
+    /**
+     * Create the employee through the service path, as the employee controller does.
+     *
+     * @param request the request JSON.
+     * @return the response JSON.
+     * @throws IOException in case of a malformed request.
+     */
+    private String throughService(final String request) throws IOException {
+        final var controllerRequest = objectMapper.readValue(request.getBytes(UTF_8), EmployeeControllerRequest.class);
+        return new String(objectMapper.writeValueAsBytes(employeeService.createEmployeeAsync(controllerRequest).join()), UTF_8);
+    }
+
+    /**
+     * Measure the bytes allocated by the current thread per call, after a warm up.
+     *
+     * @param call the call.
+     * @return the allocated bytes per call.
+     * @throws IOException in case of error in the call.
+     */
+    private long allocatedBytesPerRequest(final Call call) throws IOException {
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var threadId = Thread.currentThread().getId();
+        final var iterations = 500;
+        for (var i = 0; i < iterations; i++) {
+            call.run();
+        }
+        envelopes.clear();
+        final var start = threads.getThreadAllocatedBytes(threadId);
+        for (var i = 0; i < iterations; i++) {
+            call.run();
+        }
+        final var allocated = threads.getThreadAllocatedBytes(threadId) - start;
+        envelopes.clear();
+        return allocated / iterations;
+    }
+
+    /**
+     * Decode the successful SOAP response.
+     *
+     * @param decoder the decoder.
+     * @param type    the result type.
+     * @return the decoded result.
+     */
+    private static Object decode(final StreamingSOAPDecoder decoder, final Class<?> type) {
+        try {
+            return decoder.decode(createFeignResponse(200, SUCCESSFUL_SOAP_RESPONSE), type);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Request call
+     */
+    @FunctionalInterface
+    private interface Call {
+
+        /**
+         * Run the call.
+         *
+         * @throws IOException in case of error in the call.
+         */
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,146 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.model.controller.request.EmployeeRequestFields;
+import com.prototype.api.employee.common.util.EmployeeRule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.FIRST_NAME_VIOLATION;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NO_VIOLATIONS;
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.SALARY_VIOLATION;
+import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerRequest;
+import static com.prototype.api.employee.util.TestUtil.createNotValidEmployeeControllerRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for the configured validation rules
+ *
+ * @author Daniel
+ */
+class EmployeeValidationRulesTest {
+
+    /**
+     * Environment of the reloaded rules
+     */
+    private MockEnvironment environment;
+
+    /**
+     * Tested class
+     */
+    private EmployeeValidationRules validationRules;
+
+    @BeforeEach
+    public void init() {
+        environment = new MockEnvironment();
+        validationRules = new EmployeeValidationRules(new EmployeeValidationProperties(), environment);
+    }
+
+    @Test
+    void shouldReloadTheRules_WhenTheValidationPropertiesChange() {
+        final var request = createEmployeeControllerRequest();
+        assertThat(validationRules.validate(request)).isEqualTo(NO_VIOLATIONS);
+
+        environment.setProperty("employee.validation.rules[0].field", "salary");
+        environment.setProperty("employee.validation.rules[0].check", "min");
+        environment.setProperty("employee.validation.rules[0].value", "1000");
+        validationRules.onApplicationEvent(new EnvironmentChangeEvent(Set.of("employee.validation.rules[0].value")));
+
+        assertThat(validationRules.validate(request)).isEqualTo(SALARY_VIOLATION);
+    }
+
+    @Test
+    void shouldReloadTheRules_WhenTheRulesFileChanges(@TempDir final Path directory) throws Exception {
+        final var rulesFile = directory.resolve("rules.yml");
+        writeRules(rulesFile, "first-name", "not-blank", null);
+        final var properties = new EmployeeValidationProperties();
+        properties.setRulesFile(rulesFile.toString());
+        properties.setReloadInterval(Duration.ofMillis(20));
+        final var fileRules = new EmployeeValidationRules(properties, environment);
+        final var request = createEmployeeControllerRequest();
+
+        try {
+            assertThat(fileRules.validate(request)).isEqualTo(NO_VIOLATIONS);
+            assertThat(fileRules.validate(createNotValidEmployeeControllerRequest().firstName(" ").documentNumber("1").build()))
+                    .isEqualTo(FIRST_NAME_VIOLATION);
+
+            writeRules(rulesFile, "salary", "min", "1000");
+            awaitViolations(fileRules, request, SALARY_VIOLATION);
+
+            writeRules(rulesFile, "salary", "not-blank", null);
+            Thread.sleep(200);
+            assertThat(fileRules.validate(request)).isEqualTo(SALARY_VIOLATION);
+        } finally {
+            fileRules.destroy();
+        }
+    }
+
+    @Test
+    void shouldKeepTheInstalledRules_WhenTheReloadedRulesAreNotValid() {
+        environment.setProperty("employee.validation.rules[0].field", "salary");
+        environment.setProperty("employee.validation.rules[0].check", "not-blank");
+        validationRules.onApplicationEvent(new EnvironmentChangeEvent(Set.of("employee.validation.rules[0].check")));
+        validationRules.onApplicationEvent(new EnvironmentChangeEvent(Set.of("soap-client.timeout.read")));
+
+        assertThat(validationRules.validate(createEmployeeControllerRequest())).isEqualTo(NO_VIOLATIONS);
+        assertThrows(IllegalArgumentException.class, () -> validationRules.install(
+                List.of(new EmployeeRule(EmployeeRule.Field.SALARY, EmployeeRule.Check.MIN, "cero"))));
+    }
+
+    @Test
+    void shouldPublishTheCostOfEachRule() {
+        final var registry = new SimpleMeterRegistry();
+        validationRules.bindTo(registry);
+        validationRules.install(List.of(new EmployeeRule(EmployeeRule.Field.SALARY, EmployeeRule.Check.MAX, "10", "salary.cap")));
+
+        final var meters = registry.find("employee.validation.rule").functionTimers();
+        assertThat(meters).extracting(meter -> meter.getId().getTag("rule"))
+                .contains("first-name.not-blank", "document-number.alphanumeric", "salary.cap");
+    }
+
+    /**
+     * Write a rules file with a single rule.
+     *
+     * @param rulesFile the rules file.
+     * @param field     the rule field.
+     * @param check     the rule check.
+     * @param value     the rule value, may be null.
+     * @throws IOException in case of error writing the file.
+     */
+    private static void writeRules(final Path rulesFile, final String field, final String check, final String value) throws IOException {
+        final var rules = "employee:\n  validation:\n    rules:\n      - field: " + field + "\n        check: " + check + "\n"
+                + (value == null ? "" : "        value: " + value + "\n");
+        final var temporary = rulesFile.resolveSibling("rules.tmp");
+        Files.writeString(temporary, rules);
+        Files.move(temporary, rulesFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Wait until the reloaded rules give the expected violations.
+     *
+     * @param rules      the validation rules.
+     * @param request    the checked request.
+     * @param violations the expected violations.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    private static void awaitViolations(final EmployeeValidationRules rules, final EmployeeRequestFields request,
+                                        final int violations) throws InterruptedException {
+        final var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (rules.validate(request) != violations && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(rules.validate(request)).isEqualTo(violations);
+    }
+}
@@ -0,0 +1,163 @@
+package com.prototype.api.employee.service;
+
+import com.prototype.api.employee.common.util.Deadline;
+import com.prototype.api.employee.common.util.DeadlineExceededException;
+import com.prototype.api.employee.infrastructure.out.soapclient.ReactiveSOAPEmployeeClient;
+import com.prototype.api.employee.infrastructure.out.soapclient.SOAPEmployeeAsyncClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static com.prototype.api.employee.common.util.EmployeeRequestValidator.NON_VALID_DOC_NUMBER;
+import static com.prototype.api.employee.util.TestUtil.createEmployeeControllerRequest;
+import static com.prototype.api.employee.util.TestUtil.createNotValidEmployeeControllerRequest;
+import static com.prototype.api.employee.util.TestUtil.getCreateEmployeeResponse;
+import static com.prototype.api.employee.util.TestUtil.getCreateFailedEmployeeResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for ReactiveEmployeeService
+ *
+ * @author Daniel
+ */
+class ReactiveEmployeeServiceTest {
+
+    /**
+     * Tested class
+     */
+    private ReactiveEmployeeService employeeService;
+
+    /**
+     * Non-blocking SOAP Employee client
+     */
+    private ReactiveSOAPEmployeeClient soapEmployeeClient;
+
+    @BeforeEach
+    public void init() {
+        soapEmployeeClient = mock(ReactiveSOAPEmployeeClient.class);
+        employeeService = createEmployeeService(new EmployeeDegradedModeProperties());
+    }
+
+    @Test
+    void shouldReturnSuccessfulCreateClientResponse() {
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(Mono.just(getCreateEmployeeResponse("", "")));
+
+        final var response = employeeService.createEmployee(createEmployeeControllerRequest(), null, Deadline.none()).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("");
+        assertThat(response.getEmployeeData()).isNotNull();
+        assertThat(response.getEmployeeData().getSalary()).isPositive();
+    }
+
+    @Test
+    void shouldReturnUnSuccessfulCreateClientResponse_WhenErrorInWebServiceOccurs() {
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(Mono.just(getCreateFailedEmployeeResponse("Error", "Message")));
+
+        final var response = employeeService.createEmployee(createEmployeeControllerRequest(), null, Deadline.none()).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("Error");
+        assertThat(response.getErrorMessage()).isEqualTo("Message");
+        assertThat(response.getEmployeeData()).isNull();
+    }
+
+    @Test
+    void shouldReturnUnSuccessfulCreateClientResponse_WhenValidationFails() {
+        final var response = employeeService.createEmployee(createNotValidEmployeeControllerRequest().build(), null, Deadline.none()).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("Error");
+        assertThat(response.getErrorMessage()).isEqualTo(NON_VALID_DOC_NUMBER);
+        verifyNoInteractions(soapEmployeeClient);
+    }
+
+    @Test
+    void shouldReturnUnexpectedResponse_WhenTheCallFails() {
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(Mono.error(new IllegalStateException("Connection refused")));
+
+        final var response = employeeService.createEmployee(createEmployeeControllerRequest(), null, Deadline.none()).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("Error");
+        assertThat(response.getErrorMessage()).isEqualTo("Connection refused");
+    }
+
+    @Test
+    void shouldQueueTheWrite_WhenTheCallFailsInDegradedMode() {
+        final var properties = new EmployeeDegradedModeProperties();
+        properties.setEnabled(true);
+        properties.setRetryInterval(Duration.ofHours(1));
+        employeeService = createEmployeeService(properties);
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(Mono.error(new IllegalStateException("Connection refused")));
+
+        final var response = employeeService.createEmployee(createEmployeeControllerRequest(), null, Deadline.none()).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(EmployeeDegradedMode.QUEUED_STATUS);
+        assertThat(response.getEmployeeData()).isNotNull();
+    }
+
+    @Test
+    void shouldRejectTheCallWithoutQueueingIt_WhenTheDeadlineHasPassed() {
+        final var properties = new EmployeeDegradedModeProperties();
+        properties.setEnabled(true);
+        properties.setRetryInterval(Duration.ofHours(1));
+        employeeService = createEmployeeService(properties);
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(Mono.error(new DeadlineExceededException()));
+
+        final var response = employeeService.createEmployee(createEmployeeControllerRequest(), null, Deadline.afterMillis(0)).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("Error");
+        assertThat(response.getErrorMessage()).isEqualTo(DeadlineExceededException.MESSAGE);
+    }
+
+    @Test
+    void shouldCallAgainForTheDuplicate_WhenTheSharedCallExpiredAndItsDeadlineIsLive() {
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(
+                Mono.delay(Duration.ofMillis(50)).then(Mono.error(new DeadlineExceededException())),
+                Mono.just(getCreateEmployeeResponse("", "")));
+
+        final var first = employeeService.createEmployee(createEmployeeControllerRequest(), null, Deadline.afterMillis(20)).toFuture();
+        final var duplicate = employeeService.createEmployee(createEmployeeControllerRequest(), null, Deadline.none()).toFuture();
+
+        assertThat(first.join().getErrorMessage()).isEqualTo(DeadlineExceededException.MESSAGE);
+        assertThat(duplicate.join().getStatus()).isEqualTo("");
+        verify(soapEmployeeClient, times(2)).createEmployee(any(), any());
+    }
+
+    @Test
+    void shouldReplayTheResponse_WhenTheIdempotencyKeyIsRepeated() {
+        when(soapEmployeeClient.createEmployee(any(), any())).thenReturn(Mono.just(getCreateEmployeeResponse("", "")));
+
+        final var first = employeeService.createEmployee(createEmployeeControllerRequest(), "key-1", Deadline.none()).block();
+        final var second = employeeService.createEmployee(createEmployeeControllerRequest(), "key-1", Deadline.none()).block();
+
+        assertThat(second).isSameAs(first);
+        verify(soapEmployeeClient, times(1)).createEmployee(any(), any());
+    }
+
+    /**
+     * Create the tested service.
+     *
+     * @param degradedModeProperties the degraded mode properties.
+     * @return the service.
+     */
+    private ReactiveEmployeeService createEmployeeService(final EmployeeDegradedModeProperties degradedModeProperties) {
+        final var idempotencyCache = new EmployeeIdempotencyCache(new EmployeeIdempotencyProperties());
+        final var degradedMode = new EmployeeDegradedMode(degradedModeProperties, mock(SOAPEmployeeAsyncClient.class),
+                new EmployeeEnrichment(new EmployeeEnrichmentProperties()), idempotencyCache);
+        return new ReactiveEmployeeServiceImpl(soapEmployeeClient, idempotencyCache,
+                degradedMode, new EmployeeConcurrencyLimiter(new EmployeeConcurrencyLimitProperties(), true), new EmployeeValidationRules(new EmployeeValidationProperties(), new MockEnvironment()));
+    }
+}
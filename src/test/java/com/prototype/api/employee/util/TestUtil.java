@@ -1,17 +1,24 @@
 package com.prototype.api.employee.util;
 
 import com.prototype.api.employee.common.model.controller.request.EmployeeControllerRequest;
+import com.prototype.api.employee.common.model.controller.request.EmployeeDocumentType;
 import com.prototype.api.employee.common.model.controller.response.EmployeeControllerResponse;
 import com.prototype.api.employee.common.model.controller.response.EmployeeData;
 import com.prototype.api.employee.common.model.soap.CreateEmployeeRequest;
 import com.prototype.api.employee.common.model.soap.CreateEmployeeResponse;
 import com.prototype.api.employee.common.model.soap.EmployeeRequest;
 import com.prototype.api.employee.common.model.soap.EmployeeResponse;
+import com.prototype.api.employee.common.model.soap.ObjectFactory;
+import com.prototype.api.employee.infrastructure.out.soapclient.JAXBMarshallerPool;
+import feign.Request;
+import feign.Response;
 
-import java.math.BigDecimal;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
 import java.time.LocalDate;
+import java.util.Map;
 
-import static com.prototype.api.employee.common.util.EmployeeUtil.extractDateFromLocalDate;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Util for tests
@@ -20,6 +27,20 @@ import static com.prototype.api.employee.common.util.EmployeeUtil.extractDateFro
  */
 public class TestUtil {
 
+    /**
+     * Successful SOAP response
+     */
+    public static final String SUCCESSFUL_SOAP_RESPONSE = "<SOAP-ENV:Envelope xmlns:SOAP-ENV=\"http://schemas.xmlsoap.org/soap/envelope/\">"
+            + "<SOAP-ENV:Header/><SOAP-ENV:Body>"
+            + "<ns2:createEmployeeResponse xmlns:ns2=\"http://localhost:10002/employees\">"
+            + "<ns2:status>Success</ns2:status><ns2:errorResponseMessage></ns2:errorResponseMessage>"
+            + "<ns2:response><ns2:firstName>Alex</ns2:firstName><ns2:lastName>Sanchez</ns2:lastName>"
+            + "<ns2:documentType>CC</ns2:documentType><ns2:documentNumber>123456789</ns2:documentNumber>"
+            + "<ns2:birthDate>1997-12-27</ns2:birthDate><ns2:jobStartDate>2021-03-01</ns2:jobStartDate>"
+            + "<ns2:cargo>Software Engineer</ns2:cargo><ns2:salary>100.00</ns2:salary>"
+            + "<ns2:age>24</ns2:age><ns2:dateSinceJobStart>1</ns2:dateSinceJobStart></ns2:response>"
+            + "</ns2:createEmployeeResponse></SOAP-ENV:Body></SOAP-ENV:Envelope>";
+
 
     /**
      * Create a mock {@linkplain EmployeeControllerRequest} object.
@@ -30,11 +51,11 @@ public class TestUtil {
         return EmployeeControllerRequest.builder()
                 .birthDate(LocalDate.of(1997, 12, 27))
                 .jobStartDate(LocalDate.of(2021, 03, 01))
-                .salary(100.00)
+                .salary(10000)
                 .firstName("Alex")
                 .lastName("Sanchez")
                 .documentNumber("123456789")
-                .documentType("CC")
+                .documentType(EmployeeDocumentType.CC)
                 .cargo("Software Engineer")
                 .build();
     }
@@ -48,11 +69,11 @@ public class TestUtil {
         return EmployeeControllerRequest.builder()
                 .birthDate(LocalDate.of(1997, 12, 27))
                 .jobStartDate(LocalDate.of(2021, 03, 01))
-                .salary(100.00)
+                .salary(10000)
                 .firstName("Alex")
                 .lastName("Sanchez")
                 .documentNumber("")
-                .documentType("CC")
+                .documentType(EmployeeDocumentType.CC)
                 .cargo("Software Engineer");
     }
 
@@ -98,7 +119,7 @@ public class TestUtil {
         return EmployeeData.builder()
                 .birthDate((LocalDate.of(1997, 12, 27)))
                 .jobStartDate((LocalDate.of(2021, 3, 1)))
-                .salary(100.0)
+                .salary(10000)
                 .firstName("Alex")
                 .lastName("Sanchez")
                 .documentNumber("123456789")
@@ -146,9 +167,9 @@ public class TestUtil {
      */
     private static EmployeeResponse createEmployeeResponse() {
         return EmployeeResponse.builder()
-                .birthDate(extractDateFromLocalDate(LocalDate.of(1997, 12, 27)))
-                .jobStartDate(extractDateFromLocalDate(LocalDate.of(2021, 03, 01)))
-                .salary(new BigDecimal("100.00"))
+                .birthDate(LocalDate.of(1997, 12, 27))
+                .jobStartDate(LocalDate.of(2021, 03, 01))
+                .salary(10000L)
                 .firstName("Alex")
                 .lastName("Sanchez")
                 .documentNumber("123456789")
@@ -167,9 +188,9 @@ public class TestUtil {
     public static CreateEmployeeRequest getCreateEmployeeRequest() {
 
         final var request = EmployeeRequest.builder()
-                .birthDate(extractDateFromLocalDate(LocalDate.of(1997,12,27)))
-                .jobStartDate(extractDateFromLocalDate(LocalDate.of(2021,03,01)))
-                .salary(new BigDecimal("100.00"))
+                .birthDate(LocalDate.of(1997,12,27))
+                .jobStartDate(LocalDate.of(2021,03,01))
+                .salary(10000L)
                 .firstName("Alex")
                 .lastName("Sanchez")
                 .documentNumber("123456789")
@@ -181,4 +202,37 @@ public class TestUtil {
                 .request(request)
                 .build();
     }
+
+    /**
+     * Create a {@linkplain JAXBMarshallerPool} configured as the application one.
+     *
+     * @return a {@linkplain JAXBMarshallerPool} object.
+     */
+    public static JAXBMarshallerPool createJAXBMarshallerPool() {
+        try {
+            return new JAXBMarshallerPool(ObjectFactory.class.getPackageName(),
+                    Map.of(Marshaller.JAXB_ENCODING, "UTF-8",
+                            Marshaller.JAXB_SCHEMA_LOCATION, "${}",
+                            Marshaller.JAXB_FRAGMENT, Boolean.TRUE),
+                    2);
+        } catch (JAXBException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Create a feign response with the given body.
+     *
+     * @param status the HTTP status.
+     * @param body   the response body.
+     * @return a {@linkplain Response} object.
+     */
+    public static Response createFeignResponse(final int status, final String body) {
+        return Response.builder()
+                .status(status)
+                .request(Request.create(Request.HttpMethod.POST, "/ws", Map.of(), null, UTF_8, null))
+                .headers(Map.of())
+                .body(body, UTF_8)
+                .build();
+    }
 }